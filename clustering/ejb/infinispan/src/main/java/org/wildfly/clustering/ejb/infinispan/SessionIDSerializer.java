@@ -36,6 +36,8 @@ import org.wildfly.clustering.marshalling.spi.Serializer;
 import org.wildfly.clustering.marshalling.spi.SerializerExternalizer;
 
 /**
+ * Serializes the encoded form of a {@link SessionID}.
+ * The size prefix is the single unsigned byte used by previous releases for encoded forms of up to 255 bytes.
  * @author Paul Ferraro
  */
 public enum SessionIDSerializer implements Serializer<SessionID> {
@@ -44,13 +46,13 @@ public enum SessionIDSerializer implements Serializer<SessionID> {
     @Override
     public void write(DataOutput output, SessionID id) throws IOException {
         byte[] encoded = id.getEncodedForm();
-        IndexSerializer.UNSIGNED_BYTE.writeInt(output, encoded.length);
+        IndexSerializer.UNSIGNED_BYTE_EXTENDED.writeInt(output, encoded.length);
         output.write(encoded);
     }
 
     @Override
     public SessionID read(DataInput input) throws IOException {
-        byte[] encoded = new byte[IndexSerializer.UNSIGNED_BYTE.readInt(input)];
+        byte[] encoded = new byte[IndexSerializer.UNSIGNED_BYTE_EXTENDED.readInt(input)];
         input.readFully(encoded);
         return SessionID.createSessionID(encoded);
     }
@@ -50,21 +50,32 @@ import org.wildfly.clustering.marshalling.spi.DefaultExternalizer;
 public class ExternalizerObjectTable implements ObjectTable {
 
     private final List<Externalizer<Object>> externalizers;
-    private final Map<Class<?>, Integer> indexes = new IdentityHashMap<>();
+    private final Map<Class<?>, Writer> writers = new IdentityHashMap<>();
     private final IntSerializer indexSerializer;
 
     public ExternalizerObjectTable(ClassLoader loader) {
-        this(loadExternalizers(loader));
+        this(loader, false);
     }
 
-    private static List<Externalizer<Object>> loadExternalizers(ClassLoader loader) {
+    /**
+     * Creates an object table for the externalizers available from the given class loader.
+     * @param loader a class loader
+     * @param compact whether the default externalizers should write integral values using a variable-length format
+     */
+    public ExternalizerObjectTable(ClassLoader loader, boolean compact) {
+        this(loadExternalizers(loader, compact));
+    }
+
+    private static List<Externalizer<Object>> loadExternalizers(ClassLoader loader, boolean compact) {
         List<Externalizer<Object>> loadedExternalizers = new LinkedList<>();
         for (Externalizer<Object> externalizer : ServiceLoader.load(Externalizer.class, loader)) {
             loadedExternalizers.add(externalizer);
         }
         Set<DefaultExternalizer> defaultExternalizers = EnumSet.allOf(DefaultExternalizer.class);
         List<Externalizer<Object>> result = new ArrayList<>(defaultExternalizers.size() + loadedExternalizers.size());
-        result.addAll(defaultExternalizers);
+        for (DefaultExternalizer externalizer : defaultExternalizers) {
+            result.add(compact ? externalizer.getCompactExternalizer() : externalizer);
+        }
         result.addAll(loadedExternalizers);
         return result;
     }
@@ -83,7 +94,9 @@ public class ExternalizerObjectTable implements ObjectTable {
         this.externalizers = externalizers;
         ListIterator<Externalizer<Object>> iterator = externalizers.listIterator();
         while (iterator.hasNext()) {
-            this.indexes.putIfAbsent(iterator.next().getTargetClass(), iterator.previousIndex());
+            Externalizer<Object> externalizer = iterator.next();
+            // Writers are stateless, so create them once up front instead of per object written
+            this.writers.putIfAbsent(externalizer.getTargetClass(), new ExternalizerWriter(iterator.previousIndex(), indexSerializer, externalizer));
         }
     }
 
@@ -91,13 +104,14 @@ public class ExternalizerObjectTable implements ObjectTable {
     public Writer getObjectWriter(final Object object) throws IOException {
         Class<?> targetClass = object.getClass().isEnum() ? ((Enum<?>) object).getDeclaringClass() : object.getClass();
         Class<?> superClass = targetClass.getSuperclass();
+        Writer writer = this.writers.get(targetClass);
         // If implementation class has no externalizer, search any abstract superclasses
-        while (!this.indexes.containsKey(targetClass) && (superClass != null) && Modifier.isAbstract(superClass.getModifiers())) {
+        while ((writer == null) && (superClass != null) && Modifier.isAbstract(superClass.getModifiers())) {
             targetClass = superClass;
             superClass = targetClass.getSuperclass();
+            writer = this.writers.get(targetClass);
         }
-        Integer index = this.indexes.get(targetClass);
-        return (index != null) ? new ExternalizerWriter(index, this.indexSerializer, this.externalizers.get(index)) : null;
+        return writer;
     }
 
     @Override
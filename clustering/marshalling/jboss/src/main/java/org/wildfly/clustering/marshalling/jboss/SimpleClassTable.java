@@ -41,7 +41,7 @@ import org.wildfly.clustering.marshalling.spi.IntSerializer;
 public class SimpleClassTable implements ClassTable {
 
     private final List<Class<?>> classes;
-    private final Map<Class<?>, Integer> indexes = new IdentityHashMap<>();
+    private final Map<Class<?>, Writer> writers = new IdentityHashMap<>();
     private final IntSerializer indexSerializer;
 
     public SimpleClassTable(Class<?>... classes) {
@@ -57,14 +57,13 @@ public class SimpleClassTable implements ClassTable {
         this.classes = classes;
         ListIterator<Class<?>> iterator = classes.listIterator();
         while (iterator.hasNext()) {
-            this.indexes.putIfAbsent(iterator.next(), iterator.previousIndex());
+            this.writers.putIfAbsent(iterator.next(), new ClassTableWriter(iterator.previousIndex(), indexSerializer));
         }
     }
 
     @Override
     public Writer getClassWriter(Class<?> targetClass) {
-        Integer index = this.indexes.get(targetClass);
-        return (index != null) ? new ClassTableWriter(index, this.indexSerializer) : null;
+        return this.writers.get(targetClass);
     }
 
     @Override
@@ -104,13 +104,13 @@ public enum DefaultExternalizer implements Externalizer<Object> {
     DAY_OF_WEEK(new EnumExternalizer<>(DayOfWeek.class)),
     DURATION(new DurationExternalizer()),
     INSTANT(new InstantExternalizer()),
-    LOCAL_DATE(new LongExternalizer<>(LocalDate.class, LocalDate::ofEpochDay, LocalDate::toEpochDay)),
+    LOCAL_DATE(new LongExternalizer<>(LocalDate.class, LocalDate::ofEpochDay, LocalDate::toEpochDay), new LongExternalizer<>(LocalDate.class, LocalDate::ofEpochDay, LocalDate::toEpochDay, SignedSerializer.VARIABLE)),
     LOCAL_DATE_TIME(new LocalDateTimeExternalizer()),
-    LOCAL_TIME(new LongExternalizer<>(LocalTime.class, LocalTime::ofNanoOfDay, LocalTime::toNanoOfDay)),
+    LOCAL_TIME(new LongExternalizer<>(LocalTime.class, LocalTime::ofNanoOfDay, LocalTime::toNanoOfDay), new LongExternalizer<>(LocalTime.class, LocalTime::ofNanoOfDay, LocalTime::toNanoOfDay, SignedSerializer.VARIABLE)),
     MONTH(new EnumExternalizer<>(Month.class)),
     MONTH_DAY(new MonthDayExternalizer()),
     PERIOD(new PeriodExternalizer()),
-    YEAR(new IntExternalizer<>(Year.class, Year::of, Year::getValue)),
+    YEAR(new IntExternalizer<>(Year.class, Year::of, Year::getValue), new IntExternalizer<>(Year.class, Year::of, Year::getValue, SignedSerializer.VARIABLE)),
     YEAR_MONTH(new YearMonthExternalizer()),
     ZONE_ID(new StringExternalizer<>(ZoneId.class, ZoneId::of, ZoneId::getId)),
     ZONE_OFFSET(new StringExternalizer<>(ZoneOffset.class, ZoneOffset::of, ZoneOffset::getId)),
@@ -118,8 +118,8 @@ public enum DefaultExternalizer implements Externalizer<Object> {
     ARRAY_DEQUE(new CollectionExternalizer<>(ArrayDeque.class, ArrayDeque::new)),
     ARRAY_LIST(new CollectionExternalizer<>(ArrayList.class, ArrayList::new)),
     ATOMIC_BOOLEAN(new BooleanExternalizer<>(AtomicBoolean.class, AtomicBoolean::new, AtomicBoolean::get)),
-    ATOMIC_INTEGER(new IntExternalizer<>(AtomicInteger.class, AtomicInteger::new, AtomicInteger::get)),
-    ATOMIC_LONG(new LongExternalizer<>(AtomicLong.class, AtomicLong::new, AtomicLong::get)),
+    ATOMIC_INTEGER(new IntExternalizer<>(AtomicInteger.class, AtomicInteger::new, AtomicInteger::get), new IntExternalizer<>(AtomicInteger.class, AtomicInteger::new, AtomicInteger::get, SignedSerializer.VARIABLE)),
+    ATOMIC_LONG(new LongExternalizer<>(AtomicLong.class, AtomicLong::new, AtomicLong::get), new LongExternalizer<>(AtomicLong.class, AtomicLong::new, AtomicLong::get, SignedSerializer.VARIABLE)),
     ATOMIC_REFERENCE(new ObjectExternalizer<>(AtomicReference.class, AtomicReference::new, AtomicReference::get)),
     CALENDAR(new CalendarExternalizer()),
     CONCURRENT_HASH_MAP(new HashMapExternalizer<>(ConcurrentHashMap.class, ConcurrentHashMap::new)),
@@ -131,7 +131,7 @@ public enum DefaultExternalizer implements Externalizer<Object> {
     COPY_ON_WRITE_ARRAY_LIST(new CopyOnWriteCollectionExternalizer<>(CopyOnWriteArrayList.class, CopyOnWriteArrayList::new)),
     COPY_ON_WRITE_ARRAY_SET(new CopyOnWriteCollectionExternalizer<>(CopyOnWriteArraySet.class, CopyOnWriteArraySet::new)),
     CURRENCY(new StringExternalizer<>(Currency.class, Currency::getInstance, Currency::getCurrencyCode)),
-    DATE(new DateExternalizer<>(Date.class, Date::new)),
+    DATE(new DateExternalizer<>(Date.class, Date::new), new DateExternalizer<>(Date.class, Date::new, SignedSerializer.VARIABLE)),
     EMPTY_ENUMERATION(new ValueExternalizer<>(Collections.emptyEnumeration())),
     EMPTY_ITERATOR(new ValueExternalizer<>(Collections.emptyIterator())),
     EMPTY_LIST(new ValueExternalizer<>(Collections.emptyList())),
@@ -157,9 +157,9 @@ public enum DefaultExternalizer implements Externalizer<Object> {
     SINGLETON_LIST(new SingletonCollectionExternalizer<>(Collections::singletonList)),
     SINGLETON_MAP(new SingletonMapExternalizer()),
     SINGLETON_SET(new SingletonCollectionExternalizer<>(Collections::singleton)),
-    SQL_DATE(new DateExternalizer<>(java.sql.Date.class, java.sql.Date::new)),
-    SQL_TIME(new DateExternalizer<>(java.sql.Time.class, java.sql.Time::new)),
-    SQL_TIMESTAMP(new DateExternalizer.SqlTimestampExternalizer()),
+    SQL_DATE(new DateExternalizer<>(java.sql.Date.class, java.sql.Date::new), new DateExternalizer<>(java.sql.Date.class, java.sql.Date::new, SignedSerializer.VARIABLE)),
+    SQL_TIME(new DateExternalizer<>(java.sql.Time.class, java.sql.Time::new), new DateExternalizer<>(java.sql.Time.class, java.sql.Time::new, SignedSerializer.VARIABLE)),
+    SQL_TIMESTAMP(new DateExternalizer.SqlTimestampExternalizer(), new DateExternalizer.SqlTimestampExternalizer(SignedSerializer.VARIABLE)),
     TIME_UNIT(new EnumExternalizer<>(TimeUnit.class)),
     TIME_ZONE(new StringExternalizer<>(TimeZone.class, TimeZone::getTimeZone, TimeZone::getID)),
     TREE_MAP(new SortedMapExternalizer<>(TreeMap.class, TreeMap::new)),
@@ -168,10 +168,25 @@ public enum DefaultExternalizer implements Externalizer<Object> {
     ;
 
     private final Externalizer<Object> externalizer;
+    private final Externalizer<Object> compactExternalizer;
 
-    @SuppressWarnings("unchecked")
     DefaultExternalizer(Externalizer<?> externalizer) {
+        this(externalizer, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    DefaultExternalizer(Externalizer<?> externalizer, Externalizer<?> compactExternalizer) {
         this.externalizer = (Externalizer<Object>) externalizer;
+        this.compactExternalizer = (Externalizer<Object>) compactExternalizer;
+    }
+
+    /**
+     * Returns the variant of this externalizer that writes integral values using a variable-length format.
+     * The compact variant uses a different wire format, so it may only be used by marshalling versions that require it.
+     * @return the compact variant of this externalizer, or this externalizer if it has no compact variant
+     */
+    public Externalizer<Object> getCompactExternalizer() {
+        return (this.compactExternalizer != null) ? this.compactExternalizer : this;
     }
 
     @Override
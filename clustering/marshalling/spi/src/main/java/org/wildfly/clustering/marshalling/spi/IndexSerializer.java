@@ -90,6 +90,28 @@ public enum IndexSerializer implements IntSerializer {
             output.writeByte((byte) i);
         }
     },
+    /**
+     * Reads/writes an unsigned integer as a single unsigned byte, identical to {@link #UNSIGNED_BYTE}, for values between 1 and 255.
+     * Other values are written as a zero byte followed by the {@link #VARIABLE} format.
+     * Allows lengths previously written as an unsigned byte to exceed 255 without changing the format of existing values.
+     */
+    UNSIGNED_BYTE_EXTENDED() {
+        @Override
+        public int readInt(DataInput input) throws IOException {
+            int value = input.readUnsignedByte();
+            return (value != 0) ? value : VARIABLE.readInt(input);
+        }
+
+        @Override
+        public void writeInt(DataOutput output, int index) throws IOException {
+            if ((index > 0) && (index <= (Byte.MAX_VALUE - Byte.MIN_VALUE))) {
+                output.writeByte(index);
+            } else {
+                output.writeByte(0);
+                VARIABLE.writeInt(output, index);
+            }
+        }
+    },
     ;
 
     /**
@@ -38,21 +38,27 @@ public class LongExternalizer<T> implements Externalizer<T> {
     private final LongFunction<T> reader;
     private final ToLongFunction<T> writer;
     private final Class<T> targetClass;
+    private final LongSerializer serializer;
 
     public LongExternalizer(Class<T> targetClass, LongFunction<T> reader, ToLongFunction<T> writer) {
+        this(targetClass, reader, writer, SignedSerializer.FIXED);
+    }
+
+    public LongExternalizer(Class<T> targetClass, LongFunction<T> reader, ToLongFunction<T> writer, LongSerializer serializer) {
         this.reader = reader;
         this.writer = writer;
         this.targetClass = targetClass;
+        this.serializer = serializer;
     }
 
     @Override
     public void writeObject(ObjectOutput output, T object) throws IOException {
-        output.writeLong(this.writer.applyAsLong(object));
+        this.serializer.writeLong(output, this.writer.applyAsLong(object));
     }
 
     @Override
     public T readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-        return this.reader.apply(input.readLong());
+        return this.reader.apply(this.serializer.readLong(input));
     }
 
     @Override
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes/reads a long to/from a binary stream.
+ * @author Paul Ferraro
+ */
+public interface LongSerializer {
+    /**
+     * Writes the specified long to the specified output stream
+     * @param output the data output stream
+     * @param value a long value
+     * @throws IOException if an I/O error occurs
+     */
+    default void writeLong(DataOutput output, long value) throws IOException {
+        output.writeLong(value);
+    }
+
+    /**
+     * Read a long from the specified input stream.
+     * @param input a data input stream
+     * @return the long value
+     * @throws IOException if an I/O error occurs
+     */
+    default long readLong(DataInput input) throws IOException {
+        return input.readLong();
+    }
+}
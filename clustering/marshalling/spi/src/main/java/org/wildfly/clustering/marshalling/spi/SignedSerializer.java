@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Various strategies for marshalling a signed integer or long.
+ * Unlike {@link IndexSerializer}, these strategies are suitable for values that may be negative.
+ * @author Paul Ferraro
+ */
+public enum SignedSerializer implements IntSerializer, LongSerializer {
+    /**
+     * Reads/writes a signed value using its fixed-width binary representation.
+     */
+    FIXED(),
+    /**
+     * Reads/writes a signed value using a ZigZag-encoded variable-length format.
+     * Values of small magnitude, whether positive or negative, require fewer bytes.
+     * Format requires between 1 and 5 bytes for an integer and between 1 and 10 bytes for a long.
+     */
+    VARIABLE() {
+        @Override
+        public int readInt(DataInput input) throws IOException {
+            int value = 0;
+            byte b = input.readByte();
+            for (int shift = 0; ; shift += 7) {
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) break;
+                b = input.readByte();
+            }
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        @Override
+        public void writeInt(DataOutput output, int value) throws IOException {
+            int i = (value << 1) ^ (value >> 31);
+            while ((i & ~0x7F) != 0) {
+                output.writeByte((byte) ((i & 0x7F) | 0x80));
+                i >>>= 7;
+            }
+            output.writeByte((byte) i);
+        }
+
+        @Override
+        public long readLong(DataInput input) throws IOException {
+            long value = 0L;
+            byte b = input.readByte();
+            for (int shift = 0; ; shift += 7) {
+                value |= (b & 0x7FL) << shift;
+                if ((b & 0x80) == 0) break;
+                b = input.readByte();
+            }
+            return (value >>> 1) ^ -(value & 1L);
+        }
+
+        @Override
+        public void writeLong(DataOutput output, long value) throws IOException {
+            long l = (value << 1) ^ (value >> 63);
+            while ((l & ~0x7FL) != 0) {
+                output.writeByte((byte) ((l & 0x7F) | 0x80));
+                l >>>= 7;
+            }
+            output.writeByte((byte) l);
+        }
+    },
+    ;
+}
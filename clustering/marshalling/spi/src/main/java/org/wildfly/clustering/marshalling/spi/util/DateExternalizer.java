@@ -30,6 +30,8 @@ import java.util.Date;
 import java.util.function.LongFunction;
 
 import org.wildfly.clustering.marshalling.spi.LongExternalizer;
+import org.wildfly.clustering.marshalling.spi.LongSerializer;
+import org.wildfly.clustering.marshalling.spi.SignedSerializer;
 
 /**
  * Externalizers for {@link Date} implementations.
@@ -38,12 +40,20 @@ import org.wildfly.clustering.marshalling.spi.LongExternalizer;
 public class DateExternalizer<D extends Date> extends LongExternalizer<D> {
 
     public DateExternalizer(Class<D> targetClass, LongFunction<D> factory) {
-        super(targetClass, factory, Date::getTime);
+        this(targetClass, factory, SignedSerializer.FIXED);
+    }
+
+    public DateExternalizer(Class<D> targetClass, LongFunction<D> factory, LongSerializer serializer) {
+        super(targetClass, factory, Date::getTime, serializer);
     }
 
     public static class SqlTimestampExternalizer extends DateExternalizer<Timestamp> {
         public SqlTimestampExternalizer() {
-            super(Timestamp.class, Timestamp::new);
+            this(SignedSerializer.FIXED);
+        }
+
+        public SqlTimestampExternalizer(LongSerializer serializer) {
+            super(Timestamp.class, Timestamp::new, serializer);
         }
 
         @Override
@@ -50,6 +50,23 @@ public class IndexSerializerTestCase {
         test(Integer.MAX_VALUE);
     }
 
+    @Test
+    public void testUnsignedByteExtended() throws IOException {
+        // Values within the range of an unsigned byte must use the same format as UNSIGNED_BYTE
+        for (int i = 1; i <= Byte.MAX_VALUE - Byte.MIN_VALUE; ++i) {
+            ByteArrayOutputStream extended = new ByteArrayOutputStream();
+            ByteArrayOutputStream unsignedByte = new ByteArrayOutputStream();
+            try (DataOutputStream extendedOutput = new DataOutputStream(extended); DataOutputStream unsignedByteOutput = new DataOutputStream(unsignedByte)) {
+                IndexSerializer.UNSIGNED_BYTE_EXTENDED.writeInt(extendedOutput, i);
+                IndexSerializer.UNSIGNED_BYTE.writeInt(unsignedByteOutput, i);
+            }
+            assertArrayEquals(unsignedByte.toByteArray(), extended.toByteArray());
+        }
+        assertEquals(2, size(IndexSerializer.UNSIGNED_BYTE_EXTENDED, 0));
+        assertEquals(3, size(IndexSerializer.UNSIGNED_BYTE_EXTENDED, 256));
+        assertEquals(6, size(IndexSerializer.UNSIGNED_BYTE_EXTENDED, Integer.MAX_VALUE));
+    }
+
     private static void test(int index) throws IOException {
         IntStream.Builder builder = IntStream.builder();
 
@@ -69,6 +86,8 @@ public class IndexSerializerTestCase {
 
         builder.add(size(IndexSerializer.INTEGER, index));
 
+        builder.add(size(IndexSerializer.UNSIGNED_BYTE_EXTENDED, index));
+
         // Ensure that our IndexExternalizer.select(...) chooses the optimal externalizer
         assertEquals(builder.build().min().getAsInt(), size(IndexSerializer.select(index), index));
     }
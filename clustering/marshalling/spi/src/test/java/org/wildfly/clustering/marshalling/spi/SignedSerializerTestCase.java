@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SignedSerializer}.
+ * @author Paul Ferraro
+ */
+public class SignedSerializerTestCase {
+
+    @Test
+    public void testInt() throws IOException {
+        for (int i = 0; i < Integer.SIZE - 1; ++i) {
+            int value = 1 << i;
+            testInt(value - 1);
+            testInt(value);
+            testInt(-value);
+            testInt(1 - value);
+        }
+        testInt(Integer.MAX_VALUE);
+        testInt(Integer.MIN_VALUE);
+
+        // Small magnitude values require a single byte
+        assertEquals(1, sizeOfInt(SignedSerializer.VARIABLE, 63));
+        assertEquals(1, sizeOfInt(SignedSerializer.VARIABLE, -64));
+        assertEquals(5, sizeOfInt(SignedSerializer.VARIABLE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testLong() throws IOException {
+        for (int i = 0; i < Long.SIZE - 1; ++i) {
+            long value = 1L << i;
+            testLong(value - 1);
+            testLong(value);
+            testLong(-value);
+            testLong(1 - value);
+        }
+        testLong(Long.MAX_VALUE);
+        testLong(Long.MIN_VALUE);
+
+        assertEquals(1, sizeOfLong(SignedSerializer.VARIABLE, 63L));
+        assertEquals(1, sizeOfLong(SignedSerializer.VARIABLE, -64L));
+        // e.g. LocalDate.toEpochDay() of a contemporary date
+        assertEquals(3, sizeOfLong(SignedSerializer.VARIABLE, 18000L));
+        assertEquals(10, sizeOfLong(SignedSerializer.VARIABLE, Long.MIN_VALUE));
+    }
+
+    private static void testInt(int value) throws IOException {
+        assertEquals(Integer.BYTES, sizeOfInt(SignedSerializer.FIXED, value));
+        assertTrue(sizeOfInt(SignedSerializer.VARIABLE, value) <= Integer.BYTES + 1);
+    }
+
+    private static void testLong(long value) throws IOException {
+        assertEquals(Long.BYTES, sizeOfLong(SignedSerializer.FIXED, value));
+        assertTrue(sizeOfLong(SignedSerializer.VARIABLE, value) <= Long.BYTES + 2);
+    }
+
+    private static int sizeOfInt(IntSerializer serializer, int value) throws IOException {
+        ByteArrayOutputStream externalizedOutput = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(externalizedOutput)) {
+            serializer.writeInt(output, value);
+        }
+
+        byte[] externalizedBytes = externalizedOutput.toByteArray();
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(externalizedBytes))) {
+            assertEquals(value, serializer.readInt(input));
+        }
+
+        return externalizedBytes.length;
+    }
+
+    private static int sizeOfLong(LongSerializer serializer, long value) throws IOException {
+        ByteArrayOutputStream externalizedOutput = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(externalizedOutput)) {
+            serializer.writeLong(output, value);
+        }
+
+        byte[] externalizedBytes = externalizedOutput.toByteArray();
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(externalizedBytes))) {
+            assertEquals(value, serializer.readLong(input));
+        }
+
+        return externalizedBytes.length;
+    }
+}
@@ -22,6 +22,8 @@
 
 package org.wildfly.clustering.marshalling.spi.time;
 
+import static org.junit.Assert.assertSame;
+
 import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.Duration;
@@ -66,4 +68,16 @@ public class TimeExternalizerTestCase {
         new ExternalizerTester<>(DefaultExternalizer.ZONE_OFFSET.cast(ZoneOffset.class)).test(ZoneOffset.UTC);
         new ExternalizerTester<>(DefaultExternalizer.ZONE_ID.cast(ZoneId.class)).test(ZoneId.of("America/New_York"));
     }
+
+    @Test
+    public void testCompact() throws ClassNotFoundException, IOException {
+        new ExternalizerTester<>(DefaultExternalizer.LOCAL_DATE.getCompactExternalizer()).test(LocalDate.now());
+        new ExternalizerTester<>(DefaultExternalizer.LOCAL_DATE.getCompactExternalizer()).test(LocalDate.MIN);
+        new ExternalizerTester<>(DefaultExternalizer.LOCAL_TIME.getCompactExternalizer()).test(LocalTime.now());
+        new ExternalizerTester<>(DefaultExternalizer.LOCAL_TIME.getCompactExternalizer()).test(LocalTime.MAX);
+        new ExternalizerTester<>(DefaultExternalizer.YEAR.getCompactExternalizer()).test(Year.now());
+        new ExternalizerTester<>(DefaultExternalizer.YEAR.getCompactExternalizer()).test(Year.of(Year.MIN_VALUE));
+        // Externalizers without a compact variant are returned as is
+        assertSame(DefaultExternalizer.INSTANT, DefaultExternalizer.INSTANT.getCompactExternalizer());
+    }
 }
@@ -47,4 +47,16 @@ public class AtomicExternalizerTestCase {
         new ExternalizerTester<>(DefaultExternalizer.ATOMIC_LONG.cast(AtomicLong.class), (expected, actual) -> assertEquals(expected.get(), actual.get())).test(new AtomicLong(Long.MAX_VALUE));
         new ExternalizerTester<>(DefaultExternalizer.ATOMIC_REFERENCE.cast(AtomicReference.class), (expected, actual) -> assertEquals(expected.get(), actual.get())).test(new AtomicReference<Object>(Boolean.TRUE));
     }
+
+    @Test
+    public void testCompact() throws ClassNotFoundException, IOException {
+        ExternalizerTester<Object> integerTester = new ExternalizerTester<>(DefaultExternalizer.ATOMIC_INTEGER.getCompactExternalizer(), (expected, actual) -> assertEquals(((AtomicInteger) expected).get(), ((AtomicInteger) actual).get()));
+        integerTester.test(new AtomicInteger(0));
+        integerTester.test(new AtomicInteger(Integer.MIN_VALUE));
+        integerTester.test(new AtomicInteger(Integer.MAX_VALUE));
+        ExternalizerTester<Object> longTester = new ExternalizerTester<>(DefaultExternalizer.ATOMIC_LONG.getCompactExternalizer(), (expected, actual) -> assertEquals(((AtomicLong) expected).get(), ((AtomicLong) actual).get()));
+        longTester.test(new AtomicLong(0L));
+        longTester.test(new AtomicLong(Long.MIN_VALUE));
+        longTester.test(new AtomicLong(Long.MAX_VALUE));
+    }
 }
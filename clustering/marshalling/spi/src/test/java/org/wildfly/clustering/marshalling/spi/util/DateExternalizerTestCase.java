@@ -59,4 +59,13 @@ public class DateExternalizerTestCase {
         // Validate Buddhist calendar
         calendarTester.test(Calendar.getInstance(TimeZone.getTimeZone("Asia/Bangkok"), Locale.forLanguageTag("th_TH")));
     }
+
+    @Test
+    public void testCompact() throws ClassNotFoundException, IOException {
+        new ExternalizerTester<>(DefaultExternalizer.DATE.getCompactExternalizer()).test(Date.from(Instant.now()));
+        new ExternalizerTester<>(DefaultExternalizer.DATE.getCompactExternalizer()).test(new Date(Long.MIN_VALUE));
+        new ExternalizerTester<>(DefaultExternalizer.SQL_DATE.getCompactExternalizer()).test(java.sql.Date.valueOf(LocalDate.now()));
+        new ExternalizerTester<>(DefaultExternalizer.SQL_TIME.getCompactExternalizer()).test(java.sql.Time.valueOf(LocalTime.now()));
+        new ExternalizerTester<>(DefaultExternalizer.SQL_TIMESTAMP.getCompactExternalizer()).test(java.sql.Timestamp.valueOf(LocalDateTime.now()));
+    }
 }
@@ -35,15 +35,20 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.context.Flag;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
 import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.jboss.as.clustering.context.DefaultExecutorService;
 import org.jboss.as.clustering.context.ExecutorServiceFactory;
@@ -89,11 +94,17 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
     private final CommandDispatcher<Set<T>> dispatcher;
     private final Invoker invoker;
     private final CacheProperties properties;
+    // Locally materialized providers per service, or null if entries are not guaranteed to be stored locally
+    private final ConcurrentMap<T, Set<Node>> providers;
+    private final AtomicLong version = new AtomicLong();
 
     public CacheServiceProviderRegistry(CacheServiceProviderRegistryConfiguration<T> config) {
         this.group = config.getGroup();
         this.cache = config.getCache();
         this.batcher = config.getBatcher();
+        CacheMode mode = this.cache.getCacheConfiguration().clustering().cacheMode();
+        // Only replicated/local caches fire entry events for every entry on every node
+        this.providers = (mode.isReplicated() || !mode.isClustered()) ? new ConcurrentHashMap<>() : null;
         this.dispatcher = config.getCommandDispatcherFactory().createCommandDispatcher(config.getId(), this.listeners.keySet());
         this.cache.addListener(this);
         this.groupRegistration = this.group.register(this);
@@ -183,6 +194,23 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
 
     @Override
     public Set<Node> getProviders(final T service) {
+        if (this.providers == null) {
+            return this.findProviders(service);
+        }
+        Set<Node> providers = this.providers.get(service);
+        if (providers == null) {
+            long version = this.version.get();
+            providers = this.findProviders(service);
+            this.providers.put(service, providers);
+            // Discard our result if it was invalidated while we were reading from the cache
+            if (this.version.get() != version) {
+                this.providers.remove(service, providers);
+            }
+        }
+        return providers;
+    }
+
+    private Set<Node> findProviders(T service) {
         Set<Address> addresses = this.cache.get(service);
         if (addresses == null) return Collections.emptySet();
         Set<Node> members = new TreeSet<>();
@@ -255,6 +283,23 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
         }
     }
 
+    @CacheEntryCreated
+    @CacheEntryModified
+    @CacheEntryRemoved
+    public void invalidate(CacheEntryEvent<T, Set<Address>> event) {
+        if (event.isPre() || (this.providers == null)) return;
+        this.version.incrementAndGet();
+        this.providers.remove(event.getKey());
+    }
+
+    @DataRehashed
+    public void dataRehashed(DataRehashedEvent<T, Set<Address>> event) {
+        // Entries received via state transfer do not trigger entry events
+        if (event.isPre() || (this.providers == null)) return;
+        this.version.incrementAndGet();
+        this.providers.clear();
+    }
+
     @CacheEntryCreated
     @CacheEntryModified
     public void modified(CacheEntryEvent<T, Set<Address>> event) {
@@ -35,10 +35,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.metadata.Metadata;
@@ -62,6 +65,8 @@ import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.Invoker;
 import org.wildfly.clustering.ee.infinispan.retry.RetryingInvoker;
+import org.wildfly.clustering.group.GroupListener;
+import org.wildfly.clustering.group.Membership;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.infinispan.spi.distribution.ConsistentHashLocality;
 import org.wildfly.clustering.infinispan.spi.distribution.Locality;
@@ -79,7 +84,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @param <V> value type
  */
 @org.infinispan.notifications.Listener
-public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Object, Object>, ExceptionRunnable<CacheException>, Function<RegistryListener<K, V>, ExecutorService> {
+public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Object, Object>, ExceptionRunnable<CacheException>, Function<RegistryListener<K, V>, ExecutorService>, GroupListener {
 
     private final ExecutorService topologyChangeExecutor = Executors.newSingleThreadExecutor(new DefaultThreadFactory(this.getClass()));
     private final Map<RegistryListener<K, V>, ExecutorService> listeners = new ConcurrentHashMap<>();
@@ -89,6 +94,11 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
     private final Runnable closeTask;
     private final Map.Entry<K, V> entry;
     private final Invoker invoker;
+    private final boolean materialized;
+    // Locally materialized snapshot of the registry entries, or null if invalidated
+    private final AtomicReference<Map<K, V>> entries = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Registration groupRegistration;
 
     public CacheRegistry(CacheRegistryConfiguration<K, V> config, Map.Entry<K, V> entry, Runnable closeTask) {
         this.cache = config.getCache();
@@ -96,9 +106,13 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
         this.group = config.getGroup();
         this.closeTask = closeTask;
         this.entry = new AbstractMap.SimpleImmutableEntry<>(entry);
+        CacheMode mode = this.cache.getCacheConfiguration().clustering().cacheMode();
+        // Only replicated/local caches fire entry events for every entry on every node
+        this.materialized = mode.isReplicated() || !mode.isClustered();
         this.invoker = new RetryingInvoker(this.cache);
         this.invoker.invoke(this);
         this.cache.addListener(this, new CacheRegistryFilter(), null);
+        this.groupRegistration = this.group.register(this);
     }
 
     @Override
@@ -115,6 +129,7 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
 
     @Override
     public void close() {
+        this.groupRegistration.close();
         this.cache.removeListener(this);
         this.shutdown(this.topologyChangeExecutor);
         try (Batch batch = this.batcher.createBatch()) {
@@ -163,6 +178,28 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
 
     @Override
     public Map<K, V> getEntries() {
+        if (!this.materialized) {
+            return this.findEntries();
+        }
+        Map<K, V> entries = this.entries.get();
+        if (entries == null) {
+            long version = this.version.get();
+            entries = Collections.unmodifiableMap(this.findEntries());
+            this.entries.set(entries);
+            // Discard our snapshot if it was invalidated while we were reading from the cache
+            if (this.version.get() != version) {
+                this.entries.compareAndSet(entries, null);
+            }
+        }
+        return entries;
+    }
+
+    private void invalidate() {
+        this.version.incrementAndGet();
+        this.entries.set(null);
+    }
+
+    private Map<K, V> findEntries() {
         Set<Address> addresses = new TreeSet<>();
         for (Node member : this.group.getMembership().getMembers()) {
             addresses.add(this.group.getAddress(member));
@@ -182,10 +219,19 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
         return this.cache.get(address);
     }
 
+    @Override
+    public void membershipChanged(Membership previousMembership, Membership membership, boolean merged) {
+        // Entries are filtered by group membership
+        this.invalidate();
+    }
+
     @DataRehashed
     public void dataRehashed(DataRehashedEvent<Address, Map.Entry<K, V>> event) {
         if (event.isPre()) return;
 
+        // Entries received via state transfer do not trigger entry events
+        this.invalidate();
+
         ConsistentHash previousHash = event.getConsistentHashAtStart();
         List<Address> previousMembers = previousHash.getMembers();
         ConsistentHash hash = event.getConsistentHashAtEnd();
@@ -245,6 +291,14 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
         }
     }
 
+    @CacheEntryCreated
+    @CacheEntryModified
+    @CacheEntryRemoved
+    public void invalidate(CacheEntryEvent<Address, Map.Entry<K, V>> event) {
+        if (event.isPre()) return;
+        this.invalidate();
+    }
+
     @CacheEntryCreated
     @CacheEntryModified
     public void event(CacheEntryEvent<Address, Map.Entry<K, V>> event) {
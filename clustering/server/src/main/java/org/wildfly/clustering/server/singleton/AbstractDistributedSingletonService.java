@@ -22,6 +22,7 @@
 
 package org.wildfly.clustering.server.singleton;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -30,6 +31,7 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -49,13 +51,14 @@ import org.wildfly.clustering.provider.ServiceProviderRegistration.Listener;
 import org.wildfly.clustering.server.logging.ClusteringServerLogger;
 import org.wildfly.clustering.singleton.SingletonElectionListener;
 import org.wildfly.clustering.singleton.SingletonElectionPolicy;
+import org.wildfly.clustering.singleton.SingletonStatistics;
 import org.wildfly.clustering.singleton.service.SingletonService;
 
 /**
  * Logic common to current and legacy {@link SingletonService} implementations.
  * @author Paul Ferraro
  */
-public abstract class AbstractDistributedSingletonService<C extends SingletonContext> implements SingletonService, SingletonContext, Listener, Supplier<C> {
+public abstract class AbstractDistributedSingletonService<C extends SingletonContext> implements SingletonService, SingletonContext, SingletonStatistics, Listener, Supplier<C> {
 
     private final ServiceName name;
     private final Supplier<ServiceProviderRegistry<ServiceName>> registry;
@@ -66,6 +69,10 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
     private final Function<ServiceTarget, Lifecycle> primaryLifecycleFactory;
 
     private final AtomicBoolean primary = new AtomicBoolean(false);
+    private final AtomicLong elections = new AtomicLong();
+
+    private volatile Duration lastElectionDuration;
+    private volatile Duration lastStartDuration;
 
     private volatile Lifecycle primaryLifecycle;
     private volatile CommandDispatcher<C> dispatcher;
@@ -114,6 +121,7 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
                 ClusteringServerLogger.ROOT_LOGGER.quorumJustReached(this.name.getCanonicalName(), this.quorum);
             }
 
+            long startTime = System.nanoTime();
             Node elected = quorumMet ? this.electionPolicy.elect(candidates) : null;
 
             try {
@@ -154,6 +162,9 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
                 }
             } catch (CommandDispatcherException e) {
                 throw new IllegalStateException(e);
+            } finally {
+                this.elections.incrementAndGet();
+                this.lastElectionDuration = Duration.ofNanos(System.nanoTime() - startTime);
             }
         }
     }
@@ -162,7 +173,9 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
     public synchronized void start() {
         // If we were not already the primary node
         if (this.primary.compareAndSet(false, true)) {
+            long startTime = System.nanoTime();
             this.primaryLifecycle.start();
+            this.lastStartDuration = Duration.ofNanos(System.nanoTime() - startTime);
         }
     }
 
@@ -217,6 +230,21 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
         return this.registration.getProviders();
     }
 
+    @Override
+    public long getElectionCount() {
+        return this.elections.get();
+    }
+
+    @Override
+    public Duration getLastElectionDuration() {
+        return this.lastElectionDuration;
+    }
+
+    @Override
+    public Duration getLastStartDuration() {
+        return this.lastStartDuration;
+    }
+
     int getQuorum() {
         return this.quorum;
     }
@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.provider;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.junit.Test;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.group.LocalNode;
+
+/**
+ * Unit test for {@link CacheServiceProviderRegistry}.
+ */
+public class CacheServiceProviderRegistryTestCase {
+
+    private final CacheServiceProviderRegistryConfiguration<String> config = mock(CacheServiceProviderRegistryConfiguration.class);
+    private final Cache<String, Set<Address>> cache = mock(Cache.class);
+    private final Group<Address> group = mock(Group.class);
+    private final CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
+    private final Address address = mock(Address.class);
+    private final Address otherAddress = mock(Address.class);
+    private final Node node = new LocalNode("node");
+    private final Node otherNode = new LocalNode("other");
+
+    private CacheServiceProviderRegistry<String> createRegistry(CacheMode mode) {
+        when(this.config.getId()).thenReturn("id");
+        when(this.config.getCache()).thenReturn(this.cache);
+        doReturn(mock(Batcher.class)).when(this.config).getBatcher();
+        when(this.config.getGroup()).thenReturn(this.group);
+        when(this.config.getCommandDispatcherFactory()).thenReturn(this.dispatcherFactory);
+        when(this.dispatcherFactory.createCommandDispatcher(same("id"), any())).thenReturn(mock(CommandDispatcher.class));
+        when(this.cache.getCacheConfiguration()).thenReturn(new ConfigurationBuilder().clustering().cacheMode(mode).build());
+        when(this.group.register(any())).thenReturn(mock(Registration.class));
+        when(this.group.createNode(this.address)).thenReturn(this.node);
+        when(this.group.createNode(this.otherAddress)).thenReturn(this.otherNode);
+        when(this.cache.get("service")).thenReturn(Collections.singleton(this.address));
+        return new CacheServiceProviderRegistry<>(this.config);
+    }
+
+    @Test
+    public void getProvidersFromSnapshot() {
+        try (CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.REPL_SYNC)) {
+            Set<Node> providers = registry.getProviders("service");
+            assertEquals(Collections.singleton(this.node), providers);
+            assertSame(providers, registry.getProviders("service"));
+            verify(this.cache, times(1)).get("service");
+
+            // Changes to other services, or pre events, keep the snapshot
+            when(this.cache.get("service")).thenReturn(Collections.singleton(this.otherAddress));
+            CacheEntryEvent<String, Set<Address>> event = mock(CacheEntryEvent.class);
+            when(event.getKey()).thenReturn("other");
+            registry.invalidate(event);
+            when(event.getKey()).thenReturn("service");
+            when(event.isPre()).thenReturn(true);
+            registry.invalidate(event);
+            assertSame(providers, registry.getProviders("service"));
+
+            // The snapshot is re-read once its source changed
+            when(event.isPre()).thenReturn(false);
+            registry.invalidate(event);
+            providers = registry.getProviders("service");
+            assertEquals(Collections.singleton(this.otherNode), providers);
+            assertSame(providers, registry.getProviders("service"));
+            verify(this.cache, times(2)).get("service");
+
+            // Entries received via state transfer do not fire entry events
+            when(this.cache.get("service")).thenReturn(Collections.singleton(this.address));
+            registry.dataRehashed(mock(DataRehashedEvent.class));
+            assertEquals(Collections.singleton(this.node), registry.getProviders("service"));
+            verify(this.cache, times(3)).get("service");
+        }
+    }
+
+    @Test
+    public void getProvidersFromDistributedCache() {
+        try (CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.DIST_SYNC)) {
+            assertEquals(Collections.singleton(this.node), registry.getProviders("service"));
+            assertEquals(Collections.singleton(this.node), registry.getProviders("service"));
+            verify(this.cache, times(2)).get("service");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.registry;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.remoting.transport.Address;
+import org.junit.Test;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.group.LocalNode;
+
+/**
+ * Unit test for {@link CacheRegistry}.
+ */
+public class CacheRegistryTestCase {
+
+    private final CacheRegistryConfiguration<String, String> config = mock(CacheRegistryConfiguration.class);
+    private final Cache<Address, Map.Entry<String, String>> cache = mock(Cache.class);
+    private final AdvancedCache<Address, Map.Entry<String, String>> advancedCache = mock(AdvancedCache.class);
+    private final Batcher<Batch> batcher = mock(Batcher.class);
+    private final Group<Address> group = mock(Group.class);
+    private final Membership membership = mock(Membership.class);
+    private final Address address = mock(Address.class);
+    private final Node node = new LocalNode("node");
+
+    private CacheRegistry<String, String> createRegistry(CacheMode mode) {
+        when(this.config.getCache()).thenReturn(this.cache);
+        doReturn(this.batcher).when(this.config).getBatcher();
+        when(this.config.getGroup()).thenReturn(this.group);
+        when(this.cache.getCacheConfiguration()).thenReturn(new ConfigurationBuilder().clustering().cacheMode(mode).build());
+        when(this.cache.getAdvancedCache()).thenReturn(this.advancedCache);
+        when(this.advancedCache.withFlags(Flag.IGNORE_RETURN_VALUES)).thenReturn(this.advancedCache);
+        when(this.advancedCache.withFlags(Flag.IGNORE_RETURN_VALUES, Flag.FAIL_SILENTLY)).thenReturn(this.advancedCache);
+        when(this.batcher.createBatch()).thenReturn(mock(Batch.class));
+        when(this.group.getLocalMember()).thenReturn(this.node);
+        when(this.group.getAddress(this.node)).thenReturn(this.address);
+        when(this.group.getMembership()).thenReturn(this.membership);
+        when(this.group.register(any())).thenReturn(mock(Registration.class));
+        when(this.membership.getMembers()).thenReturn(Collections.singletonList(this.node));
+        this.setEntry("foo", "bar");
+        return new CacheRegistry<>(this.config, new AbstractMap.SimpleImmutableEntry<>("foo", "bar"), () -> { });
+    }
+
+    private void setEntry(String key, String value) {
+        Map.Entry<String, String> entry = new AbstractMap.SimpleImmutableEntry<>(key, value);
+        when(this.advancedCache.getAll(any())).thenReturn(Collections.singletonMap(this.address, entry));
+    }
+
+    @Test
+    public void getEntriesFromSnapshot() {
+        try (CacheRegistry<String, String> registry = this.createRegistry(CacheMode.REPL_SYNC)) {
+            Map<String, String> entries = registry.getEntries();
+            assertEquals(Collections.singletonMap("foo", "bar"), entries);
+            assertSame(entries, registry.getEntries());
+            verify(this.advancedCache, times(1)).getAll(any());
+
+            CacheEntryEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryEvent.class);
+            when(event.isPre()).thenReturn(true);
+            this.setEntry("foo", "baz");
+            registry.invalidate(event);
+            assertSame(entries, registry.getEntries());
+
+            // The snapshot is re-read once its source changed
+            when(event.isPre()).thenReturn(false);
+            registry.invalidate(event);
+            entries = registry.getEntries();
+            assertEquals(Collections.singletonMap("foo", "baz"), entries);
+            assertSame(entries, registry.getEntries());
+            verify(this.advancedCache, times(2)).getAll(any());
+
+            this.setEntry("foo", "qux");
+            registry.membershipChanged(this.membership, this.membership, false);
+            assertEquals(Collections.singletonMap("foo", "qux"), registry.getEntries());
+            verify(this.advancedCache, times(3)).getAll(any());
+        }
+    }
+
+    @Test
+    public void getEntriesFromDistributedCache() {
+        try (CacheRegistry<String, String> registry = this.createRegistry(CacheMode.DIST_SYNC)) {
+            assertEquals(Collections.singletonMap("foo", "bar"), registry.getEntries());
+            assertEquals(Collections.singletonMap("foo", "bar"), registry.getEntries());
+            verify(this.advancedCache, times(2)).getAll(any());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.singleton;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.provider.ServiceProviderRegistration;
+import org.wildfly.clustering.provider.ServiceProviderRegistry;
+import org.wildfly.clustering.server.group.LocalNode;
+import org.wildfly.clustering.singleton.SingletonElectionPolicy;
+
+/**
+ * Unit test for the election statistics of {@link AbstractDistributedSingletonService}.
+ */
+public class DistributedSingletonServiceTestCase {
+
+    private final ServiceName name = ServiceName.JBOSS.append("singleton");
+    private final DistributedSingletonServiceContext context = mock(DistributedSingletonServiceContext.class);
+    private final ServiceProviderRegistry<ServiceName> registry = mock(ServiceProviderRegistry.class);
+    private final CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
+    private final SingletonElectionPolicy electionPolicy = mock(SingletonElectionPolicy.class);
+    private final Group group = mock(Group.class);
+    private final Membership membership = mock(Membership.class);
+    private final Lifecycle lifecycle = mock(Lifecycle.class);
+    private final Node localMember = new LocalNode("local");
+    private final Node remoteMember = new LocalNode("remote");
+
+    @Before
+    public void init() {
+        when(this.context.getServiceName()).thenReturn(this.name);
+        when(this.context.getServiceProviderRegistry()).thenReturn(() -> this.registry);
+        when(this.context.getCommandDispatcherFactory()).thenReturn(() -> this.dispatcherFactory);
+        when(this.context.getElectionPolicy()).thenReturn(this.electionPolicy);
+        when(this.registry.getGroup()).thenReturn(this.group);
+        when(this.group.getMembership()).thenReturn(this.membership);
+        when(this.group.getLocalMember()).thenReturn(this.localMember);
+        when(this.membership.getMembers()).thenReturn(Arrays.asList(this.localMember, this.remoteMember));
+        when(this.electionPolicy.elect(any())).thenReturn(this.localMember);
+    }
+
+    private AbstractDistributedSingletonService<SingletonContext> createService(int quorum) throws Exception {
+        when(this.context.getQuorum()).thenReturn(quorum);
+        AbstractDistributedSingletonService<SingletonContext> service = new AbstractDistributedSingletonService<SingletonContext>(this.context, target -> this.lifecycle) {
+            @Override
+            public SingletonContext get() {
+                return this;
+            }
+        };
+        when(this.dispatcherFactory.createCommandDispatcher(this.name, service)).thenReturn(new LocalCommandDispatcher<>(this.localMember, service));
+        when(this.registry.register(this.name, service)).thenReturn(mock(ServiceProviderRegistration.class));
+        StartContext startContext = mock(StartContext.class);
+        when(startContext.getChildTarget()).thenReturn(mock(ServiceTarget.class));
+        service.start(startContext);
+        return service;
+    }
+
+    @Test
+    public void electLocalMember() throws Exception {
+        AbstractDistributedSingletonService<SingletonContext> service = this.createService(1);
+
+        assertEquals(0L, service.getElectionCount());
+        assertNull(service.getLastElectionDuration());
+        assertNull(service.getLastStartDuration());
+
+        service.providersChanged(Collections.singleton(this.localMember));
+
+        verify(this.lifecycle).start();
+        assertTrue(service.isPrimary());
+        assertEquals(1L, service.getElectionCount());
+        assertNotNull(service.getLastElectionDuration());
+        assertNotNull(service.getLastStartDuration());
+
+        // Re-electing the current primary provider does not start it again
+        service.providersChanged(Collections.singleton(this.localMember));
+
+        verify(this.lifecycle).start();
+        assertEquals(2L, service.getElectionCount());
+
+        service.stop(mock(StopContext.class));
+    }
+
+    @Test
+    public void quorumNotMet() throws Exception {
+        AbstractDistributedSingletonService<SingletonContext> service = this.createService(2);
+
+        service.providersChanged(Collections.singleton(this.localMember));
+
+        verify(this.electionPolicy, never()).elect(any());
+        verify(this.lifecycle, never()).start();
+        assertFalse(service.isPrimary());
+        assertEquals(1L, service.getElectionCount());
+        assertNotNull(service.getLastElectionDuration());
+        assertNull(service.getLastStartDuration());
+
+        service.stop(mock(StopContext.class));
+    }
+
+    @Test
+    public void electionOnOtherMember() throws Exception {
+        when(this.membership.getMembers()).thenReturn(Arrays.asList(this.remoteMember, this.localMember));
+        AbstractDistributedSingletonService<SingletonContext> service = this.createService(1);
+
+        // Only the first candidate runs the election
+        service.providersChanged(new HashSet<>(Arrays.asList(this.localMember, this.remoteMember)));
+
+        verify(this.electionPolicy, never()).elect(any());
+        assertEquals(0L, service.getElectionCount());
+        assertNull(service.getLastElectionDuration());
+
+        service.stop(mock(StopContext.class));
+    }
+
+    /**
+     * Executes commands against the local context, as would a group containing only the local member.
+     */
+    private static class LocalCommandDispatcher<C> implements CommandDispatcher<C> {
+        private final Node member;
+        private final C context;
+
+        LocalCommandDispatcher(Node member, C context) {
+            this.member = member;
+            this.context = context;
+        }
+
+        @Override
+        public C getContext() {
+            return this.context;
+        }
+
+        @Override
+        public <R> CompletionStage<R> executeOnMember(Command<R, ? super C> command, Node member) {
+            CompletableFuture<R> future = new CompletableFuture<>();
+            try {
+                future.complete(command.execute(this.context));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        @Override
+        public <R> Map<Node, CompletionStage<R>> executeOnGroup(Command<R, ? super C> command, Node... excludedMembers) {
+            Map<Node, CompletionStage<R>> results = new HashMap<>();
+            if (!Arrays.asList(excludedMembers).contains(this.member)) {
+                results.put(this.member, this.executeOnMember(command, this.member));
+            }
+            return results;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.singleton;
+
+import java.time.Duration;
+
+/**
+ * Exposes election and failover statistics of a distributed singleton.
+ * @author Paul Ferraro
+ */
+public interface SingletonStatistics {
+
+    /**
+     * Returns the number of elections performed by this member.
+     * @return the number of elections
+     */
+    long getElectionCount();
+
+    /**
+     * Returns the duration of the most recent election performed by this member, including the time needed to stop the singleton on every other member and start it on the elected primary provider.
+     * @return a duration, or null if this member has not yet performed an election.
+     */
+    Duration getLastElectionDuration();
+
+    /**
+     * Returns the time needed to start the singleton on this member the last time it became the primary provider.
+     * @return a duration, or null if this member has not yet been the primary provider.
+     */
+    Duration getLastStartDuration();
+}
@@ -22,15 +22,19 @@
 
 package org.wildfly.extension.clustering.singleton;
 
+import java.time.Duration;
+
 import org.jboss.as.clustering.controller.Metric;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.singleton.Singleton;
+import org.wildfly.clustering.singleton.SingletonStatistics;
 
 /**
  * Metrics for singleton deployments and services.
@@ -60,18 +64,45 @@ public enum SingletonMetric implements Metric<Singleton> {
             }
             return result;
         }
-    }
+    },
+    ELECTION_COUNT("election-count", ModelType.LONG) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            return (singleton instanceof SingletonStatistics) ? new ModelNode(((SingletonStatistics) singleton).getElectionCount()) : null;
+        }
+    },
+    LAST_ELECTION_DURATION("last-election-duration", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            return (singleton instanceof SingletonStatistics) ? toModelNode(((SingletonStatistics) singleton).getLastElectionDuration()) : null;
+        }
+    },
+    LAST_START_DURATION("last-start-duration", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            return (singleton instanceof SingletonStatistics) ? toModelNode(((SingletonStatistics) singleton).getLastStartDuration()) : null;
+        }
+    },
     ;
+
     private final AttributeDefinition definition;
 
     SingletonMetric(String name, ModelType type) {
-        this.definition = new SimpleAttributeDefinitionBuilder(name, type).setStorageRuntime().build();
+        this(name, type, null);
+    }
+
+    SingletonMetric(String name, ModelType type, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type).setMeasurementUnit(unit).setStorageRuntime().build();
     }
 
     SingletonMetric(String name) {
         this.definition = new StringListAttributeDefinition.Builder(name).setStorageRuntime().build();
     }
 
+    static ModelNode toModelNode(Duration duration) {
+        return (duration != null) ? new ModelNode(duration.toMillis()) : null;
+    }
+
     @Override
     public AttributeDefinition getDefinition() {
         return this.definition;
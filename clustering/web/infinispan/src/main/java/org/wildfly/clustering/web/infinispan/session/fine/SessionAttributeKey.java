@@ -22,7 +22,6 @@
 package org.wildfly.clustering.web.infinispan.session.fine;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 
 import org.wildfly.clustering.infinispan.spi.distribution.Key;
@@ -50,7 +49,7 @@ public class SessionAttributeKey extends Key<String> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getClass(), this.getValue(), this.attributeId);
+        return 31 * super.hashCode() + this.attributeId.hashCode();
     }
 
     @Override
@@ -27,6 +27,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Base64;
 
+import org.wildfly.clustering.marshalling.spi.IndexSerializer;
 import org.wildfly.clustering.marshalling.spi.Serializer;
 
 /**
@@ -52,24 +53,26 @@ public enum IdentifierSerializer implements Serializer<String> {
     },
     /**
      * Specific optimization for Base64-encoded identifiers (e.g. Undertow).
+     * The size prefix of the decoded bytes is the single unsigned byte used by previous releases for identifiers of up to 255 bytes.
      */
     BASE64() {
         @Override
         public void write(DataOutput output, String id) throws IOException {
             byte[] bytes = Base64.getUrlDecoder().decode(id);
-            output.writeByte(bytes.length);
+            IndexSerializer.UNSIGNED_BYTE_EXTENDED.writeInt(output, bytes.length);
             output.write(bytes);
         }
 
         @Override
         public String read(DataInput input) throws IOException {
-            byte[] decoded = new byte[input.readUnsignedByte()];
+            byte[] decoded = new byte[IndexSerializer.UNSIGNED_BYTE_EXTENDED.readInt(input)];
             input.readFully(decoded);
             return Base64.getUrlEncoder().encodeToString(decoded);
         }
     },
     /**
      * Specific optimization for hex-encoded identifiers (e.g. Tomcat).
+     * The size prefix of the decoded bytes is the single unsigned byte used by previous releases for identifiers of up to 255 bytes.
      */
     HEX() {
         @Override
@@ -84,13 +87,13 @@ public enum IdentifierSerializer implements Serializer<String> {
                 int low = Character.digit(id.charAt(index + 1), 16);
                 bytes[i] = (byte) (high + low);
             }
-            output.writeByte(bytes.length);
+            IndexSerializer.UNSIGNED_BYTE_EXTENDED.writeInt(output, bytes.length);
             output.write(bytes);
         }
 
         @Override
         public String read(DataInput input) throws IOException {
-            byte[] decoded = new byte[input.readUnsignedByte()];
+            byte[] decoded = new byte[IndexSerializer.UNSIGNED_BYTE_EXTENDED.readInt(input)];
             input.readFully(decoded);
             StringBuilder builder = new StringBuilder(decoded.length * 2);
             for (byte b : decoded) {
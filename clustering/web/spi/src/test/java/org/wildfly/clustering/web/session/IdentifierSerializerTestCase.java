@@ -24,9 +24,11 @@ package org.wildfly.clustering.web.session;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Base64;
 import java.util.Random;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -56,6 +58,25 @@ public class IdentifierSerializerTestCase {
         test(IdentifierSerializer.BASE64, () -> generator.createSessionId());
     }
 
+    @Test
+    public void testBase64Size() throws IOException {
+        io.undertow.server.session.SessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+        String id = generator.createSessionId();
+        // Size prefix + decoded bytes
+        Assert.assertEquals(1 + Base64.getUrlDecoder().decode(id).length, size(IdentifierSerializer.BASE64, id));
+    }
+
+    @Test
+    public void testLongBase64() throws IOException {
+        Random random = new Random(System.currentTimeMillis());
+        test(IdentifierSerializer.BASE64, () -> {
+            // Exceeds the range of a single byte size prefix
+            byte[] bytes = new byte[300];
+            random.nextBytes(bytes);
+            return Base64.getUrlEncoder().encodeToString(bytes);
+        });
+    }
+
     @Test
     public void testHex() throws IOException {
         test(IdentifierSerializer.HEX, () -> {
@@ -89,6 +110,14 @@ public class IdentifierSerializerTestCase {
         });
     }
 
+    private static int size(Serializer<String> serializer, String id) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.write(output, id);
+        }
+        return bytes.size();
+    }
+
     private static void test(Serializer<String> externalizer, Supplier<String> generator) throws IOException {
         for (int i = 0; i < 100; ++i) {
             String id = generator.get();
@@ -75,8 +75,18 @@ public class DistributableSessionManagerFactoryServiceConfigurator extends Simpl
                 return config;
             }
         },
+        VERSION_3() {
+            @Override
+            public MarshallingConfiguration apply(Module module) {
+                MarshallingConfiguration config = new MarshallingConfiguration();
+                config.setClassResolver(ModularClassResolver.getInstance(module.getModuleLoader()));
+                config.setClassTable(new SimpleClassTable(Serializable.class, Externalizable.class));
+                config.setObjectTable(new ExternalizerObjectTable(module.getClassLoader(), true));
+                return config;
+            }
+        },
         ;
-        static final MarshallingVersion CURRENT = VERSION_2;
+        static final MarshallingVersion CURRENT = VERSION_3;
     }
 
     private final SessionManagerFactoryConfiguration configuration;
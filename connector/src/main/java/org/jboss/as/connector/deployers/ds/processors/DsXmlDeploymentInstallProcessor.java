@@ -338,7 +338,7 @@ public class DsXmlDeploymentInstallProcessor implements DeploymentUnitProcessor
             DataSourceStatisticsService statsService = new DataSourceStatisticsService(registration, false );
             final ServiceBuilder statsServiceSB =
                             serviceTarget.addService(dataSourceServiceName.append(Constants.STATISTICS), statsService);
-            statsServiceSB.requires(dataSourceServiceName);
+            statsServiceSB.addDependency(dataSourceServiceName, javax.sql.DataSource.class, statsService.getDataSourceInjector());
             statsServiceSB.addDependency(CommonDeploymentService.getServiceName(bindInfo), CommonDeployment.class, statsService.getCommonDeploymentInjector());
             statsServiceSB.setInitialMode(ServiceController.Mode.PASSIVE);
             statsServiceSB.install();
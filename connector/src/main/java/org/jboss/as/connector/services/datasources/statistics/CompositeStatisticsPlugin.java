@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Exposes the statistics of several plugins as a single plugin. Each name is served by the first plugin that knows it.
+ */
+public class CompositeStatisticsPlugin implements StatisticsPlugin {
+
+    private final StatisticsPlugin[] plugins;
+    private final Set<String> names;
+
+    public CompositeStatisticsPlugin(final StatisticsPlugin... plugins) {
+        this.plugins = plugins;
+        Set<String> names = new LinkedHashSet<>();
+        for (StatisticsPlugin plugin : plugins) {
+            names.addAll(plugin.getNames());
+        }
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    private StatisticsPlugin getPlugin(String name) {
+        for (StatisticsPlugin plugin : plugins) {
+            if (plugin.getNames().contains(name)) {
+                return plugin;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public Class getType(String name) {
+        StatisticsPlugin plugin = getPlugin(name);
+        return plugin == null ? null : plugin.getType(name);
+    }
+
+    @Override
+    public String getDescription(String name) {
+        StatisticsPlugin plugin = getPlugin(name);
+        return plugin == null ? null : plugin.getDescription(name);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        StatisticsPlugin plugin = getPlugin(name);
+        return plugin == null ? null : plugin.getDescription(name, locale);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        StatisticsPlugin plugin = getPlugin(name);
+        return plugin == null ? null : plugin.getValue(name);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return plugins[0].isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        for (StatisticsPlugin plugin : plugins) {
+            plugin.setEnabled(enabled);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (StatisticsPlugin plugin : plugins) {
+            plugin.clear();
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Latency statistics gathered by the {@link org.jboss.as.connector.subsystems.datasources.WildFlyDataSource}: time
+ * spent waiting in {@code getConnection} and, when connection latency tracking is enabled, time a connection is held by
+ * the application and time spent in statement {@code execute*} calls. All times are reported in nanoseconds.
+ * <p>
+ * A sample of tracked connection acquisitions also records the application call site, and the sites that held
+ * their connection the longest are reported in {@value #LONGEST_HELD_CONNECTION_SITES}.
+ * <p>
+ * Connections the container closes on behalf of the application, e.g. the cached connection manager at the end of a
+ * request, never reach the wrapper's {@code close()}. The thread which acquired them checks them the next time it
+ * acquires a connection of this datasource, and they are counted in {@value #CONTAINER_CLOSED_CONNECTION_COUNT} and
+ * recorded with the hold time observed at that point. Only weak references to open connections are kept, so a handle
+ * leaked by the application is forgotten once it is garbage collected.
+ */
+public class DataSourceLatencyStatistics implements StatisticsPlugin {
+
+    public static final String CONNECTION_WAIT = "ConnectionWait";
+    public static final String CONNECTION_HOLD = "ConnectionHold";
+    public static final String STATEMENT_EXECUTION = "StatementExecution";
+    public static final String LONGEST_HELD_CONNECTION_SITES = "LongestHeldConnectionSites";
+    public static final String CONTAINER_CLOSED_CONNECTION_COUNT = "ContainerClosedConnectionCount";
+
+    /**
+     * The default of one in how many connection acquisitions records its call site.
+     */
+    public static final int DEFAULT_SITE_SAMPLE_RATE = 64;
+
+    private static final int MAX_SITES = 10;
+
+    private static final String[] HISTOGRAM_SUFFIXES = {"Count", "AverageTime", "MaxTime", "P50Time", "P90Time", "P99Time"};
+    private static final Map<String, Class<?>> TYPES;
+    private static final Map<String, String> DESCRIPTIONS;
+
+    static {
+        Map<String, Class<?>> types = new LinkedHashMap<>();
+        Map<String, String> descriptions = new HashMap<>();
+        addHistogram(types, descriptions, CONNECTION_WAIT, "time spent waiting for a connection in getConnection");
+        addHistogram(types, descriptions, CONNECTION_HOLD, "time a connection was held by the application before being closed");
+        addHistogram(types, descriptions, STATEMENT_EXECUTION, "time spent executing statements");
+        types.put(LONGEST_HELD_CONNECTION_SITES, String.class);
+        descriptions.put(LONGEST_HELD_CONNECTION_SITES, "The sampled call sites that held a connection the longest, with their maximum hold time in milliseconds");
+        types.put(CONTAINER_CLOSED_CONNECTION_COUNT, long.class);
+        descriptions.put(CONTAINER_CLOSED_CONNECTION_COUNT, "The number of connections closed by the container, e.g. the cached connection manager, rather than by the application");
+        TYPES = Collections.unmodifiableMap(types);
+        DESCRIPTIONS = Collections.unmodifiableMap(descriptions);
+    }
+
+    private static void addHistogram(Map<String, Class<?>> types, Map<String, String> descriptions, String prefix, String what) {
+        for (String suffix : HISTOGRAM_SUFFIXES) {
+            types.put(prefix + suffix, long.class);
+        }
+        descriptions.put(prefix + "Count", "The number of samples of the " + what);
+        descriptions.put(prefix + "AverageTime", "The average " + what + " in nanoseconds");
+        descriptions.put(prefix + "MaxTime", "The maximum " + what + " in nanoseconds");
+        descriptions.put(prefix + "P50Time", "The median " + what + " in nanoseconds");
+        descriptions.put(prefix + "P90Time", "The 90th percentile of the " + what + " in nanoseconds");
+        descriptions.put(prefix + "P99Time", "The 99th percentile of the " + what + " in nanoseconds");
+    }
+
+    private final int siteSampleRate;
+    private volatile boolean enabled;
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private final LatencyHistogram connectionHold = new LatencyHistogram();
+    private final LatencyHistogram statementExecution = new LatencyHistogram();
+    private final Map<String, Long> longestHeldSites = new HashMap<>();
+    private final ThreadLocal<List<WeakReference<OpenConnection>>> openConnections = ThreadLocal.withInitial(ArrayList::new);
+    private final LongAdder containerClosedConnections = new LongAdder();
+
+    /**
+     * Create the statistics
+     * @param siteSampleRate One in how many connection acquisitions records its call site, {@code 0} disables call
+     *                       site sampling
+     */
+    public DataSourceLatencyStatistics(int siteSampleRate) {
+        this.siteSampleRate = Math.max(0, siteSampleRate);
+    }
+
+    /**
+     * Records the time spent waiting for a connection which is handed out to the application untracked.
+     * @param waitNanos The time spent waiting for the connection
+     */
+    public void connectionAcquired(long waitNanos) {
+        connectionWait.record(waitNanos);
+    }
+
+    /**
+     * Records a connection handed out to the application, until {@link #connectionClosed(OpenConnection)} or the
+     * container closes it.
+     * @param connection The connection of the pool
+     * @param waitNanos The time spent waiting for the connection
+     * @param site The sampled call site, or {@code null}
+     * @return The open connection, which must be kept by the connection handed out to the application
+     */
+    public OpenConnection connectionAcquired(Connection connection, long waitNanos, String site) {
+        connectionWait.record(waitNanos);
+        final List<WeakReference<OpenConnection>> open = openConnections.get();
+        detectContainerClosedConnections(open);
+        final OpenConnection connectionAcquired = new OpenConnection(connection, System.nanoTime(), site);
+        open.add(new WeakReference<>(connectionAcquired));
+        return connectionAcquired;
+    }
+
+    /**
+     * Records the application closing a connection, each connection is recorded once.
+     * @param connection The open connection returned by {@link #connectionAcquired(Connection, long, String)}
+     */
+    public void connectionClosed(OpenConnection connection) {
+        if (connection.close()) {
+            recordConnectionHold(System.nanoTime() - connection.acquired, connection.site);
+        }
+    }
+
+    /**
+     * Records the connections acquired by the current thread which were closed without the application closing them,
+     * and forgets the ones which were closed or garbage collected.
+     */
+    private void detectContainerClosedConnections(List<WeakReference<OpenConnection>> open) {
+        final Iterator<WeakReference<OpenConnection>> iterator = open.iterator();
+        while (iterator.hasNext()) {
+            final OpenConnection connection = iterator.next().get();
+            if (connection == null || connection.isRecorded()) {
+                iterator.remove();
+            } else if (isClosed(connection.connection)) {
+                iterator.remove();
+                if (connection.close()) {
+                    containerClosedConnections.increment();
+                    recordConnectionHold(System.nanoTime() - connection.acquired, connection.site);
+                }
+            }
+        }
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private void recordConnectionHold(long nanos, String site) {
+        connectionHold.record(nanos);
+        if (site != null) {
+            recordSite(site, nanos);
+        }
+    }
+
+    public void recordStatementExecution(long nanos) {
+        statementExecution.record(nanos);
+    }
+
+    /**
+     * Returns the call site of the current connection acquisition if it is chosen for sampling, {@code null} otherwise.
+     */
+    public String sampleCallSite() {
+        if (siteSampleRate == 0 || ThreadLocalRandom.current().nextInt(siteSampleRate) != 0) {
+            return null;
+        }
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (!isInternal(element.getClassName())) {
+                return element.toString();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInternal(String className) {
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("sun.")
+                || className.startsWith("org.jboss.jca.")
+                || className.startsWith("org.jboss.as.connector.");
+    }
+
+    private void recordSite(String site, long nanos) {
+        synchronized (longestHeldSites) {
+            Long previous = longestHeldSites.get(site);
+            if (previous != null) {
+                if (nanos > previous) {
+                    longestHeldSites.put(site, nanos);
+                }
+                return;
+            }
+            if (longestHeldSites.size() < MAX_SITES) {
+                longestHeldSites.put(site, nanos);
+                return;
+            }
+            Map.Entry<String, Long> shortest = null;
+            for (Map.Entry<String, Long> entry : longestHeldSites.entrySet()) {
+                if (shortest == null || entry.getValue() < shortest.getValue()) {
+                    shortest = entry;
+                }
+            }
+            if (shortest.getValue() < nanos) {
+                longestHeldSites.remove(shortest.getKey());
+                longestHeldSites.put(site, nanos);
+            }
+        }
+    }
+
+    private String getLongestHeldSites() {
+        List<Map.Entry<String, Long>> entries;
+        synchronized (longestHeldSites) {
+            entries = new ArrayList<>(longestHeldSites.entrySet());
+        }
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> entry : entries) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue() / 1000000L);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return TYPES.keySet();
+    }
+
+    @Override
+    public Class getType(String name) {
+        return TYPES.get(name);
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return DESCRIPTIONS.get(name);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        return DESCRIPTIONS.get(name);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        if (CONTAINER_CLOSED_CONNECTION_COUNT.equals(name)) {
+            return containerClosedConnections.sum();
+        }
+        if (LONGEST_HELD_CONNECTION_SITES.equals(name)) {
+            return getLongestHeldSites();
+        }
+        final LatencyHistogram histogram;
+        final String suffix;
+        if (name.startsWith(CONNECTION_WAIT)) {
+            histogram = connectionWait;
+            suffix = name.substring(CONNECTION_WAIT.length());
+        } else if (name.startsWith(CONNECTION_HOLD)) {
+            histogram = connectionHold;
+            suffix = name.substring(CONNECTION_HOLD.length());
+        } else if (name.startsWith(STATEMENT_EXECUTION)) {
+            histogram = statementExecution;
+            suffix = name.substring(STATEMENT_EXECUTION.length());
+        } else {
+            return null;
+        }
+        switch (suffix) {
+            case "Count":
+                return histogram.getCount();
+            case "AverageTime":
+                return histogram.getAverage();
+            case "MaxTime":
+                return histogram.getMax();
+            case "P50Time":
+                return histogram.getPercentile(50);
+            case "P90Time":
+                return histogram.getPercentile(90);
+            case "P99Time":
+                return histogram.getPercentile(99);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void clear() {
+        connectionWait.reset();
+        connectionHold.reset();
+        statementExecution.reset();
+        containerClosedConnections.reset();
+        synchronized (longestHeldSites) {
+            longestHeldSites.clear();
+        }
+    }
+
+    /**
+     * A connection handed out to the application, recorded once when either the application or the container closes it.
+     */
+    public static final class OpenConnection {
+
+        private final Connection connection;
+        private final long acquired;
+        private final String site;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        OpenConnection(Connection connection, long acquired, String site) {
+            this.connection = connection;
+            this.acquired = acquired;
+            this.site = site;
+        }
+
+        boolean isRecorded() {
+            return recorded.get();
+        }
+
+        boolean close() {
+            return recorded.compareAndSet(false, true);
+        }
+    }
+}
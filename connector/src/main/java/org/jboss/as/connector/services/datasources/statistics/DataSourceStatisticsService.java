@@ -24,7 +24,10 @@ package org.jboss.as.connector.services.datasources.statistics;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import javax.sql.DataSource;
+
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
+import org.jboss.as.connector.subsystems.datasources.WildFlyDataSource;
 import org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -50,6 +53,7 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
     private final boolean statsEnabled;
 
     protected final InjectedValue<CommonDeployment> injectedDeploymentMD = new InjectedValue<>();
+    protected final InjectedValue<DataSource> injectedDataSource = new InjectedValue<>();
 
 
     /**
@@ -73,6 +77,10 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
             StatisticsPlugin jdbcStats = deploymentMD.getDataSources()[0].getStatistics();
             StatisticsPlugin poolStats = deploymentMD.getDataSources()[0].getPool().getStatistics();
+            DataSource dataSource = injectedDataSource.getOptionalValue();
+            if (dataSource instanceof WildFlyDataSource && ((WildFlyDataSource) dataSource).getLatencyStatistics() != null) {
+                jdbcStats = new CompositeStatisticsPlugin(jdbcStats, ((WildFlyDataSource) dataSource).getLatencyStatistics());
+            }
             jdbcStats.setEnabled(statsEnabled);
             poolStats.setEnabled(statsEnabled);
 
@@ -121,6 +129,10 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
         return injectedDeploymentMD;
     }
 
+    public Injector<DataSource> getDataSourceInjector() {
+        return injectedDataSource;
+    }
+
 
     public static void registerStatisticsResources(Resource datasourceResource) {
         synchronized (JDBC_STATISTICS) {
@@ -57,6 +57,14 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
 
+    private volatile boolean workStealing;
+
+    private volatile int workStealingQueueLength;
+
+    private WorkStealingExecutor workStealingExecutor;
+
+    private long statisticsFlushInterval;
+
     private final InjectedValue<JBossContextXATerminator> xaTerminator = new InjectedValue<JBossContextXATerminator>();
 
     private final InjectedValue<CommandDispatcherFactory> dispatcherFactory = new InjectedValue<>();
@@ -77,21 +85,41 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
         return ConnectorServices.notNull(value);
     }
 
+    /**
+     * Run the short-running work on a {@link WorkStealingExecutor} instead of the short-running thread pool.
+     * Its number of workers is the max-threads of the short-running thread pool when the service starts.
+     *
+     * @param queueLength the queue-length of the short-running thread pool
+     */
+    public void enableWorkStealing(int queueLength) {
+        this.workStealingQueueLength = queueLength;
+        this.workStealing = true;
+    }
+
+    /**
+     * Aggregate the statistics deltas sent to the other members and flush them at the given interval
+     *
+     * @param statisticsFlushInterval the flush interval in milliseconds, or 0 to send every delta immediately
+     */
+    public void setStatisticsFlushInterval(long statisticsFlushInterval) {
+        this.statisticsFlushInterval = statisticsFlushInterval;
+    }
+
     @Override
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting JCA DistributedWorkManager: ", value.getName());
 
-        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName());
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName(), this.statisticsFlushInterval);
 
         this.value.setTransport(transport);
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
         if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl(getShortRunningExecutor()));
         } else {
             this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl(getShortRunningExecutor()));
 
         }
 
@@ -118,6 +146,15 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
         ROOT_LOGGER.debugf("Started JCA DistributedWorkManager: ", value.getName());
     }
 
+    private BlockingExecutor getShortRunningExecutor() {
+        if (workStealing) {
+            ROOT_LOGGER.debugf("Using a work stealing executor for the short running work of %s", value.getName());
+            workStealingExecutor = WorkStealingExecutor.replacing(value.getName(), executorShort.getValue(), workStealingQueueLength);
+            return workStealingExecutor;
+        }
+        return (BlockingExecutor) executorShort.getValue();
+    }
+
     @Override
     public void stop(StopContext context) {
         ROOT_LOGGER.debugf("Stopping JCA DistributedWorkManager: ", value.getName());
@@ -133,6 +170,11 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
         value.shutdown();
 
+        if (workStealingExecutor != null) {
+            workStealingExecutor.shutdown();
+            workStealingExecutor = null;
+        }
+
         WorkManagerCoordinator.getInstance().unregisterWorkManager(value);
 
         ROOT_LOGGER.debugf("Stopped JCA DistributedWorkManager: ", value.getName());
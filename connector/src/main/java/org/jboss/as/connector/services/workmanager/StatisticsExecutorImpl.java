@@ -84,7 +84,9 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
 
     @Override
     public long getNumberOfFreeThreads() {
-        if (realExecutor instanceof JBossThreadPoolExecutor) {
+        if (realExecutor instanceof WorkStealingExecutor) {
+            return ((WorkStealingExecutor) realExecutor).getNumberOfFreeThreads();
+        } else if (realExecutor instanceof JBossThreadPoolExecutor) {
             return ((JBossThreadPoolExecutor) realExecutor).getMaximumPoolSize() -
                     ((JBossThreadPoolExecutor) realExecutor).getActiveCount();
         } else if (realExecutor instanceof ThreadPoolExecutorMBean) {
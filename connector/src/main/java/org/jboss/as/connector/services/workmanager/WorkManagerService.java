@@ -55,6 +55,12 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
 
+    private volatile boolean workStealing;
+
+    private volatile int workStealingQueueLength;
+
+    private WorkStealingExecutor workStealingExecutor;
+
     private final InjectedValue<JBossContextXATerminator> xaTerminator = new InjectedValue<JBossContextXATerminator>();
 
     /**
@@ -73,6 +79,17 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         return ConnectorServices.notNull(value);
     }
 
+    /**
+     * Run the short-running work on a {@link WorkStealingExecutor} instead of the short-running thread pool.
+     * Its number of workers is the max-threads of the short-running thread pool when the service starts.
+     *
+     * @param queueLength the queue-length of the short-running thread pool
+     */
+    public void enableWorkStealing(int queueLength) {
+        this.workStealingQueueLength = queueLength;
+        this.workStealing = true;
+    }
+
     @Override
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting JCA WorkManager: ", value.getName());
@@ -80,10 +97,10 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
         if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl(getShortRunningExecutor()));
         } else {
             this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl(getShortRunningExecutor()));
 
         }
 
@@ -108,6 +125,15 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         ROOT_LOGGER.debugf("Started JCA WorkManager: ", value.getName());
     }
 
+    private BlockingExecutor getShortRunningExecutor() {
+        if (workStealing) {
+            ROOT_LOGGER.debugf("Using a work stealing executor for the short running work of %s", value.getName());
+            workStealingExecutor = WorkStealingExecutor.replacing(value.getName(), executorShort.getValue(), workStealingQueueLength);
+            return workStealingExecutor;
+        }
+        return (BlockingExecutor) executorShort.getValue();
+    }
+
     @Override
     public void stop(StopContext context) {
         ROOT_LOGGER.debugf("Stopping JCA WorkManager: ", value.getName());
@@ -115,6 +141,11 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         //shutting down immediately (synchronous method) the workmanager and release all works
         value.shutdown();
 
+        if (workStealingExecutor != null) {
+            workStealingExecutor.shutdown();
+            workStealingExecutor = null;
+        }
+
         if (value.getName().equals(DEFAULT_NAME)) {
             WorkManagerCoordinator.getInstance().setDefaultWorkManager(null);
         } else {
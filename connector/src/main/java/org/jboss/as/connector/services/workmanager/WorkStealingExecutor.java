@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.threads.ManagedQueueExecutorService;
+import org.jboss.threads.BlockingExecutor;
+import org.jboss.threads.ExecutionInterruptedException;
+import org.jboss.threads.ExecutionTimedOutException;
+
+/**
+ * A {@link BlockingExecutor} backed by a {@link ForkJoinPool} in asynchronous mode, which replaces the short-running
+ * thread pool of a work manager with {@code short-running-work-stealing} enabled. Each worker thread owns a deque and idle workers
+ * steal from busy ones, so resource adapters submitting many small {@code Work} items do not contend on a single queue.
+ * <p>
+ * It is sized like the short-running thread pool it replaces when the work manager starts: {@code max-threads}
+ * workers and at most {@code queue-length} work waiting for a worker. Work which does not fit blocks the submitter,
+ * up to the start timeout given to {@link #executeBlocking(Runnable, long, TimeUnit)}, or is rejected by
+ * {@link #executeNonBlocking(Runnable)}, so the work manager reports {@code WorkRejectedException}s as it does for the
+ * bounded pool. Blocking work occupies its worker as it would a pool thread; the pool does not add compensating
+ * threads for it.
+ */
+public final class WorkStealingExecutor implements BlockingExecutor {
+
+    private final ForkJoinPool pool;
+    private final Semaphore capacity;
+
+    /**
+     * Create a work stealing executor
+     *
+     * @param workManagerName the name of the work manager, used to name the worker threads
+     * @param maxThreads the number of worker threads
+     * @param queueLength the number of work which may wait for a worker
+     */
+    public WorkStealingExecutor(final String workManagerName, final int maxThreads, final int queueLength) {
+        final ClassLoader classLoader = WorkStealingExecutor.class.getClassLoader();
+        this.pool = new ForkJoinPool(maxThreads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(workManagerName + "-work-stealing-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, true);
+        this.capacity = new Semaphore(maxThreads + queueLength);
+    }
+
+    /**
+     * Create a work stealing executor replacing the given short-running thread pool, with as many workers as the
+     * pool currently allows threads
+     *
+     * @param workManagerName the name of the work manager, used to name the worker threads
+     * @param shortRunning the short-running thread pool, which is always a blocking bounded queue thread pool
+     * @param queueLength the queue-length of the short-running thread pool
+     */
+    static WorkStealingExecutor replacing(final String workManagerName, final Executor shortRunning, final int queueLength) {
+        return new WorkStealingExecutor(workManagerName, ((ManagedQueueExecutorService) shortRunning).getMaxThreads(), queueLength);
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        try {
+            executeBlocking(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionInterruptedException();
+        }
+    }
+
+    @Override
+    public void executeBlocking(Runnable runnable) throws RejectedExecutionException, InterruptedException {
+        capacity.acquire();
+        submit(runnable);
+    }
+
+    @Override
+    public void executeBlocking(Runnable runnable, long timeout, TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+        if (!capacity.tryAcquire(timeout, unit)) {
+            throw new ExecutionTimedOutException();
+        }
+        submit(runnable);
+    }
+
+    @Override
+    public void executeNonBlocking(Runnable runnable) throws RejectedExecutionException {
+        if (!capacity.tryAcquire()) {
+            throw new RejectedExecutionException();
+        }
+        submit(runnable);
+    }
+
+    private void submit(final Runnable runnable) {
+        try {
+            pool.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of worker threads which are not running work
+     *
+     * @return the number of free threads
+     */
+    public long getNumberOfFreeThreads() {
+        return Math.max(0, pool.getParallelism() - pool.getActiveThreadCount());
+    }
+
+    /**
+     * Stop accepting work and let the submitted work complete
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -23,6 +23,8 @@
 package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.Serializable;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,6 +33,10 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import javax.resource.spi.work.DistributableWork;
 import javax.resource.spi.work.WorkException;
@@ -40,6 +46,7 @@ import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.spi.workmanager.Address;
 import org.jboss.jca.core.workmanager.transport.remote.AbstractRemoteTransport;
 import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
@@ -56,6 +63,9 @@ import org.wildfly.common.function.ExceptionSupplier;
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
  * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * When the {@code statistics-flush-interval} of the distributed work manager is set to a positive number
+ * of milliseconds, statistics deltas are aggregated per member and flushed at that interval as a single command.
+ * Free thread updates are always sent immediately.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> implements GroupListener {
@@ -63,14 +73,18 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final CommandDispatcherFactory dispatcherFactory;
     private final String name;
+    private final long statisticsFlushInterval;
 
     private volatile CommandDispatcher<CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
     private volatile boolean initialized = false;
+    private volatile DeltaStatisticsAggregator aggregator;
+    private volatile ScheduledExecutorService flusher;
 
-    public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name) {
+    public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name, long statisticsFlushInterval) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.statisticsFlushInterval = statisticsFlushInterval;
     }
 
     @Override
@@ -82,11 +96,23 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
     public void startup() throws Exception {
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this);
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
+        if (this.statisticsFlushInterval > 0) {
+            this.aggregator = new DeltaStatisticsAggregator();
+            final ThreadGroup threadGroup = new ThreadGroup(this.name + " statistics flush");
+            final ThreadFactory threadFactory = AccessController.doPrivileged((PrivilegedAction<ThreadFactory>) () -> new JBossThreadFactory(threadGroup, Boolean.FALSE, null, "%G -- %t", null, null));
+            this.flusher = new ScheduledThreadPoolExecutor(1, threadFactory);
+            this.flusher.scheduleWithFixedDelay(this::flush, this.statisticsFlushInterval, this.statisticsFlushInterval, TimeUnit.MILLISECONDS);
+        }
         this.broadcast(new JoinCommand());
     }
 
     @Override
     public void shutdown() {
+        ScheduledExecutorService flusher = this.flusher;
+        if (flusher != null) {
+            flusher.shutdownNow();
+            this.flush();
+        }
         this.executor.close(() -> {
             try {
                 this.broadcast(new LeaveCommand(this.getOwnAddress()));
@@ -114,8 +140,46 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         return this.dispatcherFactory.getGroup().getLocalMember();
     }
 
+    /**
+     * The number of statistics deltas which were aggregated rather than sent individually
+     */
+    public long getStatisticsUpdatesAggregated() {
+        DeltaStatisticsAggregator aggregator = this.aggregator;
+        return (aggregator != null) ? aggregator.getAggregatedCount() : 0;
+    }
+
+    /**
+     * The number of messages saved by aggregating statistics deltas
+     */
+    public long getStatisticsMessagesSaved() {
+        DeltaStatisticsAggregator aggregator = this.aggregator;
+        return (aggregator != null) ? aggregator.getSavedCount() : 0;
+    }
+
+    private void flush() {
+        Map<Node, DeltaStatisticsCommand> commands = this.aggregator.drain();
+        if (commands.isEmpty()) {
+            return;
+        }
+        CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
+        Runnable task = () -> {
+            for (Map.Entry<Node, DeltaStatisticsCommand> entry : commands.entrySet()) {
+                try {
+                    dispatcher.executeOnMember(entry.getValue(), entry.getKey());
+                } catch (CommandDispatcherException e) {
+                    ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
+                }
+            }
+        };
+        this.executor.execute(task);
+    }
+
     @Override
     protected Serializable sendMessage(Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
+        DeltaStatisticsAggregator aggregator = this.aggregator;
+        if (aggregator != null && aggregator.aggregate(physicalAddress, request, parameters)) {
+            return null;
+        }
         Command<?, CommandDispatcherTransport> command = createCommand(request, parameters);
         CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
         ExceptionSupplier<Optional<Serializable>, WorkException> task = new ExceptionSupplier<Optional<Serializable>, WorkException>() {
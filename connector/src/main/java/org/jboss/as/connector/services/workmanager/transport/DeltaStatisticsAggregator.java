@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Collects the statistics deltas a {@link CommandDispatcherTransport} would send to each member, so that they can be
+ * flushed periodically as one {@link DeltaStatisticsCommand} per member instead of one command per delta.
+ * Free thread updates are not aggregated, since selectors rely on them to pick the member which receives work.
+ */
+class DeltaStatisticsAggregator {
+
+    private final Map<Node, Updates> pending = new HashMap<>();
+    private final LongAdder aggregated = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+
+    /**
+     * Records the given request if it is a statistics delta.
+     *
+     * @return {@code true} if the request was aggregated and must not be sent, {@code false} otherwise
+     */
+    synchronized boolean aggregate(Node member, Request request, Serializable... parameters) {
+        final Address address = (parameters.length > 0) ? (Address) parameters[0] : null;
+        switch (request) {
+            case CLEAR_DISTRIBUTED_STATISTICS:
+            case WORKMANAGER_REMOVE: {
+                // pending updates must not be applied after the statistics were cleared or the work manager removed
+                Updates updates = this.pending.get(member);
+                if (updates != null) {
+                    updates.remove(address);
+                }
+                return false;
+            }
+            default: {
+                int index = indexOf(request);
+                if (index < 0) {
+                    return false;
+                }
+                this.updates(member).deltas.computeIfAbsent(address, key -> new long[DeltaStatisticsCommand.DELTAS.length])[index]++;
+            }
+        }
+        this.aggregated.increment();
+        return true;
+    }
+
+    /**
+     * Removes the pending updates.
+     *
+     * @return a command per member applying its pending updates
+     */
+    synchronized Map<Node, DeltaStatisticsCommand> drain() {
+        if (this.pending.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Node, DeltaStatisticsCommand> commands = new HashMap<>();
+        for (Map.Entry<Node, Updates> entry : this.pending.entrySet()) {
+            Updates updates = entry.getValue();
+            if (!updates.isEmpty()) {
+                commands.put(entry.getKey(), new DeltaStatisticsCommand(updates.deltas));
+            }
+        }
+        this.pending.clear();
+        this.sent.add(commands.size());
+        return commands;
+    }
+
+    /**
+     * The number of statistics deltas which were aggregated rather than sent individually
+     */
+    long getAggregatedCount() {
+        return this.aggregated.sum();
+    }
+
+    /**
+     * The number of messages saved by aggregating statistics deltas
+     */
+    long getSavedCount() {
+        return Math.max(0, this.aggregated.sum() - this.sent.sum());
+    }
+
+    private Updates updates(Node member) {
+        return this.pending.computeIfAbsent(member, key -> new Updates());
+    }
+
+    private static int indexOf(Request request) {
+        for (int i = 0; i < DeltaStatisticsCommand.DELTAS.length; ++i) {
+            if (DeltaStatisticsCommand.DELTAS[i] == request) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static class Updates {
+        final Map<Address, long[]> deltas = new HashMap<>();
+
+        void remove(Address address) {
+            this.deltas.remove(address);
+        }
+
+        boolean isEmpty() {
+            return this.deltas.isEmpty();
+        }
+    }
+}
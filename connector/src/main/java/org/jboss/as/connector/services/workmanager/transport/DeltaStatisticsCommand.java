@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Applies the statistics deltas for a member aggregated by a {@link DeltaStatisticsAggregator}, equivalent to sending
+ * each of the aggregated delta commands individually.
+ */
+public class DeltaStatisticsCommand implements Command<Void, CommandDispatcherTransport> {
+    private static final long serialVersionUID = 4139187246713924628L;
+
+    /** The delta requests, in the order of their counts within a delta vector */
+    static final Request[] DELTAS = new Request[] {
+            Request.DELTA_DOWORK_ACCEPTED, Request.DELTA_DOWORK_REJECTED,
+            Request.DELTA_SCHEDULEWORK_ACCEPTED, Request.DELTA_SCHEDULEWORK_REJECTED,
+            Request.DELTA_STARTWORK_ACCEPTED, Request.DELTA_STARTWORK_REJECTED,
+            Request.DELTA_WORK_FAILED, Request.DELTA_WORK_SUCCESSFUL };
+
+    private final Map<Address, long[]> deltas;
+
+    public DeltaStatisticsCommand(Map<Address, long[]> deltas) {
+        this.deltas = deltas;
+    }
+
+    Map<Address, long[]> getDeltas() {
+        return this.deltas;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        for (Map.Entry<Address, long[]> entry : this.deltas.entrySet()) {
+            long[] counts = entry.getValue();
+            for (int i = 0; i < DELTAS.length; ++i) {
+                for (long j = 0; j < counts[i]; ++j) {
+                    apply(transport, entry.getKey(), DELTAS[i]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void apply(CommandDispatcherTransport transport, Address address, Request request) {
+        switch (request) {
+            case DELTA_DOWORK_ACCEPTED: {
+                transport.localDeltaDoWorkAccepted(address);
+                break;
+            }
+            case DELTA_DOWORK_REJECTED: {
+                transport.localDeltaDoWorkRejected(address);
+                break;
+            }
+            case DELTA_SCHEDULEWORK_ACCEPTED: {
+                transport.localDeltaScheduleWorkAccepted(address);
+                break;
+            }
+            case DELTA_SCHEDULEWORK_REJECTED: {
+                transport.localDeltaScheduleWorkRejected(address);
+                break;
+            }
+            case DELTA_STARTWORK_ACCEPTED: {
+                transport.localDeltaStartWorkAccepted(address);
+                break;
+            }
+            case DELTA_STARTWORK_REJECTED: {
+                transport.localDeltaStartWorkRejected(address);
+                break;
+            }
+            case DELTA_WORK_FAILED: {
+                transport.localDeltaWorkFailed(address);
+                break;
+            }
+            case DELTA_WORK_SUCCESSFUL: {
+                transport.localDeltaWorkSuccessful(address);
+                break;
+            }
+            default: {
+                throw new IllegalStateException(request.name());
+            }
+        }
+    }
+}
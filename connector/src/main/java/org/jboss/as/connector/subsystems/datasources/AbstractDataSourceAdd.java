@@ -24,6 +24,7 @@ package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.SUBSYSTEM_DATASOURCES_LOGGER;
 import static org.jboss.as.connector.subsystems.datasources.Constants.AUTHENTICATION_CONTEXT;
+import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_SITE_SAMPLE_RATE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.DATASOURCE_DRIVER;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ELYTRON_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ENABLED;
@@ -34,6 +35,7 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_E
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_SECURITY_DOMAIN;
 import static org.jboss.as.connector.subsystems.datasources.Constants.SECURITY_DOMAIN;
 import static org.jboss.as.connector.subsystems.datasources.Constants.STATISTICS_ENABLED;
+import static org.jboss.as.connector.subsystems.datasources.Constants.TRACK_CONNECTION_LATENCY;
 import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.from;
 import static org.jboss.as.connector.subsystems.datasources.DataSourceModelNodeUtil.xaFrom;
 import static org.jboss.as.connector.subsystems.jca.Constants.DEFAULT_NAME;
@@ -168,6 +170,8 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
         driverDemanderBuilder.setInitialMode(ServiceController.Mode.ACTIVE);
 
         AbstractDataSourceService dataSourceService = createDataSourceService(dsName, jndiName);
+        dataSourceService.setConnectionSiteSampleRate(CONNECTION_SITE_SAMPLE_RATE.resolveModelAttribute(context, model).asInt());
+        dataSourceService.setTrackConnectionLatency(TRACK_CONNECTION_LATENCY.resolveModelAttribute(context, model).asBoolean());
 
         final ManagementResourceRegistration registration = context.getResourceRegistrationForUpdate();
         final ServiceName dataSourceServiceNameAlias = AbstractDataSourceService.getServiceName(bindInfo);
@@ -391,7 +395,7 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
                 DataSourceStatisticsService statsService = new DataSourceStatisticsService(datasourceRegistration, statsEnabled);
                 final ServiceBuilder statsServiceSB = serviceTarget.addService(dataSourceServiceName.append(Constants.STATISTICS), statsService);
                 statsServiceSB.addAliases(dataSourceServiceNameAlias);
-                statsServiceSB.requires(dataSourceServiceName);
+                statsServiceSB.addDependency(dataSourceServiceName, DataSource.class, statsService.getDataSourceInjector());
                 statsServiceSB.addDependency(CommonDeploymentService.getServiceName( ContextNames.bindInfoFor(jndiName)), CommonDeployment.class, statsService.getCommonDeploymentInjector());
                 statsServiceSB.setInitialMode(ServiceController.Mode.PASSIVE);
                 statsServiceSB.install();
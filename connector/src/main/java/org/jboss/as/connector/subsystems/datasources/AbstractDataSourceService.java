@@ -45,6 +45,7 @@ import java.util.concurrent.RejectedExecutionException;
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.metadata.api.common.Credential;
 import org.jboss.as.connector.security.ElytronSubjectFactory;
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
 import org.jboss.as.connector.services.driver.InstalledDriver;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
 import org.jboss.as.connector.util.Injection;
@@ -141,6 +142,8 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     protected CommonDeployment deploymentMD;
     private WildFlyDataSource sqlDataSource;
+    private volatile int connectionSiteSampleRate = DataSourceLatencyStatistics.DEFAULT_SITE_SAMPLE_RATE;
+    private volatile boolean trackConnectionLatency;
 
     /**
      * The class loader to use. If null the Driver class loader will be used instead.
@@ -161,7 +164,7 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             if (deploymentMD.getCfs().length != 1) {
                 throw ConnectorLogger.ROOT_LOGGER.cannotStartDs();
             }
-            sqlDataSource = new WildFlyDataSource((javax.sql.DataSource) deploymentMD.getCfs()[0], jndiName.getAbsoluteJndiName());
+            sqlDataSource = new WildFlyDataSource((javax.sql.DataSource) deploymentMD.getCfs()[0], jndiName.getAbsoluteJndiName(), new DataSourceLatencyStatistics(connectionSiteSampleRate), trackConnectionLatency);
             DS_DEPLOYER_LOGGER.debugf("Adding datasource: %s", deploymentMD.getCfJndiNames()[0]);
             CommonDeploymentService cdService = new CommonDeploymentService(deploymentMD);
             final ServiceName cdServiceName = CommonDeploymentService.getServiceName(jndiName);
@@ -238,6 +241,23 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     }
 
+    /**
+     * Set one in how many connections obtained while statistics are enabled records the application call site
+     * @param connectionSiteSampleRate The sample rate, {@code 0} disables call site sampling
+     */
+    public void setConnectionSiteSampleRate(int connectionSiteSampleRate) {
+        this.connectionSiteSampleRate = connectionSiteSampleRate;
+    }
+
+    /**
+     * Set whether connections obtained while statistics are enabled are wrapped to record their hold and statement
+     * execution times
+     * @param trackConnectionLatency {@code true} to wrap the connections
+     */
+    public void setTrackConnectionLatency(boolean trackConnectionLatency) {
+        this.trackConnectionLatency = trackConnectionLatency;
+    }
+
     public CommonDeployment getDeploymentMD() {
         return deploymentMD;
     }
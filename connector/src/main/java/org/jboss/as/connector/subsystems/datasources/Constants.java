@@ -28,6 +28,7 @@ import org.jboss.as.connector._private.Capabilities;
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.metadata.api.common.Credential;
 import org.jboss.as.connector.metadata.api.common.Security;
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
@@ -42,6 +43,7 @@ import org.jboss.as.controller.access.constraint.SensitivityClassification;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.security.CredentialReference;
@@ -121,6 +123,10 @@ public class Constants {
 
     private static final String ENLISTMENT_TRACE_NAME = "enlistment-trace";
 
+    private static final String CONNECTION_SITE_SAMPLE_RATE_NAME = "connection-site-sample-rate";
+
+    private static final String TRACK_CONNECTION_LATENCY_NAME = "track-connection-latency";
+
     private static final String TRACKING_NAME = "tracking";
 
     static final String POOLNAME_NAME = "pool-name";
@@ -672,6 +678,21 @@ public class Constants {
             .setRestartAllServices()
             .build();
 
+    static SimpleAttributeDefinition CONNECTION_SITE_SAMPLE_RATE = new SimpleAttributeDefinitionBuilder(CONNECTION_SITE_SAMPLE_RATE_NAME, ModelType.INT)
+            .setDefaultValue(new ModelNode(DataSourceLatencyStatistics.DEFAULT_SITE_SAMPLE_RATE))
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    static SimpleAttributeDefinition TRACK_CONNECTION_LATENCY = new SimpleAttributeDefinitionBuilder(TRACK_CONNECTION_LATENCY_NAME, ModelType.BOOLEAN)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
 
     static final SimpleAttributeDefinition[] DATASOURCE_ATTRIBUTE = new SimpleAttributeDefinition[]{CONNECTION_URL,
             DRIVER_CLASS, Constants.DATASOURCE_CLASS, JNDI_NAME,
@@ -705,7 +726,7 @@ public class Constants {
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION,
             org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL,
             VALIDATE_ON_MATCH, SPY,
-            USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING, MCP, ENLISTMENT_TRACE};
+            USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY, TRACKING, MCP, ENLISTMENT_TRACE};
 
     static final PropertiesAttributeDefinition[] DATASOURCE_PROPERTIES_ATTRIBUTES = new PropertiesAttributeDefinition[]{
             REAUTHPLUGIN_PROPERTIES,
@@ -813,7 +834,7 @@ public class Constants {
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION,
             org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL,
             VALIDATE_ON_MATCH, XA_RESOURCE_TIMEOUT,
-            SPY, USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING, MCP, ENLISTMENT_TRACE,
+            SPY, USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY, TRACKING, MCP, ENLISTMENT_TRACE,
             RECOVERY_USERNAME, RECOVERY_PASSWORD,
             RECOVERY_SECURITY_DOMAIN, RECOVERY_ELYTRON_ENABLED, RECOVERY_AUTHENTICATION_CONTEXT, RECOVER_PLUGIN_CLASSNAME,
             RECOVERY_CREDENTIAL_REFERENCE, NO_RECOVERY, URL_PROPERTY};
@@ -17,6 +17,7 @@ package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.subsystems.datasources.Constants.AUTHENTICATION_CONTEXT;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTABLE;
+import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_SITE_SAMPLE_RATE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_URL;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CREDENTIAL_REFERENCE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.DATASOURCE_DISABLE;
@@ -34,6 +35,7 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_A
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_CREDENTIAL_REFERENCE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_ELYTRON_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TRACKING;
+import static org.jboss.as.connector.subsystems.datasources.Constants.TRACK_CONNECTION_LATENCY;
 import static org.jboss.as.connector.subsystems.datasources.DataSourceDefinition.PATH_DATASOURCE;
 import static org.jboss.as.connector.subsystems.datasources.DataSourcesExtension.SUBSYSTEM_NAME;
 import static org.jboss.as.connector.subsystems.datasources.JdbcDriverDefinition.PATH_DRIVER;
@@ -71,6 +73,7 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
     private static final ModelVersion EAP_6_2 = ModelVersion.create(1, 2, 0);
     private static final ModelVersion EAP_6_3 = ModelVersion.create(1, 3, 0);
     private static final ModelVersion EAP_7_0 = ModelVersion.create(4, 0, 0);
+    private static final ModelVersion VERSION_6_0_0 = ModelVersion.create(6, 0, 0);
     @Override
     public String getSubsystemName() {
         return SUBSYSTEM_NAME;
@@ -79,7 +82,8 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
     @Override
     public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
-        get400TransformationDescription(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), EAP_7_0));
+        get600TransformationDescription(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), VERSION_6_0_0));
+        get400TransformationDescription(chainedBuilder.createBuilder(VERSION_6_0_0, EAP_7_0));
         get130TransformationDescription(chainedBuilder.createBuilder(EAP_7_0, EAP_6_3));
         get120TransformationDescription(chainedBuilder.createBuilder(EAP_6_3, EAP_6_2));
 
@@ -87,6 +91,7 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
                 EAP_6_2,
                 EAP_6_3,
                 EAP_7_0,
+                VERSION_6_0_0,
         });
 
     }
@@ -181,6 +186,20 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
         return parentBuilder.build();
     }
 
+    private static TransformationDescription get600TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
+        parentBuilder.addChildResource(PATH_DATASOURCE).getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, CONNECTION_SITE_SAMPLE_RATE.getDefaultValue()), CONNECTION_SITE_SAMPLE_RATE)
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, TRACK_CONNECTION_LATENCY.getDefaultValue()), TRACK_CONNECTION_LATENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY)
+                .end();
+        parentBuilder.addChildResource(PATH_XA_DATASOURCE).getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, CONNECTION_SITE_SAMPLE_RATE.getDefaultValue()), CONNECTION_SITE_SAMPLE_RATE)
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, TRACK_CONNECTION_LATENCY.getDefaultValue()), TRACK_CONNECTION_LATENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY)
+                .end();
+        return parentBuilder.build();
+    }
+
     private static TransformationDescription get400TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
         ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DATASOURCE);
         builder.getAttributeBuilder()
@@ -1198,6 +1198,22 @@ public class DsParser extends AbstractParser {
                         }
                         break;
 
+                    } else if (Constants.CONNECTION_SITE_SAMPLE_RATE.getName().equals(reader.getAttributeLocalName(i))
+                            && Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_6_0) >= 0) {
+                        final String value = rawAttributeText(reader, Constants.CONNECTION_SITE_SAMPLE_RATE.getXmlName());
+                        if (value != null) {
+                            Constants.CONNECTION_SITE_SAMPLE_RATE.parseAndSetParameter(value, operation, reader);
+                        }
+                        break;
+
+                    } else if (Constants.TRACK_CONNECTION_LATENCY.getName().equals(reader.getAttributeLocalName(i))
+                            && Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_6_0) >= 0) {
+                        final String value = rawAttributeText(reader, Constants.TRACK_CONNECTION_LATENCY.getXmlName());
+                        if (value != null) {
+                            Constants.TRACK_CONNECTION_LATENCY.parseAndSetParameter(value, operation, reader);
+                        }
+                        break;
+
                     } else {
                         throw ParseUtils.unexpectedAttribute(reader, i);
                     }
@@ -1909,6 +1925,22 @@ public class DsParser extends AbstractParser {
                         }
                         break;
 
+                    } else if (Constants.CONNECTION_SITE_SAMPLE_RATE.getName().equals(reader.getAttributeLocalName(i))
+                            && Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_6_0) >= 0) {
+                        final String value = rawAttributeText(reader, Constants.CONNECTION_SITE_SAMPLE_RATE.getXmlName());
+                        if (value != null) {
+                            Constants.CONNECTION_SITE_SAMPLE_RATE.parseAndSetParameter(value, operation, reader);
+                        }
+                        break;
+
+                    } else if (Constants.TRACK_CONNECTION_LATENCY.getName().equals(reader.getAttributeLocalName(i))
+                            && Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_6_0) >= 0) {
+                        final String value = rawAttributeText(reader, Constants.TRACK_CONNECTION_LATENCY.getXmlName());
+                        if (value != null) {
+                            Constants.TRACK_CONNECTION_LATENCY.parseAndSetParameter(value, operation, reader);
+                        }
+                        break;
+
                     } else {
                         throw ParseUtils.unexpectedAttribute(reader, i);
                     }
@@ -32,6 +32,8 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.logging.Logger;
 
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
+
 /**
  * WildFly DataSource implementation
  *
@@ -48,6 +50,12 @@ public class WildFlyDataSource implements DataSource, Serializable {
     /** Service name */
     private transient String jndiName;
 
+    /** Latency statistics */
+    private transient DataSourceLatencyStatistics latencyStatistics;
+
+    /** Whether connections are wrapped to record their hold and statement execution times */
+    private transient boolean trackConnectionLatency;
+
 
     /**
      * Constructor
@@ -59,14 +67,61 @@ public class WildFlyDataSource implements DataSource, Serializable {
         this.jndiName = jndiName;
     }
 
+    /**
+     * Constructor
+     * @param delegate The datasource
+     * @param jndiName The service name
+     * @param latencyStatistics The latency statistics, recorded while they are enabled
+     * @param trackConnectionLatency Whether connections are wrapped to record their hold and statement execution times
+     */
+    public WildFlyDataSource(DataSource delegate, String jndiName, DataSourceLatencyStatistics latencyStatistics, boolean trackConnectionLatency) {
+        this(delegate, jndiName);
+        this.latencyStatistics = latencyStatistics;
+        this.trackConnectionLatency = trackConnectionLatency;
+    }
+
+    /**
+     * Get the latency statistics
+     * @return The latency statistics, or <code>null</code>
+     */
+    public DataSourceLatencyStatistics getLatencyStatistics() {
+        return latencyStatistics;
+    }
+
     @Override
     public Connection getConnection() throws SQLException {
-        return delegate.getConnection();
+        final DataSourceLatencyStatistics statistics = latencyStatistics;
+        if (statistics == null || !statistics.isEnabled()) {
+            return delegate.getConnection();
+        }
+        if (!trackConnectionLatency) {
+            final long start = System.nanoTime();
+            final Connection connection = delegate.getConnection();
+            statistics.connectionAcquired(System.nanoTime() - start);
+            return connection;
+        }
+        final String site = statistics.sampleCallSite();
+        final long start = System.nanoTime();
+        final Connection connection = delegate.getConnection();
+        return new LatencyTrackingConnection(statistics, connection, statistics.connectionAcquired(connection, System.nanoTime() - start, site));
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
-        return delegate.getConnection(username, password);
+        final DataSourceLatencyStatistics statistics = latencyStatistics;
+        if (statistics == null || !statistics.isEnabled()) {
+            return delegate.getConnection(username, password);
+        }
+        if (!trackConnectionLatency) {
+            final long start = System.nanoTime();
+            final Connection connection = delegate.getConnection(username, password);
+            statistics.connectionAcquired(System.nanoTime() - start);
+            return connection;
+        }
+        final String site = statistics.sampleCallSite();
+        final long start = System.nanoTime();
+        final Connection connection = delegate.getConnection(username, password);
+        return new LatencyTrackingConnection(statistics, connection, statistics.connectionAcquired(connection, System.nanoTime() - start, site));
     }
 
     @Override
@@ -421,6 +421,12 @@ public class XMLDataSourceRuntimeHandler extends AbstractXMLDataSourceRuntimeHan
         } else if (attributeName.equals(Constants.ENLISTMENT_TRACE.getName())) {
             //Just return w/o setting a result
             return;
+        } else if (attributeName.equals(Constants.CONNECTION_SITE_SAMPLE_RATE.getName())) {
+            //Just return w/o setting a result
+            return;
+        } else if (attributeName.equals(Constants.TRACK_CONNECTION_LATENCY.getName())) {
+            //Just return w/o setting a result
+            return;
         } else {
             throw ConnectorLogger.ROOT_LOGGER.unknownAttribute(attributeName);
         }
@@ -146,6 +146,7 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
         }
 
         DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager);
+        wmService.setStatisticsFlushInterval(JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_FLUSH_INTERVAL.getAttribute().resolveModelAttribute(context, model).asLong());
         ServiceBuilder<NamedDistributedWorkManager> builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
         builder.addDependency(ClusteringDefaultRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context), CommandDispatcherFactory.class, wmService.getCommandDispatcherFactoryInjector());
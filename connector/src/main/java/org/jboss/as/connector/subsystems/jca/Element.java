@@ -74,7 +74,13 @@ public enum Element {
     TRACER("tracer"),
 
     /** elytron-enabled element **/
-    ELYTRON_ENABLED("elytron-enabled");
+    ELYTRON_ENABLED("elytron-enabled"),
+
+    /** short-running-work-stealing element **/
+    SHORT_RUNNING_WORK_STEALING("short-running-work-stealing"),
+
+    /** statistics-flush-interval element **/
+    STATISTICS_FLUSH_INTERVAL("statistics-flush-interval");
 
 
 
@@ -24,6 +24,8 @@ package org.jboss.as.connector.subsystems.jca;
 
 import static org.jboss.as.connector.subsystems.jca.Constants.DISTRIBUTED_WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.ELYTRON_ENABLED_NAME;
+import static org.jboss.as.connector.subsystems.jca.Constants.SHORT_RUNNING_WORK_STEALING_NAME;
+import static org.jboss.as.connector.subsystems.jca.Constants.STATISTICS_FLUSH_INTERVAL_NAME;
 import static org.jboss.as.connector.subsystems.jca.Constants.ELYTRON_MANAGED_SECURITY;
 import static org.jboss.as.connector.subsystems.jca.JcaWorkManagerDefinition.registerSubModels;
 
@@ -35,11 +37,13 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -76,6 +80,11 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             resourceRegistration.registerReadWriteAttribute(ad, null, JcaDistributedWorkManagerWriteHandler.INSTANCE);
         }
 
+        resourceRegistration.registerReadWriteAttribute(DWmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute(), null,
+                new ReloadRequiredWriteAttributeHandler(DWmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute()));
+        resourceRegistration.registerReadWriteAttribute(DWmParameters.STATISTICS_FLUSH_INTERVAL.getAttribute(), null,
+                new ReloadRequiredWriteAttributeHandler(DWmParameters.STATISTICS_FLUSH_INTERVAL.getAttribute()));
+
     }
 
     @Override
@@ -129,6 +138,20 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
                 .setXmlName(Security.Tag.ELYTRON_ENABLED.getLocalName())
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
+                .build()),
+        SHORT_RUNNING_WORK_STEALING(new SimpleAttributeDefinitionBuilder(SHORT_RUNNING_WORK_STEALING_NAME, ModelType.BOOLEAN, true)
+                .setXmlName(Element.SHORT_RUNNING_WORK_STEALING.getLocalName())
+                .setAllowExpression(true)
+                .setDefaultValue(ModelNode.FALSE)
+                .setRestartAllServices()
+                .build()),
+        STATISTICS_FLUSH_INTERVAL(new SimpleAttributeDefinitionBuilder(STATISTICS_FLUSH_INTERVAL_NAME, ModelType.LONG, true)
+                .setXmlName(Element.STATISTICS_FLUSH_INTERVAL.getLocalName())
+                .setAllowExpression(true)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setValidator(new LongRangeValidator(0, true, true))
+                .setDefaultValue(new ModelNode(0L))
+                .setRestartAllServices()
                 .build());
 
 
@@ -36,6 +36,7 @@ public class JcaTransformers implements ExtensionTransformerRegistration{
 
     private static final ModelVersion EAP_6_2 = ModelVersion.create(1, 2, 0);
     private static final ModelVersion EAP_7_0 = ModelVersion.create(4, 0, 0);
+    private static final ModelVersion VERSION_5_0_0 = ModelVersion.create(5, 0, 0);
 
     @Override
     public String getSubsystemName() {
@@ -45,8 +46,25 @@ public class JcaTransformers implements ExtensionTransformerRegistration{
     @Override
     public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
-        ResourceTransformationDescriptionBuilder parentBuilder = chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), EAP_7_0);
+        ResourceTransformationDescriptionBuilder parentBuilder = chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), VERSION_5_0_0);
         ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER);
+        builder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, ModelNode.FALSE),
+                        JcaDistributedWorkManagerDefinition.DWmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute())
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, new ModelNode(0L)),
+                        JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_FLUSH_INTERVAL.getAttribute())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, JcaDistributedWorkManagerDefinition.DWmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute(),
+                        JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_FLUSH_INTERVAL.getAttribute())
+                .end();
+        builder = parentBuilder.addChildResource(PATH_WORK_MANAGER);
+        builder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, ModelNode.FALSE),
+                        JcaWorkManagerDefinition.WmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, JcaWorkManagerDefinition.WmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute())
+                .end();
+
+        parentBuilder = chainedBuilder.createBuilder(VERSION_5_0_0, EAP_7_0);
+        builder = parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER);
         builder.getAttributeBuilder()
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, ModelNode.FALSE),
                         JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED.getAttribute())
@@ -66,6 +84,7 @@ public class JcaTransformers implements ExtensionTransformerRegistration{
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[]{
                 EAP_6_2,
                 EAP_7_0,
+                VERSION_5_0_0,
         });
     }
 }
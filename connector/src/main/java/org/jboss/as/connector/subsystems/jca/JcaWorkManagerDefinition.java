@@ -24,6 +24,7 @@ package org.jboss.as.connector.subsystems.jca;
 
 import static org.jboss.as.connector.subsystems.jca.Constants.ELYTRON_ENABLED_NAME;
 import static org.jboss.as.connector.subsystems.jca.Constants.ELYTRON_MANAGED_SECURITY;
+import static org.jboss.as.connector.subsystems.jca.Constants.SHORT_RUNNING_WORK_STEALING_NAME;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
@@ -33,6 +34,9 @@ import java.util.Set;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.metadata.api.common.Security;
+import org.jboss.as.connector.services.workmanager.DistributedWorkManagerService;
+import org.jboss.as.connector.services.workmanager.WorkManagerService;
+import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -40,6 +44,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
@@ -50,9 +55,12 @@ import org.jboss.as.threads.BoundedQueueThreadPoolAdd;
 import org.jboss.as.threads.BoundedQueueThreadPoolRemove;
 import org.jboss.as.threads.BoundedQueueThreadPoolResourceDefinition;
 import org.jboss.as.threads.CommonAttributes;
+import org.jboss.as.threads.PoolAttributeDefinitions;
 import org.jboss.as.threads.ThreadsServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 
 /**
@@ -80,6 +88,8 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
 
         resourceRegistration.registerReadOnlyAttribute(WmParameters.NAME.getAttribute(), ReadResourceNameOperationStepHandler.INSTANCE);
         resourceRegistration.registerReadOnlyAttribute(WmParameters.ELYTRON_ENABLED.getAttribute(), null);
+        resourceRegistration.registerReadWriteAttribute(WmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute(), null,
+                new ReloadRequiredWriteAttributeHandler(WmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute()));
 
     }
 
@@ -102,6 +112,14 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                    }
                 }, MODEL);
             }
+
+            @Override
+            protected void performRuntime(final OperationContext context, final ModelNode operation, final Resource resource)
+                    throws OperationFailedException {
+                // before the pool is installed, so the work manager cannot start without it
+                enableWorkStealing(context, resource.getModel());
+                super.performRuntime(context, operation, resource);
+            }
         };
         resourceRegistration.registerSubModel(
                 new JCAThreadPoolResourceDefinition(true, runtimeOnly, WORKMANAGER_SHORT_RUNNING, ThreadsServices.EXECUTOR.append(WORKMANAGER_SHORT_RUNNING),
@@ -146,6 +164,29 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * The work manager is added before its short-running thread pool, so the pool passes its queue-length to the work
+     * manager service if that runs the short-running work on a work stealing executor.
+     */
+    private static void enableWorkStealing(final OperationContext context, final ModelNode threadPoolModel) throws OperationFailedException {
+        ModelNode workManagerModel = context.readResourceFromRoot(context.getCurrentAddress().getParent(), false).getModel();
+        if (!WmParameters.SHORT_RUNNING_WORK_STEALING.getAttribute().resolveModelAttribute(context, workManagerModel).asBoolean()) {
+            return;
+        }
+        String name = WmParameters.NAME.getAttribute().resolveModelAttribute(context, workManagerModel).asString();
+        int queueLength = PoolAttributeDefinitions.QUEUE_LENGTH.resolveModelAttribute(context, threadPoolModel).asInt();
+        ServiceController<?> controller = context.getServiceRegistry(true).getService(ConnectorServices.WORKMANAGER_SERVICE.append(name));
+        if (controller == null) {
+            return;
+        }
+        Service<?> service = controller.getService();
+        if (service instanceof WorkManagerService) {
+            ((WorkManagerService) service).enableWorkStealing(queueLength);
+        } else if (service instanceof DistributedWorkManagerService) {
+            ((DistributedWorkManagerService) service).enableWorkStealing(queueLength);
+        }
+    }
+
     public enum WmParameters {
         NAME(SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING)
                 .setAllowExpression(false)
@@ -158,6 +199,12 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                 .setXmlName(Security.Tag.ELYTRON_ENABLED.getLocalName())
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
+                .build()),
+        SHORT_RUNNING_WORK_STEALING(new SimpleAttributeDefinitionBuilder(SHORT_RUNNING_WORK_STEALING_NAME, ModelType.BOOLEAN, true)
+                .setXmlName(Element.SHORT_RUNNING_WORK_STEALING.getLocalName())
+                .setAllowExpression(true)
+                .setDefaultValue(ModelNode.FALSE)
+                .setRestartAllServices()
                 .build());
 
         WmParameters(SimpleAttributeDefinition attribute) {
@@ -42,13 +42,15 @@ public enum Namespace {
 
     JCA_4_0("urn:jboss:domain:jca:4.0"),
 
-    JCA_5_0("urn:jboss:domain:jca:5.0");
+    JCA_5_0("urn:jboss:domain:jca:5.0"),
+
+    JCA_6_0("urn:jboss:domain:jca:6.0");
 
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = JCA_5_0;
+    public static final Namespace CURRENT = JCA_6_0;
 
     private final String name;
 
@@ -678,6 +678,10 @@ public class Constants {
 
     static final String START_WORK_REJECTED_NAME = "startwork-rejected";
 
+    static final String STATISTICS_UPDATES_AGGREGATED_NAME = "statistics-updates-aggregated";
+
+    static final String STATISTICS_MESSAGES_SAVED_NAME = "statistics-messages-saved";
+
 
     static SimpleAttributeDefinition WORK_ACTIVE = new SimpleAttributeDefinitionBuilder(WORK_ACTIVE_NAME, ModelType.INT)
             .setStorageRuntime()
@@ -728,6 +732,18 @@ public class Constants {
     public static SimpleAttributeDefinition[] WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{WORK_ACTIVE, WORK_SUCCESSFUL, WORK_FAILED, DO_WORK_ACCEPTED,
             DO_WORK_REJECTED, SCHEDULED_WORK_ACCEPTED, SCHEDULED_WORK_REJECTED, START_WORK_ACCEPTED, START_WORK_REJECTED};
 
+    static SimpleAttributeDefinition STATISTICS_UPDATES_AGGREGATED = new SimpleAttributeDefinitionBuilder(STATISTICS_UPDATES_AGGREGATED_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static SimpleAttributeDefinition STATISTICS_MESSAGES_SAVED = new SimpleAttributeDefinitionBuilder(STATISTICS_MESSAGES_SAVED_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    public static SimpleAttributeDefinition[] DISTRIBUTED_WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{STATISTICS_UPDATES_AGGREGATED, STATISTICS_MESSAGES_SAVED};
+
     public static final String WORKMANAGER_STATISTICS_ENABLED_NAME = "workmanager-statistics-enabled";
     public static SimpleAttributeDefinition WORKMANAGER_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN)
             .setStorageRuntime()
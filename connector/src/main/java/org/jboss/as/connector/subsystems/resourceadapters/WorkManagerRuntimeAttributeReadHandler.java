@@ -23,6 +23,8 @@
 package org.jboss.as.connector.subsystems.resourceadapters;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
+import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -92,6 +94,16 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
                                 result.set(wmStat.getStartWorkRejected());
                                 break;
                             }
+                            case Constants.STATISTICS_UPDATES_AGGREGATED_NAME: {
+                                CommandDispatcherTransport transport = getCommandDispatcherTransport();
+                                result.set(transport != null ? transport.getStatisticsUpdatesAggregated() : 0L);
+                                break;
+                            }
+                            case Constants.STATISTICS_MESSAGES_SAVED_NAME: {
+                                CommandDispatcherTransport transport = getCommandDispatcherTransport();
+                                result.set(transport != null ? transport.getStatisticsMessagesSaved() : 0L);
+                                break;
+                            }
                             case ModelDescriptionConstants.STATISTICS_ENABLED: {
                                 if (distributed) {
                                     result.set(((DistributedWorkManager) wm).isDistributedStatisticsEnabled());
@@ -131,4 +143,11 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
         }
     }
 
+    private CommandDispatcherTransport getCommandDispatcherTransport() {
+        if (wm instanceof NamedDistributedWorkManager && ((NamedDistributedWorkManager) wm).getTransport() instanceof CommandDispatcherTransport) {
+            return (CommandDispatcherTransport) ((NamedDistributedWorkManager) wm).getTransport();
+        }
+        return null;
+    }
+
 }
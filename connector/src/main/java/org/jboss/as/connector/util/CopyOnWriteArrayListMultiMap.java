@@ -23,54 +23,61 @@
 package org.jboss.as.connector.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+/**
+ * A concurrent multimap whose value lists are immutable snapshots. Reads never block, and each update atomically
+ * replaces the list of a single key, so updates of different keys do not contend with each other.
+ */
 public class CopyOnWriteArrayListMultiMap<K, V> {
 
     private final ConcurrentMap<K, List<V>> cache = new ConcurrentHashMap<K, List<V>>();
 
+    /**
+     * @return an unmodifiable snapshot of the values of the key, or {@code null} if it has none
+     */
     public List<V> get(K k) {
         return cache.get(k);
     }
 
-    public synchronized List<V> remove(K k) {
+    public List<V> remove(K k) {
         return cache.remove(k);
     }
 
-    public synchronized void putIfAbsent(K k, V v) {
-        List<V> list = cache.get(k);
-        if (list == null || list.isEmpty()) {
-            list = new ArrayList<V>();
-        } else {
-            list = new ArrayList<V>(list);
-        }
-        if (!list.contains(v)) {
-            list.add(v);
-            cache.put(k, list);
-        }
+    public void putIfAbsent(K k, V v) {
+        cache.compute(k, (key, list) -> {
+            if (list == null) {
+                return Collections.singletonList(v);
+            }
+            if (list.contains(v)) {
+                return list;
+            }
+            final List<V> copy = new ArrayList<V>(list.size() + 1);
+            copy.addAll(list);
+            copy.add(v);
+            return Collections.unmodifiableList(copy);
+        });
     }
 
-    public synchronized boolean remove(K k, K v) {
-        List<V> list = cache.get(k);
-        if (list == null) {
-            return false;
-        }
-        if (list.isEmpty()) {
-            cache.remove(k);
-            return false;
-        }
-        boolean removed = list.remove(v);
-        if (removed) {
-            if (list.isEmpty()) {
-                cache.remove(k);
-            } else {
-                list = new ArrayList<V>(list);
-                cache.put(k, list);
+    public boolean remove(K k, V v) {
+        final boolean[] removed = new boolean[1];
+        cache.computeIfPresent(k, (key, list) -> {
+            if (!list.contains(v)) {
+                return list;
+            }
+            removed[0] = true;
+            if (list.size() == 1) {
+                // the last value of the key, drop the mapping
+                return null;
             }
-        }
-        return removed;
+            final List<V> copy = new ArrayList<V>(list);
+            copy.remove(v);
+            return Collections.unmodifiableList(copy);
+        });
+        return removed[0];
     }
 
 }
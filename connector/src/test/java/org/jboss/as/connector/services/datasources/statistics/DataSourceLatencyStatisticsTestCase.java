@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link DataSourceLatencyStatistics}.
+ */
+public class DataSourceLatencyStatisticsTestCase {
+
+    @Test
+    public void testUntrackedConnectionRecordsWaitOnly() {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        statistics.connectionAcquired(1000L);
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_WAIT + "Count"));
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+    }
+
+    @Test
+    public void testConnectionClosedIsRecordedOnce() {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        DataSourceLatencyStatistics.OpenConnection open = statistics.connectionAcquired(connection(new AtomicBoolean(), null), 1000L, null);
+        statistics.connectionClosed(open);
+        statistics.connectionClosed(open);
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONTAINER_CLOSED_CONNECTION_COUNT));
+    }
+
+    @Test
+    public void testContainerClosedConnectionIsDetectedByAcquiringThread() {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        AtomicBoolean closed = new AtomicBoolean();
+        DataSourceLatencyStatistics.OpenConnection open = statistics.connectionAcquired(connection(closed, null), 1000L, "site");
+        closed.set(true);
+        // Reading the metrics does not inspect the open connections
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONTAINER_CLOSED_CONNECTION_COUNT));
+
+        statistics.connectionAcquired(connection(new AtomicBoolean(), null), 1000L, null);
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONTAINER_CLOSED_CONNECTION_COUNT));
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+        Assert.assertTrue(((String) statistics.getValue(DataSourceLatencyStatistics.LONGEST_HELD_CONNECTION_SITES)).startsWith("site="));
+
+        // A late close by the application is not recorded a second time
+        statistics.connectionClosed(open);
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+    }
+
+    @Test
+    public void testConnectionsOfOtherThreadsAreNotInspected() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<Thread> inspectingThread = new AtomicReference<>();
+        Thread thread = new Thread(() -> statistics.connectionAcquired(connection(closed, inspectingThread), 1000L, null));
+        thread.start();
+        thread.join();
+        closed.set(true);
+
+        statistics.connectionAcquired(connection(new AtomicBoolean(), null), 1000L, null);
+        Assert.assertNull(inspectingThread.get());
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONTAINER_CLOSED_CONNECTION_COUNT));
+    }
+
+    @Test
+    public void testLeakedConnectionIsNotRetained() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        Connection connection = connection(new AtomicBoolean(), null);
+        WeakReference<Connection> reference = new WeakReference<>(connection);
+        statistics.connectionAcquired(connection, 1000L, null);
+        connection = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+        statistics.connectionAcquired(connection(new AtomicBoolean(), null), 1000L, null);
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+    }
+
+    @Test
+    public void testClear() {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(1);
+        statistics.connectionClosed(statistics.connectionAcquired(connection(new AtomicBoolean(), null), 1000L, "site"));
+        statistics.recordStatementExecution(1000L);
+        statistics.clear();
+        for (String name : statistics.getNames()) {
+            Object value = statistics.getValue(name);
+            Assert.assertTrue(name, value.equals(0L) || value.equals(""));
+        }
+    }
+
+    private static Connection connection(AtomicBoolean closed, AtomicReference<Thread> inspectingThread) {
+        return (Connection) Proxy.newProxyInstance(DataSourceLatencyStatisticsTestCase.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isClosed":
+                    if (inspectingThread != null) {
+                        inspectingThread.set(Thread.currentThread());
+                    }
+                    return closed.get();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.threads.ExecutionTimedOutException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link WorkStealingExecutor}.
+ */
+public class WorkStealingExecutorTestCase {
+
+    private static final int MAX_THREADS = 2;
+    private static final int QUEUE_LENGTH = 3;
+
+    private WorkStealingExecutor executor;
+    private CountDownLatch release;
+    private CountDownLatch started;
+    private AtomicInteger completed;
+
+    @Before
+    public void before() {
+        this.executor = new WorkStealingExecutor("test", MAX_THREADS, QUEUE_LENGTH);
+        this.release = new CountDownLatch(1);
+        this.started = new CountDownLatch(MAX_THREADS);
+        this.completed = new AtomicInteger();
+    }
+
+    @After
+    public void after() {
+        this.release.countDown();
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void testCapacityIsMaxThreadsPlusQueueLength() throws Exception {
+        fill();
+        Assert.assertEquals(0L, this.executor.getNumberOfFreeThreads());
+
+        this.release.countDown();
+        // Work which completed frees its capacity again
+        this.executor.executeBlocking(this.work(), 10, TimeUnit.SECONDS);
+        Assert.assertTrue(this.awaitCompleted(MAX_THREADS + QUEUE_LENGTH + 1));
+    }
+
+    @Test
+    public void testExecuteNonBlockingRejectsWhenFull() throws Exception {
+        fill();
+        try {
+            this.executor.executeNonBlocking(this.work());
+            Assert.fail("Work exceeding the capacity was accepted");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testExecuteBlockingTimesOutWhenFull() throws Exception {
+        fill();
+        long start = System.nanoTime();
+        try {
+            this.executor.executeBlocking(this.work(), 100, TimeUnit.MILLISECONDS);
+            Assert.fail("Work exceeding the capacity was accepted");
+        } catch (ExecutionTimedOutException e) {
+            Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    @Test
+    public void testExecuteBlockingWaitsForCapacity() throws Exception {
+        fill();
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.release.countDown();
+        });
+        releaser.start();
+        this.executor.executeBlocking(this.work(), 10, TimeUnit.SECONDS);
+        releaser.join();
+    }
+
+    @Test
+    public void testRejectedAfterShutdown() throws Exception {
+        this.executor.shutdown();
+        try {
+            this.executor.executeNonBlocking(this.work());
+            Assert.fail("Work was accepted after shutdown");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Occupies every worker and queue slot with work which waits for {@link #release}.
+     */
+    private void fill() throws Exception {
+        for (int i = 0; i < MAX_THREADS + QUEUE_LENGTH; ++i) {
+            this.executor.executeNonBlocking(this.work());
+        }
+        Assert.assertTrue(this.started.await(10, TimeUnit.SECONDS));
+    }
+
+    private Runnable work() {
+        return () -> {
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.completed.incrementAndGet();
+        };
+    }
+
+    private boolean awaitCompleted(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (this.completed.get() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Tests of {@link DeltaStatisticsAggregator}.
+ */
+public class DeltaStatisticsAggregatorTestCase {
+
+    private final Node member = new TestNode("member");
+    private final Node otherMember = new TestNode("other");
+    private final Address address = new Address("wm", "wm", "transport");
+    private final Address otherAddress = new Address("other-wm", "other-wm", "transport");
+
+    @Test
+    public void testDeltasAreAggregatedPerMemberAndAddress() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        Assert.assertTrue(aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address));
+        Assert.assertTrue(aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address));
+        Assert.assertTrue(aggregator.aggregate(this.member, Request.DELTA_WORK_FAILED, this.address));
+        Assert.assertTrue(aggregator.aggregate(this.member, Request.DELTA_WORK_SUCCESSFUL, this.otherAddress));
+        Assert.assertTrue(aggregator.aggregate(this.otherMember, Request.DELTA_STARTWORK_REJECTED, this.address));
+
+        Map<Node, DeltaStatisticsCommand> commands = aggregator.drain();
+        Assert.assertEquals(2, commands.size());
+
+        Map<Address, long[]> deltas = commands.get(this.member).getDeltas();
+        Assert.assertEquals(2, deltas.size());
+        Assert.assertEquals(2L, count(deltas, this.address, Request.DELTA_DOWORK_ACCEPTED));
+        Assert.assertEquals(1L, count(deltas, this.address, Request.DELTA_WORK_FAILED));
+        Assert.assertEquals(0L, count(deltas, this.address, Request.DELTA_WORK_SUCCESSFUL));
+        Assert.assertEquals(1L, count(deltas, this.otherAddress, Request.DELTA_WORK_SUCCESSFUL));
+
+        deltas = commands.get(this.otherMember).getDeltas();
+        Assert.assertEquals(1, deltas.size());
+        Assert.assertEquals(1L, count(deltas, this.address, Request.DELTA_STARTWORK_REJECTED));
+    }
+
+    @Test
+    public void testOtherRequestsAreNotAggregated() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        Assert.assertFalse(aggregator.aggregate(this.member, Request.UPDATE_SHORTRUNNING_FREE, this.address, 3L));
+        Assert.assertFalse(aggregator.aggregate(this.member, Request.UPDATE_LONGRUNNING_FREE, this.address, 3L));
+        Assert.assertTrue(aggregator.drain().isEmpty());
+        Assert.assertEquals(0L, aggregator.getAggregatedCount());
+    }
+
+    @Test
+    public void testDrainRemovesPendingDeltas() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        Assert.assertEquals(1, aggregator.drain().size());
+        Assert.assertTrue(aggregator.drain().isEmpty());
+
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        Assert.assertEquals(1L, count(aggregator.drain().get(this.member).getDeltas(), this.address, Request.DELTA_DOWORK_ACCEPTED));
+    }
+
+    @Test
+    public void testClearDiscardsPendingDeltasOfAddress() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.otherAddress);
+        aggregator.aggregate(this.otherMember, Request.DELTA_DOWORK_ACCEPTED, this.address);
+
+        // The clear itself must still be sent
+        Assert.assertFalse(aggregator.aggregate(this.member, Request.CLEAR_DISTRIBUTED_STATISTICS, this.address));
+
+        Map<Node, DeltaStatisticsCommand> commands = aggregator.drain();
+        Map<Address, long[]> deltas = commands.get(this.member).getDeltas();
+        Assert.assertFalse(deltas.containsKey(this.address));
+        Assert.assertTrue(deltas.containsKey(this.otherAddress));
+        Assert.assertTrue(commands.get(this.otherMember).getDeltas().containsKey(this.address));
+    }
+
+    @Test
+    public void testRemoveDiscardsPendingDeltasOfAddress() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        aggregator.aggregate(this.member, Request.DELTA_WORK_SUCCESSFUL, this.address);
+
+        Assert.assertFalse(aggregator.aggregate(this.member, Request.WORKMANAGER_REMOVE, this.address));
+        // The member no longer has any pending deltas, so no command is sent to it
+        Assert.assertTrue(aggregator.drain().isEmpty());
+
+        // Requests for members without pending deltas are sent as is
+        Assert.assertFalse(aggregator.aggregate(this.otherMember, Request.WORKMANAGER_REMOVE, this.address));
+    }
+
+    @Test
+    public void testSavedMessageCount() {
+        DeltaStatisticsAggregator aggregator = new DeltaStatisticsAggregator();
+        for (int i = 0; i < 5; ++i) {
+            aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        }
+        aggregator.aggregate(this.otherMember, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        Assert.assertEquals(6L, aggregator.getAggregatedCount());
+
+        // Two commands replace the six deltas
+        aggregator.drain();
+        Assert.assertEquals(6L, aggregator.getAggregatedCount());
+        Assert.assertEquals(4L, aggregator.getSavedCount());
+
+        // A single delta flushed on its own saves nothing
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        aggregator.drain();
+        Assert.assertEquals(4L, aggregator.getSavedCount());
+
+        // Discarded deltas are never sent
+        aggregator.aggregate(this.member, Request.DELTA_DOWORK_ACCEPTED, this.address);
+        aggregator.aggregate(this.member, Request.CLEAR_DISTRIBUTED_STATISTICS, this.address);
+        aggregator.drain();
+        Assert.assertEquals(5L, aggregator.getSavedCount());
+    }
+
+    private static long count(Map<Address, long[]> deltas, Address address, Request request) {
+        for (int i = 0; i < DeltaStatisticsCommand.DELTAS.length; ++i) {
+            if (DeltaStatisticsCommand.DELTAS[i] == request) {
+                return deltas.get(address)[i];
+            }
+        }
+        throw new IllegalArgumentException(request.name());
+    }
+
+    private static class TestNode implements Node {
+        private final String name;
+
+        TestNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public InetSocketAddress getSocketAddress() {
+            return InetSocketAddress.createUnresolved(this.name, 0);
+        }
+    }
+}
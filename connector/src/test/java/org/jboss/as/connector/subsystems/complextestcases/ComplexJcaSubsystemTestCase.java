@@ -39,13 +39,25 @@ public class ComplexJcaSubsystemTestCase extends AbstractComplexSubsystemTestCas
     @Test
     public void testModel() throws Exception {
 
-        getModel("jca.xml");
+        getModel("jca_6_0.xml");
     }
 
     @Test
     public void testMinModel() throws Exception {
 
-        getModel("minimal-jca.xml");
+        getModel("minimal-jca_6_0.xml");
+    }
+
+    @Test
+    public void testModel_5_0() throws Exception {
+
+        getModel("jca.xml", false, null);
+    }
+
+    @Test
+    public void testMinModel_5_0() throws Exception {
+
+        getModel("minimal-jca.xml", false, null);
     }
 
 
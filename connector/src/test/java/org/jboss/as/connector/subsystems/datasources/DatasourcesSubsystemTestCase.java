@@ -22,12 +22,14 @@
 package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.subsystems.datasources.Constants.AUTHENTICATION_CONTEXT;
+import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_SITE_SAMPLE_RATE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CREDENTIAL_REFERENCE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ELYTRON_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_AUTHENTICATION_CONTEXT;
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_CREDENTIAL_REFERENCE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.RECOVERY_ELYTRON_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TRACKING;
+import static org.jboss.as.connector.subsystems.datasources.Constants.TRACK_CONNECTION_LATENCY;
 
 import java.io.IOException;
 import java.util.List;
@@ -67,12 +69,12 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
     @Override
     protected String getSubsystemXml() throws IOException {
         //test configuration put in standalone.xml
-        return readResource("datasources-minimal.xml");
+        return readResource("datasources-minimal_6_0.xml");
     }
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-datasources_5_0.xsd";
+        return "schema/wildfly-datasources_6_0.xsd";
     }
 
     @Override
@@ -90,17 +92,37 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Test
     public void testFullConfig() throws Exception {
-        standardSubsystemTest("datasources-full.xml");
+        standardSubsystemTest("datasources-full_6_0.xml");
+    }
+
+    @Test
+    public void testFullConfig_5_0() throws Exception {
+        standardSubsystemTest("datasources-full.xml", false);
+    }
+
+    @Test
+    public void testMinimalConfig_5_0() throws Exception {
+        standardSubsystemTest("datasources-minimal.xml", false);
     }
 
     @Test
     public void testElytronConfig() throws Exception {
-        standardSubsystemTest("datasources-elytron-enabled_5_0.xml");
+        standardSubsystemTest("datasources-elytron-enabled_6_0.xml");
+    }
+
+    @Test
+    public void testElytronConfig_5_0() throws Exception {
+        standardSubsystemTest("datasources-elytron-enabled_5_0.xml", false);
     }
 
     @Test
     public void testExpressionConfig() throws Exception {
-        standardSubsystemTest("datasources-full-expression.xml", "datasources-full.xml");
+        standardSubsystemTest("datasources-full-expression_6_0.xml", "datasources-full_6_0.xml");
+    }
+
+    @Test
+    public void testExpressionConfig_5_0() throws Exception {
+        standardSubsystemTest("datasources-full-expression.xml", "datasources-full.xml", false);
     }
 
     protected AdditionalInitialization createAdditionalInitialization() {
@@ -117,7 +139,7 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Test
     public void testTransformerEAP64() throws Exception {
-        testTransformer("datasources-full.xml", ModelTestControllerVersion.EAP_6_4_0, ModelVersion.create(1, 3, 0));
+        testTransformer("datasources-full_6_0.xml", ModelTestControllerVersion.EAP_6_4_0, ModelVersion.create(1, 3, 0));
     }
 
     @Test
@@ -127,11 +149,11 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Test
     public void testTransformerElytronEnabledEAP64() throws Exception {
-        testTransformerElytronEnabled("datasources-elytron-enabled_5_0.xml", ModelTestControllerVersion.EAP_6_4_0, ModelVersion.create(1, 3, 0));
+        testTransformerElytronEnabled("datasources-elytron-enabled_6_0.xml", ModelTestControllerVersion.EAP_6_4_0, ModelVersion.create(1, 3, 0));
     }
     @Test
     public void testTransformerEAP7() throws Exception {
-        testTransformerEAP7FullConfiguration("datasources-full.xml");
+        testTransformerEAP7FullConfiguration("datasources-full_6_0.xml");
     }
 
     @Test
@@ -173,8 +195,8 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
         PathAddress subsystemAddress = PathAddress.pathAddress(DataSourcesSubsystemRootDefinition.PATH_SUBSYSTEM);
 
         ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, ops, new FailedOperationTransformationConfig()
-                        .addFailedAttribute(subsystemAddress.append(DataSourceDefinition.PATH_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(TRACKING))
-                        .addFailedAttribute(subsystemAddress.append(XaDataSourceDefinition.PATH_XA_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(TRACKING))
+                        .addFailedAttribute(subsystemAddress.append(DataSourceDefinition.PATH_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(TRACKING, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY))
+                        .addFailedAttribute(subsystemAddress.append(XaDataSourceDefinition.PATH_XA_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(TRACKING, CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY))
         );
     }
 
@@ -216,7 +238,7 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
     }
 
     /**
-     * Tests transformation of model from latest version which works well in EAP 7.0.0 without setting up FailedOperationTransformationConfig.
+     * Tests transformation of model from latest version which works well in EAP 7.0.0 apart from the attributes added since.
      *
      * @throws Exception
      */
@@ -226,7 +248,12 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
         KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
         KernelServices mainServices = initialKernelServices(builder, eap7ControllerVersion, eap7ModelVersion);
         List<ModelNode> ops = builder.parseXmlResource(subsystemXml);
-        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, eap7ModelVersion, ops, FailedOperationTransformationConfig.NO_FAILURES);
+        PathAddress subsystemAddress = PathAddress.pathAddress(DataSourcesSubsystemRootDefinition.PATH_SUBSYSTEM);
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, eap7ModelVersion, ops, new FailedOperationTransformationConfig()
+                        .addFailedAttribute(subsystemAddress.append(DataSourceDefinition.PATH_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY))
+                        .addFailedAttribute(subsystemAddress.append(XaDataSourceDefinition.PATH_XA_DATASOURCE), new FailedOperationTransformationConfig.NewAttributesConfig(CONNECTION_SITE_SAMPLE_RATE, TRACK_CONNECTION_LATENCY))
+        );
     }
 
     /**
@@ -0,0 +1,198 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the connections handed out by {@link WildFlyDataSource} while statistics are enabled.
+ */
+public class WildFlyDataSourceTestCase {
+
+    /**
+     * The type of the connections of the pool, standing for e.g. the IronJacamar connection handle.
+     */
+    interface PoolConnection extends Connection {
+    }
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void testDisabledStatisticsAreNotRecorded() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, true);
+        Assert.assertTrue(dataSource.getConnection() instanceof PoolConnection);
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_WAIT + "Count"));
+    }
+
+    @Test
+    public void testStatisticsDoNotChangeTheConnectionType() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(1);
+        statistics.setEnabled(true);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, false);
+        Connection connection = dataSource.getConnection();
+        Assert.assertTrue(connection instanceof PoolConnection);
+        Assert.assertTrue(dataSource.getConnection("user", "password") instanceof PoolConnection);
+        connection.createStatement().executeQuery("SELECT 1");
+        connection.close();
+        Assert.assertEquals(2L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_WAIT + "Count"));
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+        Assert.assertEquals(0L, statistics.getValue(DataSourceLatencyStatistics.STATEMENT_EXECUTION + "Count"));
+    }
+
+    @Test
+    public void testTrackedConnectionRecordsHoldAndStatementExecution() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(1);
+        statistics.setEnabled(true);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, true);
+        Connection connection = dataSource.getConnection();
+        Assert.assertFalse(connection instanceof PoolConnection);
+
+        connection.createStatement().executeQuery("SELECT 1");
+        connection.createStatement().executeUpdate("DELETE FROM T");
+        connection.prepareStatement("UPDATE T SET A = ?").executeUpdate();
+        connection.prepareStatement("SELECT * FROM T").executeQuery();
+        connection.prepareCall("{call P}").execute();
+        Statement batch = connection.createStatement();
+        batch.addBatch("DELETE FROM T");
+        batch.executeBatch();
+        Assert.assertEquals(6, executions.get());
+        Assert.assertEquals(6L, statistics.getValue(DataSourceLatencyStatistics.STATEMENT_EXECUTION + "Count"));
+
+        connection.close();
+        connection.close();
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_WAIT + "Count"));
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.CONNECTION_HOLD + "Count"));
+        Assert.assertFalse(((String) statistics.getValue(DataSourceLatencyStatistics.LONGEST_HELD_CONNECTION_SITES)).isEmpty());
+    }
+
+    @Test
+    public void testFailedExecutionIsRecorded() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        statistics.setEnabled(true);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, true);
+        Connection connection = dataSource.getConnection();
+        try {
+            connection.createStatement().execute("FAIL");
+            Assert.fail();
+        } catch (SQLException expected) {
+        }
+        Assert.assertEquals(1L, statistics.getValue(DataSourceLatencyStatistics.STATEMENT_EXECUTION + "Count"));
+    }
+
+    @Test
+    public void testTrackedObjectsReturnTheirWrappers() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        statistics.setEnabled(true);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, true);
+        Connection connection = dataSource.getConnection();
+
+        Statement statement = connection.createStatement();
+        Assert.assertSame(connection, statement.getConnection());
+        ResultSet resultSet = statement.executeQuery("SELECT 1");
+        Assert.assertSame(statement, resultSet.getStatement());
+
+        PreparedStatement preparedStatement = connection.prepareStatement("SELECT 1");
+        Assert.assertSame(connection, preparedStatement.getConnection());
+        Assert.assertSame(preparedStatement, preparedStatement.executeQuery().getStatement());
+
+        CallableStatement callableStatement = connection.prepareCall("{call P}");
+        Assert.assertSame(connection, callableStatement.getConnection());
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        Assert.assertSame(connection, metaData.getConnection());
+    }
+
+    @Test
+    public void testUnwrapReturnsTheConnectionOfThePool() throws Exception {
+        DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics(0);
+        statistics.setEnabled(true);
+        WildFlyDataSource dataSource = new WildFlyDataSource(dataSource(), "java:/test", statistics, true);
+        Connection connection = dataSource.getConnection();
+        Assert.assertTrue(connection.isWrapperFor(PoolConnection.class));
+        Assert.assertTrue(connection.unwrap(PoolConnection.class) instanceof PoolConnection);
+        Assert.assertSame(connection, connection.unwrap(Connection.class));
+        Assert.assertTrue(connection.createStatement().unwrap(Statement.class) instanceof Statement);
+    }
+
+    private DataSource dataSource() {
+        return proxy(DataSource.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type) {
+        return (T) Proxy.newProxyInstance(WildFlyDataSourceTestCase.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            final String name = method.getName();
+            if (name.equals("getConnection")) {
+                return proxy(PoolConnection.class);
+            } else if (name.equals("createStatement")) {
+                return proxy(Statement.class);
+            } else if (name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class);
+            } else if (name.equals("prepareCall")) {
+                return proxy(CallableStatement.class);
+            } else if (name.equals("getMetaData")) {
+                return proxy(DatabaseMetaData.class);
+            } else if (name.startsWith("execute")) {
+                executions.incrementAndGet();
+                if (args != null && "FAIL".equals(args[0])) {
+                    throw new SQLException("FAIL");
+                }
+                return name.equals("executeQuery") ? proxy(ResultSet.class) : name.equals("executeBatch") ? new int[0] : defaultValue(method.getReturnType());
+            } else if (name.equals("unwrap")) {
+                return ((Class<?>) args[0]).cast(proxy);
+            } else if (name.equals("isWrapperFor")) {
+                return ((Class<?>) args[0]).isInstance(proxy);
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            return defaultValue(method.getReturnType());
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
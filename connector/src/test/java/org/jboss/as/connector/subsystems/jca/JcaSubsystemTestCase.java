@@ -23,6 +23,8 @@ package org.jboss.as.connector.subsystems.jca;
 
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
 import static org.jboss.as.connector.subsystems.jca.JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED;
+import static org.jboss.as.connector.subsystems.jca.JcaDistributedWorkManagerDefinition.DWmParameters.SHORT_RUNNING_WORK_STEALING;
+import static org.jboss.as.connector.subsystems.jca.JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_FLUSH_INTERVAL;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -62,12 +64,12 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXml() throws IOException {
-        return readResource("jca.xml");
+        return readResource("jca_6_0.xml");
     }
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-jca_5_0.xsd";
+        return "schema/wildfly-jca_6_0.xsd";
     }
 
     @Override
@@ -96,12 +98,32 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Test
     public void testFullConfig() throws Exception {
-        standardSubsystemTest("jca-full.xml");
+        standardSubsystemTest("jca-full_6_0.xml");
     }
 
     @Test
     public void testExpressionConfig() throws Exception {
-        standardSubsystemTest("jca-full-expression.xml", "jca-full.xml");
+        standardSubsystemTest("jca-full-expression_6_0.xml", "jca-full_6_0.xml");
+    }
+
+    @Test
+    public void testConfig_5_0() throws Exception {
+        standardSubsystemTest("jca.xml", false);
+    }
+
+    @Test
+    public void testFullConfig_5_0() throws Exception {
+        standardSubsystemTest("jca-full.xml", false);
+    }
+
+    @Test
+    public void testElytronConfig_5_0() throws Exception {
+        standardSubsystemTest("jca-full-elytron.xml", false);
+    }
+
+    @Test
+    public void testExpressionConfig_5_0() throws Exception {
+        standardSubsystemTest("jca-full-expression.xml", false);
     }
 
     /** WFLY-2640 and WFLY-8141 */
@@ -206,14 +228,50 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         services.executeForResult(composite);
     }
 
+    @Test
+    public void testWorkStealingAddedBeforeThreadPool() throws Exception {
+        String xml = readResource("jca-minimal.xml");
+        final KernelServices services = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(xml).build();
+        assertTrue("Subsystem boot failed!", services.isSuccessfulBoot());
+
+        PathAddress subystem = PathAddress.pathAddress("subsystem", "jca");
+        PathAddress wm = subystem.append("workmanager", "wm");
+        PathAddress dwm = subystem.append("distributed-workmanager", "dwm");
+
+        // The short-running-threads are added by a later operation, as the CLI does
+        ModelNode addWm = Util.createAddOperation(wm);
+        addWm.get("name").set("wm");
+        addWm.get(SHORT_RUNNING_WORK_STEALING.getAttribute().getName()).set(true);
+        services.executeForResult(addWm);
+        ModelNode addThreads = Util.createAddOperation(wm.append(WORKMANAGER_SHORT_RUNNING, "wm"));
+        addThreads.get("max-threads").set(11);
+        addThreads.get("queue-length").set(22);
+        services.executeForResult(addThreads);
+
+        ModelNode addDwm = Util.createAddOperation(dwm);
+        addDwm.get("name").set("dwm");
+        addDwm.get(SHORT_RUNNING_WORK_STEALING.getAttribute().getName()).set(true);
+        services.executeForResult(addDwm);
+        addThreads = Util.createAddOperation(dwm.append(WORKMANAGER_SHORT_RUNNING, "dwm"));
+        addThreads.get("max-threads").set(11);
+        addThreads.get("queue-length").set(22);
+        services.executeForResult(addThreads);
+
+        for (PathAddress address : new PathAddress[] { wm, dwm }) {
+            services.executeForResult(Util.getWriteAttributeOperation(address, SHORT_RUNNING_WORK_STEALING.getAttribute().getName(), false));
+            ModelNode result = services.executeForResult(Util.getReadAttributeOperation(address, SHORT_RUNNING_WORK_STEALING.getAttribute().getName()));
+            assertFalse(result.asBoolean());
+        }
+    }
+
     @Test
     public void testTransformerEAP7() throws Exception {
-        testTransformer7(ModelTestControllerVersion.EAP_7_0_0, ModelVersion.create(4, 0, 0), "jca-full.xml");
+        testTransformer7(ModelTestControllerVersion.EAP_7_0_0, ModelVersion.create(4, 0, 0), "jca-full_6_0.xml");
     }
 
     @Test
     public void testTransformerEAP7Elytron() throws Exception {
-        testRejectingTransformerElytronEnabled(ModelTestControllerVersion.EAP_7_0_0, ModelVersion.create(4, 0, 0), "jca-full-elytron.xml");
+        testRejectingTransformerElytronEnabled(ModelTestControllerVersion.EAP_7_0_0, ModelVersion.create(4, 0, 0), "jca-full-elytron_6_0.xml");
     }
     /**
      * Tests transformation of model from 1.2.0 version into 1.1.0 version.
@@ -315,9 +373,9 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, xmlOps,
                 new FailedOperationTransformationConfig()
                         .addFailedAttribute(PathAddress.pathAddress(JcaSubsystemRootDefinition.PATH_SUBSYSTEM, JcaDistributedWorkManagerDefinition.PATH_DISTRIBUTED_WORK_MANAGER),
-                                new FailedOperationTransformationConfig.NewAttributesConfig(ELYTRON_ENABLED.getAttribute()))
+                                new FailedOperationTransformationConfig.NewAttributesConfig(ELYTRON_ENABLED.getAttribute(), SHORT_RUNNING_WORK_STEALING.getAttribute(), STATISTICS_FLUSH_INTERVAL.getAttribute()))
                         .addFailedAttribute(PathAddress.pathAddress(JcaSubsystemRootDefinition.PATH_SUBSYSTEM, JcaWorkManagerDefinition.PATH_WORK_MANAGER),
-                                new FailedOperationTransformationConfig.NewAttributesConfig(ELYTRON_ENABLED.getAttribute())));
+                                new FailedOperationTransformationConfig.NewAttributesConfig(ELYTRON_ENABLED.getAttribute(), SHORT_RUNNING_WORK_STEALING.getAttribute())));
     }
 
     @Override
@@ -26,6 +26,11 @@ public class ComponentClientInstance implements Serializable {
 
     private final Map<Object, Object> contextInformation = new HashMap<Object, Object>();
     private volatile boolean constructionComplete = false;
+    /**
+     * The context information flattened once construction is complete, so that each invocation can copy it into the
+     * interceptor context without walking the map. Rebuilt lazily after deserialization.
+     */
+    private transient volatile Object[] contextSnapshot;
 
     public Object getViewInstanceData(final Object key) {
         return contextInformation.get(key);
@@ -39,13 +44,34 @@ public class ComponentClientInstance implements Serializable {
     }
 
     void prepareInterceptorContext(InterceptorContext interceptorContext){
-        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
-            interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+        if (!constructionComplete) {
+            for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        Object[] snapshot = contextSnapshot;
+        if (snapshot == null) {
+            contextSnapshot = snapshot = createSnapshot();
+        }
+        for (int i = 0; i < snapshot.length; i += 2) {
+            interceptorContext.putPrivateData(snapshot[i], snapshot[i + 1]);
         }
     }
 
     void constructionComplete() {
+        contextSnapshot = createSnapshot();
         constructionComplete = true;
     }
 
+    private Object[] createSnapshot() {
+        final Object[] snapshot = new Object[contextInformation.size() * 2];
+        int i = 0;
+        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+            snapshot[i++] = entry.getKey();
+            snapshot[i++] = entry.getValue();
+        }
+        return snapshot;
+    }
+
 }
@@ -23,6 +23,9 @@
 package org.jboss.as.ee.component;
 
 import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -30,12 +33,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.utils.DescriptorUtils;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.InterceptorFactoryContext;
 import org.jboss.invocation.Interceptors;
 import org.jboss.invocation.SimpleInterceptorFactoryContext;
 import org.jboss.invocation.proxy.ProxyFactory;
@@ -54,9 +59,25 @@ import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
  */
 public final class ViewService implements Service<ComponentView> {
 
+    /**
+     * Whether interceptors that report themselves as {@link PassThroughInterceptor pass-through} for a method are left
+     * out of that method's interceptor chain. Enabled by default.
+     */
+    private static final boolean TRIM_INTERCEPTOR_CHAINS;
+
+    static {
+        final String value;
+        if (System.getSecurityManager() == null) {
+            value = System.getProperty("org.jboss.as.ee.view.trim-interceptor-chains", "true");
+        } else {
+            value = AccessController.doPrivileged((PrivilegedAction<String>) () -> System.getProperty("org.jboss.as.ee.view.trim-interceptor-chains", "true"));
+        }
+        TRIM_INTERCEPTOR_CHAINS = Boolean.parseBoolean(value);
+    }
+
     private final InjectedValue<Component> componentInjector = new InjectedValue<Component>();
-    private final Map<Method, InterceptorFactory> viewInterceptorFactories;
-    private final Map<Method, InterceptorFactory> clientInterceptorFactories;
+    private final Map<Method, List<InterceptorFactory>> viewInterceptorFactories;
+    private final Map<Method, List<InterceptorFactory>> clientInterceptorFactories;
     private final InterceptorFactory clientPostConstruct;
     private final InterceptorFactory clientPreDestroy;
     private final ProxyFactory<?> proxyFactory;
@@ -79,14 +100,14 @@ public final class ViewService implements Service<ComponentView> {
         final int methodCount = methods.size();
         clientPostConstruct = Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientPostConstructInterceptors());
         clientPreDestroy = Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientPreDestroyInterceptors());
-        final IdentityHashMap<Method, InterceptorFactory> viewInterceptorFactories = new IdentityHashMap<Method, InterceptorFactory>(methodCount);
-        final IdentityHashMap<Method, InterceptorFactory> clientInterceptorFactories = new IdentityHashMap<Method, InterceptorFactory>(methodCount);
+        final IdentityHashMap<Method, List<InterceptorFactory>> viewInterceptorFactories = new IdentityHashMap<Method, List<InterceptorFactory>>(methodCount);
+        final IdentityHashMap<Method, List<InterceptorFactory>> clientInterceptorFactories = new IdentityHashMap<Method, List<InterceptorFactory>>(methodCount);
         for (final Method method : methods) {
             if (method.getName().equals("finalize") && method.getParameterTypes().length == 0) {
-                viewInterceptorFactories.put(method, Interceptors.getTerminalInterceptorFactory());
+                viewInterceptorFactories.put(method, Collections.singletonList(Interceptors.getTerminalInterceptorFactory()));
             } else {
-                viewInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getViewInterceptors(method)));
-                clientInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientInterceptors(method)));
+                viewInterceptorFactories.put(method, viewConfiguration.getViewInterceptors(method));
+                clientInterceptorFactories.put(method, viewConfiguration.getClientInterceptors(method));
             }
         }
         this.viewInterceptorFactories = viewInterceptorFactories;
@@ -118,12 +139,19 @@ public final class ViewService implements Service<ComponentView> {
         clientPostConstructInterceptor = clientPostConstruct.create(factoryContext);
         clientPreDestroyInterceptor = clientPreDestroy.create(factoryContext);
 
-        final Map<Method, InterceptorFactory> clientInterceptorFactories = ViewService.this.clientInterceptorFactories;
-        clientInterceptors = new IdentityHashMap<Method, Interceptor>(clientInterceptorFactories.size());
-        for (Method method : clientInterceptorFactories.keySet()) {
-            clientInterceptors.put(method, clientInterceptorFactories.get(method).create(factoryContext));
+        final Map<Method, List<InterceptorFactory>> clientInterceptorFactories = ViewService.this.clientInterceptorFactories;
+        final Map<Method, Interceptor> clientInterceptors = new IdentityHashMap<Method, Interceptor>(clientInterceptorFactories.size());
+        int eliminated = 0;
+        for (Map.Entry<Method, List<InterceptorFactory>> entry : clientInterceptorFactories.entrySet()) {
+            final List<InterceptorFactory> factories = entry.getValue();
+            final List<Interceptor> interceptors = createInterceptors(factories, factoryContext);
+            eliminated += factories.size() - interceptors.size();
+            clientInterceptors.put(entry.getKey(), Interceptors.getChainedInterceptor(interceptors));
+        }
+        this.clientInterceptors = clientInterceptors;
+        if (eliminated > 0) {
+            ROOT_LOGGER.debugf("Eliminated %d pass-through client interceptors from %s", eliminated, view);
         }
-
 
     }
 
@@ -131,6 +159,29 @@ public final class ViewService implements Service<ComponentView> {
         view = null;
     }
 
+    /**
+     * Create the interceptors for a single method, leaving out any that are pass-through for it.
+     */
+    static List<Interceptor> createInterceptors(final List<InterceptorFactory> factories, final InterceptorFactoryContext factoryContext) {
+        return createInterceptors(factories, factoryContext, TRIM_INTERCEPTOR_CHAINS);
+    }
+
+    /**
+     * Create the interceptors for a single method.
+     *
+     * @param trim whether to leave out the interceptors which are pass-through for the method
+     */
+    static List<Interceptor> createInterceptors(final List<InterceptorFactory> factories, final InterceptorFactoryContext factoryContext, final boolean trim) {
+        final List<Interceptor> interceptors = new ArrayList<Interceptor>(factories.size());
+        for (InterceptorFactory factory : factories) {
+            final Interceptor interceptor = factory.create(factoryContext);
+            if (!trim || interceptor != PassThroughInterceptor.INSTANCE) {
+                interceptors.add(interceptor);
+            }
+        }
+        return interceptors;
+    }
+
     public Injector<Component> getComponentInjector() {
         return componentInjector;
     }
@@ -156,17 +207,25 @@ public final class ViewService implements Service<ComponentView> {
 
         void initializeInterceptors() {
             final SimpleInterceptorFactoryContext factoryContext = new SimpleInterceptorFactoryContext();
-            final Map<Method, InterceptorFactory> viewInterceptorFactories = ViewService.this.viewInterceptorFactories;
+            final Map<Method, List<InterceptorFactory>> viewInterceptorFactories = ViewService.this.viewInterceptorFactories;
             final Map<Method, Interceptor> viewEntryPoints = viewInterceptors;
             factoryContext.getContextData().put(Component.class, component);
             //we don't have this code in the constructor so we avoid passing around
             //a half constructed instance
             factoryContext.getContextData().put(ComponentView.class, this);
 
-            for (Method method : viewInterceptorFactories.keySet()) {
-                viewEntryPoints.put(method, viewInterceptorFactories.get(method).create(factoryContext));
+            int eliminated = 0;
+            for (Map.Entry<Method, List<InterceptorFactory>> entry : viewInterceptorFactories.entrySet()) {
+                final Method method = entry.getKey();
+                final List<InterceptorFactory> factories = entry.getValue();
+                final List<Interceptor> interceptors = createInterceptors(factories, factoryContext);
+                eliminated += factories.size() - interceptors.size();
+                viewEntryPoints.put(method, Interceptors.getChainedInterceptor(interceptors));
                 methods.put(new MethodDescription(method.getName(), DescriptorUtils.methodDescriptor(method)), method);
             }
+            if (eliminated > 0) {
+                ROOT_LOGGER.debugf("Eliminated %d pass-through view interceptors from %s", eliminated, this);
+            }
 
         }
 
@@ -183,6 +183,8 @@ public class InterceptorOrder {
         public static final int SECURITY_IDENTITY_OUTFLOW = 0x340;
         // after security we take note of the invocation
         public static final int EJB_WAIT_TIME_INTERCEPTOR = 0x350;
+        // identical invocations are only coalesced once each of them passed security
+        public static final int EJB_INVOCATION_COALESCING = 0x360;
         public static final int INVOCATION_CONTEXT_INTERCEPTOR = 0x400;
         // should happen before the CMT/BMT interceptors
         /**
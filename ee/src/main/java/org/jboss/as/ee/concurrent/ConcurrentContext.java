@@ -43,7 +43,6 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
@@ -97,6 +96,10 @@ public class ConcurrentContext {
 
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
     private List<ContextHandleFactory> factoryOrderedList;
+    /**
+     * the last saved context, reused while every factory keeps returning the same setup handles
+     */
+    private volatile ChainedSetupContextHandle lastSavedContext;
 
     private volatile ServiceName serviceName;
 
@@ -127,6 +130,7 @@ public class ConcurrentContext {
         SortedSet<ContextHandleFactory> sortedSet = new TreeSet<>(comparator);
         sortedSet.addAll(factoryMap.values());
         factoryOrderedList = new ArrayList<>(sortedSet);
+        lastSavedContext = null;
     }
 
     /**
@@ -136,11 +140,31 @@ public class ConcurrentContext {
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            handles.add(factory.saveContext(contextService, contextObjectProperties));
+        final List<ContextHandleFactory> factories = factoryOrderedList;
+        final int size = factories.size();
+        final ChainedSetupContextHandle last = lastSavedContext;
+        final List<SetupContextHandle> lastHandles = last != null && last.setupHandles.size() == size ? last.setupHandles : null;
+        List<SetupContextHandle> handles = null;
+        for (int i = 0; i < size; i++) {
+            final SetupContextHandle handle = factories.get(i).saveContext(contextService, contextObjectProperties);
+            if (handles == null) {
+                if (lastHandles != null && lastHandles.get(i) == handle) {
+                    continue;
+                }
+                handles = new ArrayList<>(size);
+                if (lastHandles != null) {
+                    handles.addAll(lastHandles.subList(0, i));
+                }
+            }
+            handles.add(handle);
+        }
+        if (handles == null && lastHandles != null) {
+            // every factory returned the same immutable handle as before, the captured context is unchanged
+            return last;
         }
-        return new ChainedSetupContextHandle(this, handles);
+        final ChainedSetupContextHandle chainedSetupContextHandle = new ChainedSetupContextHandle(this, handles != null ? handles : new ArrayList<>(0));
+        lastSavedContext = chainedSetupContextHandle;
+        return chainedSetupContextHandle;
     }
 
     /**
@@ -159,12 +183,11 @@ public class ConcurrentContext {
 
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
-            final LinkedList<ResetContextHandle> resetHandles = new LinkedList<>();
-            final ResetContextHandle resetContextHandle = new ChainedResetContextHandle(resetHandles);
+            final ChainedResetContextHandle resetContextHandle = new ChainedResetContextHandle(setupHandles.size());
             try {
                 ConcurrentContext.pushCurrent(concurrentContext);
                 for (SetupContextHandle handle : setupHandles) {
-                    resetHandles.addFirst(handle.setup());
+                    resetContextHandle.add(handle.setup());
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -272,18 +295,24 @@ public class ConcurrentContext {
     private static class ChainedResetContextHandle implements ResetContextHandle {
 
         private static final long serialVersionUID = 8329909590327062062L;
-        private transient List<ResetContextHandle> resetHandles;
+        private transient ResetContextHandle[] resetHandles;
+        private transient int count;
+
+        private ChainedResetContextHandle(int capacity) {
+            this.resetHandles = new ResetContextHandle[capacity];
+        }
 
-        private ChainedResetContextHandle(List<ResetContextHandle> resetHandles) {
-            this.resetHandles = resetHandles;
+        private void add(ResetContextHandle handle) {
+            resetHandles[count++] = handle;
         }
 
         @Override
         public void reset() {
             if(resetHandles != null) {
-                for (ResetContextHandle handle : resetHandles) {
+                // reset in the reverse order of setup
+                for (int i = count - 1; i >= 0; i--) {
                     try {
-                        handle.reset();
+                        resetHandles[i].reset();
                     } catch (Throwable e) {
                         EeLogger.ROOT_LOGGER.debug("failed to reset handle",e);
                     }
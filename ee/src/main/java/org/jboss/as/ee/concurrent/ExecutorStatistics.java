@@ -0,0 +1,368 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.concurrent.ManagedTask;
+import javax.enterprise.concurrent.ManagedTaskListener;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+
+/**
+ * Runtime statistics of a managed executor: thread pool counters, rejected tasks, queue wait and execution time
+ * histograms, and the tasks currently running. While the statistics are disabled tasks are submitted unwrapped, so
+ * only the thread pool counters are maintained.
+ */
+public class ExecutorStatistics {
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final long hungTaskThreshold;
+    private final LatencyHistogram queueWaitHistogram = new LatencyHistogram();
+    private final LatencyHistogram executionHistogram = new LatencyHistogram();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final Map<MeasuredTask, Thread> runningTasks = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * @param threadPoolExecutor the executor's thread pool
+     * @param hungTaskThreshold  the running time, in milliseconds, for a task to be reported as hung, 0 to report all running tasks
+     */
+    ExecutorStatistics(ThreadPoolExecutor threadPoolExecutor, long hungTaskThreshold) {
+        this.threadPoolExecutor = threadPoolExecutor;
+        this.hungTaskThreshold = hungTaskThreshold;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the statistics. Tasks submitted while the statistics are disabled are not measured, but
+     * tasks already submitted keep being measured.
+     *
+     * @param enabled whether the statistics are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getActiveThreadCount() {
+        return threadPoolExecutor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return threadPoolExecutor.getQueue().size();
+    }
+
+    public long getCompletedTaskCount() {
+        return threadPoolExecutor.getCompletedTaskCount();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * @return the time tasks submitted for immediate execution spent waiting for a thread
+     */
+    public LatencyHistogram getQueueWaitHistogram() {
+        return queueWaitHistogram;
+    }
+
+    /**
+     * @return the time tasks spent running
+     */
+    public LatencyHistogram getExecutionHistogram() {
+        return executionHistogram;
+    }
+
+    /**
+     * Retrieves the tasks which have been running for at least the hung task threshold, or all running tasks if the
+     * executor has no threshold.
+     *
+     * @return the hung tasks
+     */
+    public List<HungTask> getHungTasks() {
+        final long now = System.nanoTime();
+        final List<HungTask> hungTasks = new ArrayList<>();
+        for (Map.Entry<MeasuredTask, Thread> entry : runningTasks.entrySet()) {
+            final long runningTime = TimeUnit.NANOSECONDS.toMillis(now - entry.getKey().started);
+            if (runningTime >= hungTaskThreshold) {
+                hungTasks.add(new HungTask(entry.getValue().getName(), entry.getKey().description, runningTime));
+            }
+        }
+        return hungTasks;
+    }
+
+    void taskRejected() {
+        if (enabled) {
+            rejectedTasks.increment();
+        }
+    }
+
+    /**
+     * Wraps a task so that its execution is measured, unless the statistics are disabled.
+     *
+     * @param runnable the task
+     * @param userTask the task as submitted by the application, before any context wrapping, used to describe the task
+     * @param queued   whether the task is submitted for immediate execution, and its queue wait time should be recorded
+     * @return the wrapped task, or the task itself if the statistics are disabled
+     */
+    Runnable wrap(Runnable runnable, Object userTask, boolean queued) {
+        if (runnable == null || !enabled) {
+            return runnable;
+        }
+        final String description = describe(userTask);
+        return runnable instanceof ManagedTask ? new MeasuredManagedRunnable(runnable, description, queued) : new MeasuredRunnable(runnable, description, queued);
+    }
+
+    /**
+     * Wraps a task so that its execution is measured, unless the statistics are disabled.
+     *
+     * @param callable the task
+     * @param userTask the task as submitted by the application, before any context wrapping, used to describe the task
+     * @param queued   whether the task is submitted for immediate execution, and its queue wait time should be recorded
+     * @return the wrapped task, or the task itself if the statistics are disabled
+     */
+    <T> Callable<T> wrap(Callable<T> callable, Object userTask, boolean queued) {
+        if (callable == null || !enabled) {
+            return callable;
+        }
+        final String description = describe(userTask);
+        return callable instanceof ManagedTask ? new MeasuredManagedCallable<>(callable, description, queued) : new MeasuredCallable<>(callable, description, queued);
+    }
+
+    /**
+     * Describes an application task by its {@link ManagedTask#IDENTITY_NAME} execution property, if any, or else by
+     * its class name, since tasks seldom override {@code toString()}.
+     */
+    static String describe(Object userTask) {
+        if (userTask instanceof ManagedTask) {
+            final Map<String, String> executionProperties = ((ManagedTask) userTask).getExecutionProperties();
+            final String identityName = executionProperties != null ? executionProperties.get(ManagedTask.IDENTITY_NAME) : null;
+            if (identityName != null) {
+                return identityName;
+            }
+        }
+        return userTask.getClass().getName();
+    }
+
+    /**
+     * A task reported by {@link #getHungTasks()}.
+     */
+    public static final class HungTask {
+
+        private final String threadName;
+        private final String task;
+        private final long runningTime;
+
+        HungTask(String threadName, String task, long runningTime) {
+            this.threadName = threadName;
+            this.task = task;
+            this.runningTime = runningTime;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public String getTask() {
+            return task;
+        }
+
+        /**
+         * @return the time, in milliseconds, the task has been running
+         */
+        public long getRunningTime() {
+            return runningTime;
+        }
+    }
+
+    /**
+     * A task wrapper which records the queue wait and execution times of the task.
+     */
+    private abstract class MeasuredTask {
+
+        final Object task;
+        final String description;
+        /**
+         * when the task was queued, 0 if its queue wait time is not (or no longer) recorded
+         */
+        private long queued;
+        volatile long started;
+
+        MeasuredTask(Object task, String description, boolean queued) {
+            this.task = task;
+            this.description = description;
+            this.queued = queued ? System.nanoTime() : 0L;
+        }
+
+        void begin() {
+            final long now = System.nanoTime();
+            if (queued != 0L) {
+                queueWaitHistogram.record(now - queued);
+                // periodic tasks are run again by the same wrapper
+                queued = 0L;
+            }
+            started = now;
+            runningTasks.put(this, Thread.currentThread());
+        }
+
+        void end() {
+            runningTasks.remove(this);
+            executionHistogram.record(System.nanoTime() - started);
+        }
+    }
+
+    private class MeasuredRunnable extends MeasuredTask implements Runnable {
+
+        private final Runnable runnable;
+
+        MeasuredRunnable(Runnable runnable, String description, boolean queued) {
+            super(runnable, description, queued);
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            begin();
+            try {
+                runnable.run();
+            } finally {
+                end();
+            }
+        }
+    }
+
+    private class MeasuredCallable<T> extends MeasuredTask implements Callable<T> {
+
+        private final Callable<T> callable;
+
+        MeasuredCallable(Callable<T> callable, String description, boolean queued) {
+            super(callable, description, queued);
+            this.callable = callable;
+        }
+
+        @Override
+        public T call() throws Exception {
+            begin();
+            try {
+                return callable.call();
+            } finally {
+                end();
+            }
+        }
+    }
+
+    /**
+     * A measured task which is a managed runnable.
+     */
+    private class MeasuredManagedRunnable extends MeasuredRunnable implements ManagedTask {
+
+        private final ManagedTask managedTask;
+        private final ManagedTaskListener managedTaskListener;
+
+        MeasuredManagedRunnable(Runnable runnable, String description, boolean queued) {
+            super(runnable, description, queued);
+            this.managedTask = (ManagedTask) runnable;
+            this.managedTaskListener = managedTask.getManagedTaskListener() != null ? new MeasuredManagedTaskListener(managedTask.getManagedTaskListener()) : null;
+        }
+
+        @Override
+        public Map<String, String> getExecutionProperties() {
+            return managedTask.getExecutionProperties();
+        }
+
+        @Override
+        public ManagedTaskListener getManagedTaskListener() {
+            return managedTaskListener;
+        }
+    }
+
+    /**
+     * A measured task which is a managed callable.
+     */
+    private class MeasuredManagedCallable<T> extends MeasuredCallable<T> implements ManagedTask {
+
+        private final ManagedTask managedTask;
+        private final ManagedTaskListener managedTaskListener;
+
+        MeasuredManagedCallable(Callable<T> callable, String description, boolean queued) {
+            super(callable, description, queued);
+            this.managedTask = (ManagedTask) callable;
+            this.managedTaskListener = managedTask.getManagedTaskListener() != null ? new MeasuredManagedTaskListener(managedTask.getManagedTaskListener()) : null;
+        }
+
+        @Override
+        public Map<String, String> getExecutionProperties() {
+            return managedTask.getExecutionProperties();
+        }
+
+        @Override
+        public ManagedTaskListener getManagedTaskListener() {
+            return managedTaskListener;
+        }
+    }
+
+    /**
+     * A managed task listener for measured tasks, which hands the wrapped task to the listener.
+     */
+    private static class MeasuredManagedTaskListener implements ManagedTaskListener {
+
+        private final ManagedTaskListener managedTaskListener;
+
+        MeasuredManagedTaskListener(ManagedTaskListener managedTaskListener) {
+            this.managedTaskListener = managedTaskListener;
+        }
+
+        @Override
+        public void taskAborted(Future<?> future, ManagedExecutorService executor, Object task, Throwable exception) {
+            managedTaskListener.taskAborted(future, executor, ((MeasuredTask) task).task, exception);
+        }
+
+        @Override
+        public void taskDone(Future<?> future, ManagedExecutorService executor, Object task, Throwable exception) {
+            managedTaskListener.taskDone(future, executor, ((MeasuredTask) task).task, exception);
+        }
+
+        @Override
+        public void taskStarting(Future<?> future, ManagedExecutorService executor, Object task) {
+            managedTaskListener.taskStarting(future, executor, ((MeasuredTask) task).task);
+        }
+
+        @Override
+        public void taskSubmitted(Future<?> future, ManagedExecutorService executor, Object task) {
+            managedTaskListener.taskSubmitted(future, executor, ((MeasuredTask) task).task);
+        }
+    }
+}
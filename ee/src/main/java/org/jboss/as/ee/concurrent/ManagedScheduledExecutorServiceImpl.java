@@ -30,7 +30,9 @@ import javax.enterprise.concurrent.Trigger;
 import java.util.Date;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doScheduledWrap;
@@ -44,64 +46,120 @@ import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterprise.concurrent.ManagedScheduledExecutorServiceImpl {
 
     private final ControlPoint controlPoint;
+    private final ExecutorStatistics statistics;
 
     public ManagedScheduledExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
+        this.statistics = new ExecutorStatistics((ThreadPoolExecutor) getThreadPoolExecutor(), hungTaskThreshold);
+    }
+
+    public ExecutorStatistics getStatistics() {
+        return statistics;
     }
 
     @Override
     public void execute(Runnable command) {
-        super.execute(doIdentityWrap(doWrap(command, controlPoint)));
+        try {
+            super.execute(statistics.wrap(doIdentityWrap(doWrap(command, controlPoint)), command, true));
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public Future<?> submit(Runnable task) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)));
+        try {
+            return super.submit(statistics.wrap(doIdentityWrap(doWrap(task, controlPoint)), task, true));
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)), result);
+        try {
+            return super.submit(statistics.wrap(doIdentityWrap(doWrap(task, controlPoint)), task, true), result);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)));
+        try {
+            return super.submit(statistics.wrap(doIdentityWrap(doWrap(task, controlPoint)), task, true));
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public ScheduledFuture<?> schedule(Runnable command, Trigger trigger) {
         final CancellableTrigger ctrigger = new CancellableTrigger(trigger);
-        ctrigger.future = super.schedule(doIdentityWrap(doScheduledWrap(command, controlPoint)), ctrigger);
+        try {
+            ctrigger.future = super.schedule(statistics.wrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), command, false), ctrigger);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
         return ctrigger.future;
     }
 
     @Override
     public <V> ScheduledFuture<V> schedule(Callable<V> callable, Trigger trigger) {
         final CancellableTrigger ctrigger = new CancellableTrigger(trigger);
-        ctrigger.future = super.schedule(doIdentityWrap(doScheduledWrap(callable, controlPoint)), ctrigger);
+        try {
+            ctrigger.future = super.schedule(statistics.wrap(doIdentityWrap(doScheduledWrap(callable, controlPoint)), callable, false), ctrigger);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
         return ctrigger.future;
     }
 
     @Override
     public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        return super.schedule(doIdentityWrap(doScheduledWrap(command, controlPoint)), delay, unit);
+        try {
+            return super.schedule(statistics.wrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), command, false), delay, unit);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        return super.schedule(doIdentityWrap(doScheduledWrap(callable, controlPoint)), delay, unit);
+        try {
+            return super.schedule(statistics.wrap(doIdentityWrap(doScheduledWrap(callable, controlPoint)), callable, false), delay, unit);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-        return super.scheduleAtFixedRate(doIdentityWrap(doScheduledWrap(command, controlPoint)), initialDelay, period, unit);
+        try {
+            return super.scheduleAtFixedRate(statistics.wrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), command, false), initialDelay, period, unit);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     @Override
     public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-        return super.scheduleWithFixedDelay(doIdentityWrap(doScheduledWrap(command, controlPoint)), initialDelay, delay, unit);
+        try {
+            return super.scheduleWithFixedDelay(statistics.wrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), command, false), initialDelay, delay, unit);
+        } catch (RejectedExecutionException e) {
+            statistics.taskRejected();
+            throw e;
+        }
     }
 
     /**
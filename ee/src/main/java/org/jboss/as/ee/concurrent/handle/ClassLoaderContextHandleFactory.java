@@ -40,14 +40,17 @@ public class ClassLoaderContextHandleFactory implements ContextHandleFactory {
     public static final String NAME = "CLASSLOADER";
 
     private final ClassLoader classLoader;
+    private final SetupContextHandle setupContextHandle;
 
     public ClassLoaderContextHandleFactory(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        // the handle is immutable, share it across all saved contexts
+        this.setupContextHandle = new ClassLoaderSetupContextHandle(classLoader);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new ClassLoaderSetupContextHandle(classLoader);
+        return setupContextHandle;
     }
 
     @Override
@@ -66,7 +69,7 @@ public class ClassLoaderContextHandleFactory implements ContextHandleFactory {
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new ClassLoaderSetupContextHandle(classLoader);
+        return setupContextHandle;
     }
 
     static class ClassLoaderSetupContextHandle implements SetupContextHandle {
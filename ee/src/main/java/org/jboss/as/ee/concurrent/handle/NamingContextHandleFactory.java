@@ -43,15 +43,18 @@ public class NamingContextHandleFactory implements ContextHandleFactory {
 
     private final NamespaceContextSelector namespaceContextSelector;
     private final ServiceName duServiceName;
+    private final NamingContextHandle contextHandle;
 
     public NamingContextHandleFactory(NamespaceContextSelector namespaceContextSelector, ServiceName duServiceName) {
         this.namespaceContextSelector = namespaceContextSelector;
         this.duServiceName = duServiceName;
+        // the handle keeps no per invocation state, share it across all saved contexts
+        this.contextHandle = new NamingContextHandle(namespaceContextSelector, duServiceName);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new NamingContextHandle(namespaceContextSelector,duServiceName);
+        return contextHandle;
     }
 
     @Override
@@ -70,7 +73,7 @@ public class NamingContextHandleFactory implements ContextHandleFactory {
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new NamingContextHandle(namespaceContextSelector,duServiceName);
+        return contextHandle;
     }
 
     private static class NamingContextHandle implements SetupContextHandle, ResetContextHandle {
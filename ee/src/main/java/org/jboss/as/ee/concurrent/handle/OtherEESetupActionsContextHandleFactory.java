@@ -29,7 +29,6 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -43,14 +42,17 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
     public static final String NAME = "EE_SETUP_ACTIONS";
 
     private final List<SetupAction> setupActions;
+    private final SetupContextHandle setupContextHandle;
 
     public OtherEESetupActionsContextHandleFactory(List<SetupAction> setupActions) {
         this.setupActions = setupActions;
+        // the handle is immutable, share it across all saved contexts
+        this.setupContextHandle = new OtherEESetupActionsSetupContextHandle(setupActions);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new OtherEESetupActionsSetupContextHandle(setupActions);
+        return setupContextHandle;
     }
 
     @Override
@@ -69,7 +71,7 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new OtherEESetupActionsSetupContextHandle(setupActions);
+        return setupContextHandle;
     }
 
     private static class OtherEESetupActionsSetupContextHandle implements SetupContextHandle {
@@ -88,12 +90,11 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
 
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
-            final LinkedList<SetupAction> resetActions = new LinkedList<>();
-            final OtherEESetupActionsResetContextHandle resetContextHandle = new OtherEESetupActionsResetContextHandle(resetActions);
+            final OtherEESetupActionsResetContextHandle resetContextHandle = new OtherEESetupActionsResetContextHandle(setupActions);
             try {
                 for (SetupAction setupAction : this.setupActions) {
                     setupAction.setup(Collections.<String, Object>emptyMap());
-                    resetActions.addFirst(setupAction);
+                    resetContextHandle.count++;
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -117,6 +118,10 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
 
         private static final long serialVersionUID = -1279030727101664631L;
         private List<SetupAction> resetActions;
+        /**
+         * the number of actions, from the start of the list, which were set up and need a teardown
+         */
+        private int count;
 
         private OtherEESetupActionsResetContextHandle(List<SetupAction> resetActions) {
             this.resetActions = resetActions;
@@ -130,9 +135,10 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
         @Override
         public void reset() {
             if(resetActions != null) {
-                for (SetupAction resetAction : this.resetActions) {
+                // teardown in the reverse order of setup
+                for (int i = count - 1; i >= 0; i--) {
                     try {
-                        resetAction.teardown(Collections.<String, Object>emptyMap());
+                        resetActions.get(i).teardown(Collections.<String, Object>emptyMap());
                     } catch (Throwable e) {
                         EeLogger.ROOT_LOGGER.debug("failed to teardown action",e);
                     }
@@ -25,6 +25,7 @@ package org.jboss.as.ee.concurrent.service;
 import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedExecutorServiceAdapter;
+import org.jboss.as.ee.concurrent.ExecutorStatistics;
 import org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl;
 import org.jboss.as.ee.concurrent.ManagedExecutorServiceImpl;
 import org.jboss.as.ee.logging.EeLogger;
@@ -123,6 +124,14 @@ public class ManagedExecutorServiceService extends EEConcurrentAbstractService<M
         return executorService.getAdapter();
     }
 
+    /**
+     * @return the executor's runtime statistics, or {@code null} if the executor is not started
+     */
+    public ExecutorStatistics getStatistics() {
+        final ManagedExecutorServiceImpl executorService = this.executorService;
+        return executorService != null ? executorService.getStatistics() : null;
+    }
+
     public Injector<ManagedThreadFactoryImpl> getManagedThreadFactoryInjector() {
         return managedThreadFactoryInjectedValue;
     }
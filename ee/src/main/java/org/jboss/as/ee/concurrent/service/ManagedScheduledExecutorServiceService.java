@@ -25,6 +25,7 @@ package org.jboss.as.ee.concurrent.service;
 import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedScheduledExecutorServiceAdapter;
+import org.jboss.as.ee.concurrent.ExecutorStatistics;
 import org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl;
 import org.jboss.as.ee.concurrent.ManagedScheduledExecutorServiceImpl;
 import org.jboss.as.ee.logging.EeLogger;
@@ -118,6 +119,14 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
         return executorService.getAdapter();
     }
 
+    /**
+     * @return the executor's runtime statistics, or {@code null} if the executor is not started
+     */
+    public ExecutorStatistics getStatistics() {
+        final ManagedScheduledExecutorServiceImpl executorService = this.executorService;
+        return executorService != null ? executorService.getStatistics() : null;
+    }
+
     public Injector<ManagedThreadFactoryImpl> getManagedThreadFactoryInjector() {
         return managedThreadFactoryInjectedValue;
     }
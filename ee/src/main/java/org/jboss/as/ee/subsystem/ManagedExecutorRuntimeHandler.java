@@ -0,0 +1,198 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STATISTICS_ENABLED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.concurrent.ExecutorStatistics;
+import org.jboss.as.ee.concurrent.service.ManagedExecutorServiceService;
+import org.jboss.as.ee.concurrent.service.ManagedScheduledExecutorServiceService;
+import org.jboss.as.ee.utils.LatencyHistogramAttributes;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Handler for the runtime metrics, the statistics switch and the hung task report of managed executor services and
+ * managed scheduled executor services.
+ */
+class ManagedExecutorRuntimeHandler extends AbstractRuntimeOnlyHandler {
+
+    static final String ACTIVE_THREAD_COUNT = "active-thread-count";
+    static final String CURRENT_QUEUE_SIZE = "current-queue-size";
+    static final String COMPLETED_TASK_COUNT = "completed-task-count";
+    static final String REJECTED_TASK_COUNT = "rejected-task-count";
+    static final String QUEUE_WAIT_LATENCY = "queue-wait-latency";
+    static final String EXECUTION_LATENCY = "execution-latency";
+    static final String LIST_HUNG_TASKS = "list-hung-tasks";
+
+    private static final String THREAD = "thread";
+    private static final String TASK = "task";
+    private static final String RUNNING_TIME = "running-time";
+
+    static final AttributeDefinition STATISTICS_ENABLED_AD = new SimpleAttributeDefinitionBuilder(STATISTICS_ENABLED, ModelType.BOOLEAN, true)
+            .setDefaultValue(ModelNode.TRUE)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition ACTIVE_THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(ACTIVE_THREAD_COUNT, ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    static final AttributeDefinition CURRENT_QUEUE_SIZE_AD = new SimpleAttributeDefinitionBuilder(CURRENT_QUEUE_SIZE, ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    static final AttributeDefinition COMPLETED_TASK_COUNT_AD = new SimpleAttributeDefinitionBuilder(COMPLETED_TASK_COUNT, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition REJECTED_TASK_COUNT_AD = new SimpleAttributeDefinitionBuilder(REJECTED_TASK_COUNT, ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition QUEUE_WAIT_LATENCY_AD = LatencyHistogramAttributes.createDefinition(QUEUE_WAIT_LATENCY);
+
+    static final AttributeDefinition EXECUTION_LATENCY_AD = LatencyHistogramAttributes.createDefinition(EXECUTION_LATENCY);
+
+    static final AttributeDefinition[] METRICS = {ACTIVE_THREAD_COUNT_AD, CURRENT_QUEUE_SIZE_AD, COMPLETED_TASK_COUNT_AD, REJECTED_TASK_COUNT_AD, QUEUE_WAIT_LATENCY_AD, EXECUTION_LATENCY_AD};
+
+    private final RuntimeCapability<Void> capability;
+
+    private ManagedExecutorRuntimeHandler(final RuntimeCapability<Void> capability) {
+        this.capability = capability;
+    }
+
+    /**
+     * Registers the runtime metrics and the statistics switch of an executor resource.
+     *
+     * @param resourceRegistration the executor resource's registration
+     * @param capability           the executor resource's capability, which names the executor's service
+     */
+    static void registerMetrics(final ManagementResourceRegistration resourceRegistration, final RuntimeCapability<Void> capability) {
+        if (resourceRegistration.getProcessType().isServer()) {
+            final ManagedExecutorRuntimeHandler handler = new ManagedExecutorRuntimeHandler(capability);
+            resourceRegistration.registerReadWriteAttribute(STATISTICS_ENABLED_AD, handler, handler);
+            for (AttributeDefinition metric : METRICS) {
+                resourceRegistration.registerMetric(metric, handler);
+            }
+        }
+    }
+
+    /**
+     * Registers the hung task report operation of an executor resource.
+     *
+     * @param resourceRegistration the executor resource's registration
+     * @param resolver             the executor resource's description resolver
+     * @param capability           the executor resource's capability, which names the executor's service
+     */
+    static void registerOperations(final ManagementResourceRegistration resourceRegistration, final ResourceDescriptionResolver resolver, final RuntimeCapability<Void> capability) {
+        if (resourceRegistration.getProcessType().isServer()) {
+            resourceRegistration.registerOperationHandler(new SimpleOperationDefinitionBuilder(LIST_HUNG_TASKS, resolver)
+                    .setRuntimeOnly()
+                    .setReadOnly()
+                    .setReplyType(ModelType.LIST)
+                    .setReplyValueType(ModelType.OBJECT)
+                    .build(), new ManagedExecutorRuntimeHandler(capability));
+        }
+    }
+
+    @Override
+    protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final ExecutorStatistics statistics = getStatistics(context);
+        if (statistics == null) {
+            // the executor is not started
+            return;
+        }
+        final ModelNode result = context.getResult();
+        if (LIST_HUNG_TASKS.equals(operation.get(OP).asString())) {
+            result.setEmptyList();
+            for (ExecutorStatistics.HungTask hungTask : statistics.getHungTasks()) {
+                final ModelNode task = new ModelNode();
+                task.get(THREAD).set(hungTask.getThreadName());
+                task.get(TASK).set(hungTask.getTask());
+                task.get(RUNNING_TIME).set(hungTask.getRunningTime());
+                result.add(task);
+            }
+            return;
+        }
+        if (WRITE_ATTRIBUTE_OPERATION.equals(operation.get(OP).asString())) {
+            // the switch is not persisted, a restarted executor collects statistics again
+            statistics.setEnabled(STATISTICS_ENABLED_AD.resolveValue(context, operation.get(VALUE)).asBoolean());
+            return;
+        }
+        switch (operation.require(NAME).asString()) {
+            case STATISTICS_ENABLED:
+                result.set(statistics.isEnabled());
+                break;
+            case ACTIVE_THREAD_COUNT:
+                result.set(statistics.getActiveThreadCount());
+                break;
+            case CURRENT_QUEUE_SIZE:
+                result.set(statistics.getQueueSize());
+                break;
+            case COMPLETED_TASK_COUNT:
+                result.set(statistics.getCompletedTaskCount());
+                break;
+            case REJECTED_TASK_COUNT:
+                result.set(statistics.getRejectedTaskCount());
+                break;
+            case QUEUE_WAIT_LATENCY:
+                LatencyHistogramAttributes.setValue(result, statistics.getQueueWaitHistogram());
+                break;
+            case EXECUTION_LATENCY:
+                LatencyHistogramAttributes.setValue(result, statistics.getExecutionHistogram());
+                break;
+        }
+    }
+
+    private ExecutorStatistics getStatistics(final OperationContext context) {
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(capability.getCapabilityServiceName(context.getCurrentAddressValue()));
+        if (controller == null) {
+            return null;
+        }
+        final Service<?> service = controller.getService();
+        if (service instanceof ManagedExecutorServiceService) {
+            return ((ManagedExecutorServiceService) service).getStatistics();
+        }
+        if (service instanceof ManagedScheduledExecutorServiceService) {
+            return ((ManagedScheduledExecutorServiceService) service).getStatistics();
+        }
+        return null;
+    }
+}
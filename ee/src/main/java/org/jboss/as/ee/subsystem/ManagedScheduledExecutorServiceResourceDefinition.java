@@ -144,6 +144,13 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, writeHandler);
         }
+        ManagedExecutorRuntimeHandler.registerMetrics(resourceRegistration, CAPABILITY);
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        ManagedExecutorRuntimeHandler.registerOperations(resourceRegistration, getResourceDescriptionResolver(), CAPABILITY);
     }
 
     void registerTransformers_4_0(final ResourceTransformationDescriptionBuilder builder) {
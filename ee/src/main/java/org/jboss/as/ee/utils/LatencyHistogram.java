@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram using base 2 exponential buckets, i.e. bucket <em>n</em> counts durations
+ * within [2<sup>n-1</sup>, 2<sup>n</sup>) nanoseconds. Percentiles are therefore reported as the upper bound of their bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the specified duration.
+     * @param nanos a duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0L);
+        this.buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(duration));
+        this.count.increment();
+        this.total.add(duration);
+        long current = this.max.get();
+        while ((duration > current) && !this.max.compareAndSet(current, duration)) {
+            current = this.max.get();
+        }
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return the average duration in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getAverage() {
+        long count = this.count.sum();
+        return (count > 0) ? this.total.sum() / count : 0L;
+    }
+
+    /**
+     * @return the maximum duration in nanoseconds
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns an estimate of the specified percentile.
+     * @param percentile a percentile within (0, 100]
+     * @return the upper bound, in nanoseconds, of the bucket containing the specified percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) return 0L;
+        long rank = (long) Math.ceil(count * percentile / 100d);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                // Never report more than the observed maximum
+                return Math.min((1L << i) - 1, this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.utils;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Management model representation of a {@link LatencyHistogram}, shared by the subsystems which expose latency metrics.
+ */
+public final class LatencyHistogramAttributes {
+
+    private static final String COUNT = "count";
+    private static final String AVERAGE = "average";
+    private static final String MAX = "max";
+    private static final String P50 = "p50";
+    private static final String P90 = "p90";
+    private static final String P99 = "p99";
+
+    private LatencyHistogramAttributes() {
+    }
+
+    /**
+     * Creates the definition of a runtime latency metric, an object holding the count, average, maximum and
+     * percentiles of a histogram.
+     *
+     * @param name the attribute name
+     * @return the attribute definition
+     */
+    public static AttributeDefinition createDefinition(String name) {
+        return ObjectTypeAttributeDefinition.Builder.of(name,
+                createField(COUNT, null),
+                createField(AVERAGE, MeasurementUnit.NANOSECONDS),
+                createField(MAX, MeasurementUnit.NANOSECONDS),
+                createField(P50, MeasurementUnit.NANOSECONDS),
+                createField(P90, MeasurementUnit.NANOSECONDS),
+                createField(P99, MeasurementUnit.NANOSECONDS))
+                .setRequired(false)
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                .build();
+    }
+
+    /**
+     * Sets the value of a latency metric created by {@link #createDefinition(String)}.
+     *
+     * @param result    the operation result
+     * @param histogram the histogram
+     */
+    public static void setValue(ModelNode result, LatencyHistogram histogram) {
+        result.get(COUNT).set(histogram.getCount());
+        result.get(AVERAGE).set(histogram.getAverage());
+        result.get(MAX).set(histogram.getMax());
+        result.get(P50).set(histogram.getPercentile(50));
+        result.get(P90).set(histogram.getPercentile(90));
+        result.get(P99).set(histogram.getPercentile(99));
+    }
+
+    private static AttributeDefinition createField(String name, MeasurementUnit unit) {
+        SimpleAttributeDefinitionBuilder builder = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG, true);
+        if (unit != null) {
+            builder.setMeasurementUnit(unit);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.component;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.SimpleInterceptorFactoryContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the creation of the interceptor chains of a {@link ViewService}.
+ */
+public class ViewServiceTestCase {
+
+    private final Interceptor first = new TestInterceptor();
+    private final Interceptor second = new TestInterceptor();
+    private final List<InterceptorFactory> factories = Arrays.asList(new ImmediateInterceptorFactory(this.first),
+            PassThroughInterceptor.FACTORY, new ImmediateInterceptorFactory(this.second), PassThroughInterceptor.FACTORY);
+
+    @Test
+    public void testPassThroughInterceptorsAreDroppedWhenTrimming() {
+        List<Interceptor> interceptors = ViewService.createInterceptors(this.factories, new SimpleInterceptorFactoryContext(), true);
+        Assert.assertEquals(Arrays.asList(this.first, this.second), interceptors);
+    }
+
+    @Test
+    public void testPassThroughInterceptorsAreKeptWhenNotTrimming() {
+        List<Interceptor> interceptors = ViewService.createInterceptors(this.factories, new SimpleInterceptorFactoryContext(), false);
+        Assert.assertEquals(Arrays.asList(this.first, PassThroughInterceptor.INSTANCE, this.second, PassThroughInterceptor.INSTANCE), interceptors);
+    }
+
+    private static class TestInterceptor implements Interceptor {
+        @Override
+        public Object processInvocation(InterceptorContext context) throws Exception {
+            return context.proceed();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ManagedTask;
+import javax.enterprise.concurrent.ManagedTaskListener;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ExecutorStatistics}.
+ */
+public class ExecutorStatisticsTestCase {
+
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void statistics() throws Exception {
+        ExecutorStatistics statistics = new ExecutorStatistics(executor, 0L);
+        Runnable task = () -> { };
+        executor.submit(statistics.wrap(task, task, true)).get();
+        Future<String> future = executor.submit(statistics.wrap(() -> "result", task, false));
+        assertEquals("result", future.get());
+        statistics.taskRejected();
+
+        assertEquals(2L, statistics.getExecutionHistogram().getCount());
+        // Only the task submitted for immediate execution records its queue wait
+        assertEquals(1L, statistics.getQueueWaitHistogram().getCount());
+        assertEquals(1L, statistics.getRejectedTaskCount());
+        assertTrue(statistics.getHungTasks().isEmpty());
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        ExecutorStatistics statistics = new ExecutorStatistics(executor, 0L);
+        statistics.setEnabled(false);
+        Runnable task = () -> { };
+        Runnable wrapped = statistics.wrap(task, task, true);
+        assertSame(task, wrapped);
+        executor.submit(wrapped).get();
+        Callable<String> callable = () -> "result";
+        assertSame(callable, statistics.wrap(callable, callable, false));
+        statistics.taskRejected();
+
+        assertEquals(0L, statistics.getExecutionHistogram().getCount());
+        assertEquals(0L, statistics.getQueueWaitHistogram().getCount());
+        assertEquals(0L, statistics.getRejectedTaskCount());
+
+        // Re-enabling measures the tasks submitted afterwards
+        statistics.setEnabled(true);
+        executor.submit(statistics.wrap(task, task, true)).get();
+        assertEquals(1L, statistics.getExecutionHistogram().getCount());
+    }
+
+    @Test
+    public void hungTasks() throws Exception {
+        ExecutorStatistics statistics = new ExecutorStatistics(executor, 0L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserTask task = new UserTask(started, release);
+        // Mimic the context wrapping applied by the executor, which hides the application task
+        Runnable contextual = () -> task.run();
+        Future<?> future = executor.submit(statistics.wrap(contextual, task, true));
+        try {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            List<ExecutorStatistics.HungTask> hungTasks = statistics.getHungTasks();
+            assertEquals(1, hungTasks.size());
+            assertEquals(UserTask.class.getName(), hungTasks.get(0).getTask());
+            assertTrue(hungTasks.get(0).getThreadName() != null);
+        } finally {
+            release.countDown();
+        }
+        future.get();
+        assertTrue(statistics.getHungTasks().isEmpty());
+    }
+
+    @Test
+    public void hungTaskThreshold() throws Exception {
+        ExecutorStatistics statistics = new ExecutorStatistics(executor, TimeUnit.HOURS.toMillis(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserTask task = new UserTask(started, release);
+        Future<?> future = executor.submit(statistics.wrap(task, task, true));
+        try {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(statistics.getHungTasks().isEmpty());
+        } finally {
+            release.countDown();
+        }
+        future.get();
+    }
+
+    @Test
+    public void describe() {
+        assertEquals(UserTask.class.getName(), ExecutorStatistics.describe(new UserTask(null, null)));
+        assertEquals("identity", ExecutorStatistics.describe(new IdentifiedTask("identity")));
+        assertEquals(IdentifiedTask.class.getName(), ExecutorStatistics.describe(new IdentifiedTask(null)));
+    }
+
+    private static class UserTask implements Runnable {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        UserTask(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public void run() {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class IdentifiedTask implements Runnable, ManagedTask {
+        private final String identityName;
+
+        IdentifiedTask(String identityName) {
+            this.identityName = identityName;
+        }
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Map<String, String> getExecutionProperties() {
+            return identityName != null ? Collections.singletonMap(ManagedTask.IDENTITY_NAME, identityName) : null;
+        }
+
+        @Override
+        public ManagedTaskListener getManagedTaskListener() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.coalescing;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
+
+/**
+ * Metadata represents the methods of an EJB whose concurrent, identical remote invocations may be coalesced,
+ * as configured via the jboss-ejb3.xml deployment descriptor.
+ */
+public class EJBBoundInvocationCoalescingMetaData extends AbstractEJBBoundMetaData {
+
+    private final Set<String> methodNames = new LinkedHashSet<>();
+
+    /**
+     * Returns the names of the coalesced methods. An empty set denotes all methods.
+     * @return a set of method names
+     */
+    public Set<String> getMethodNames() {
+        return this.methodNames;
+    }
+
+    public void addMethodName(final String methodName) {
+        this.methodNames.add(methodName);
+    }
+}
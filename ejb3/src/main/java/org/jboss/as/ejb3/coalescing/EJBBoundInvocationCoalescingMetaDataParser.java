@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.coalescing;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaDataParser;
+import org.jboss.metadata.property.PropertyReplacer;
+
+/**
+ * Parser for <code>urn:invocation-coalescing</code> namespace. The <code>urn:invocation-coalescing</code> namespace elements
+ * can be used to enable coalescing of identical concurrent remote invocations for EJBs.
+ */
+public class EJBBoundInvocationCoalescingMetaDataParser extends AbstractEJBBoundMetaDataParser<EJBBoundInvocationCoalescingMetaData> {
+
+    public static final String NAMESPACE_URI = "urn:invocation-coalescing:1.0";
+    public static final EJBBoundInvocationCoalescingMetaDataParser INSTANCE = new EJBBoundInvocationCoalescingMetaDataParser();
+
+    private static final String ROOT_ELEMENT_COALESCING = "coalescing";
+    private static final String ELEMENT_METHOD_NAME = "method-name";
+
+    private EJBBoundInvocationCoalescingMetaDataParser() {
+    }
+
+    @Override
+    public EJBBoundInvocationCoalescingMetaData parse(final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String element = reader.getLocalName();
+        // we only parse <coalescing> (root) element
+        if (!ROOT_ELEMENT_COALESCING.equals(element)) {
+            throw unexpectedElement(reader);
+        }
+        final EJBBoundInvocationCoalescingMetaData metaData = new EJBBoundInvocationCoalescingMetaData();
+        this.processElements(metaData, reader, propertyReplacer);
+        return metaData;
+    }
+
+    @Override
+    protected void processElement(final EJBBoundInvocationCoalescingMetaData metaData, final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        // if it doesn't belong to our namespace then let the super handle this
+        if (!NAMESPACE_URI.equals(reader.getNamespaceURI())) {
+            super.processElement(metaData, reader, propertyReplacer);
+            return;
+        }
+        if (ELEMENT_METHOD_NAME.equals(reader.getLocalName())) {
+            metaData.addMethodName(getElementText(reader, propertyReplacer).trim());
+        } else {
+            throw unexpectedElement(reader);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.coalescing;
+
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.as.ee.component.ComponentView;
+
+/**
+ * Coalesces identical, concurrent invocations of side-effect free EJB methods.
+ * The first invocation for a given {@link Key} executes normally; any identical invocation that arrives while it is
+ * still in progress waits for, and shares, its result instead of invoking the bean again.
+ * Only results are shared: if the first invocation fails, is cancelled, or does not complete in time, the waiting
+ * invocations proceed on their own.
+ */
+public class InvocationCoalescer {
+
+    private static final long DEFAULT_MAX_WAIT = TimeUnit.SECONDS.toNanos(30);
+    // How often a waiting invocation checks whether it was cancelled
+    private static final long CANCEL_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Set<String> methodNames;
+    private final long maxWait;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> invocations = new ConcurrentHashMap<>();
+    private final LongAdder coalescedInvocations = new LongAdder();
+
+    /**
+     * @param methodNames the names of the coalesced methods, where an empty set or "*" denotes all methods
+     */
+    public InvocationCoalescer(Set<String> methodNames) {
+        this(methodNames, DEFAULT_MAX_WAIT, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param methodNames the names of the coalesced methods, where an empty set or "*" denotes all methods
+     * @param maxWait the maximum time an invocation waits for an identical invocation in progress, before invoking the bean itself
+     * @param unit the unit of the maximum wait
+     */
+    public InvocationCoalescer(Set<String> methodNames, long maxWait, TimeUnit unit) {
+        this.methodNames = (methodNames.isEmpty() || methodNames.contains("*")) ? Collections.emptySet() : methodNames;
+        this.maxWait = unit.toNanos(maxWait);
+    }
+
+    /**
+     * Indicates whether invocations of the specified method may be coalesced.
+     * @param method a view method
+     * @return true, if invocations of this method may be coalesced, false otherwise
+     */
+    public boolean isCoalesced(Method method) {
+        return this.methodNames.isEmpty() || this.methodNames.contains(method.getName());
+    }
+
+    /**
+     * Invokes the specified task, unless an invocation with an equal key is already in progress,
+     * in which case the result of that invocation is returned instead.
+     * If that invocation does not return a result within the maximum wait, the task is invoked.
+     * @param key the invocation key
+     * @param task the invocation
+     * @param cancelled indicates whether this invocation was cancelled
+     * @return the result of the invocation
+     * @throws CancellationException if this invocation was cancelled while waiting for an identical invocation
+     * @throws Exception the exception thrown by the task
+     */
+    public Object invoke(Key key, Callable<Object> task, BooleanSupplier cancelled) throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = this.invocations.putIfAbsent(key, future);
+        if (existing != null) {
+            if (this.await(existing, cancelled)) {
+                this.coalescedInvocations.increment();
+                return existing.join();
+            }
+            // The identical invocation failed, was cancelled or takes too long; exceptions are specific to the invocation that raised them and are never shared
+            return task.call();
+        }
+        try {
+            Object result = task.call();
+            if (cancelled.getAsBoolean()) {
+                // The result of a cancelled invocation may be incomplete, let the waiting invocations proceed on their own
+                future.cancel(false);
+            } else {
+                future.complete(result);
+            }
+            return result;
+        } catch (Exception | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.invocations.remove(key, future);
+        }
+    }
+
+    /**
+     * Waits for the specified invocation to return a result.
+     * @return true, if the invocation returned a result, false if it failed, was cancelled, or did not complete within the maximum wait
+     */
+    private boolean await(CompletableFuture<Object> invocation, BooleanSupplier cancelled) {
+        long deadline = System.nanoTime() + this.maxWait;
+        long remaining = this.maxWait;
+        while (remaining > 0) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            try {
+                invocation.get(Math.min(remaining, CANCEL_CHECK_INTERVAL), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (ExecutionException | CancellationException e) {
+                return false;
+            } catch (TimeoutException e) {
+                remaining = deadline - System.nanoTime();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of invocations that were served by an identical invocation already in progress.
+     * @return a number of invocations
+     */
+    public long getCoalescedInvocations() {
+        return this.coalescedInvocations.sum();
+    }
+
+    /**
+     * Identifies an invocation: the view and method invoked, the parameters and context data, and the calling principal.
+     */
+    public static class Key {
+        private final ComponentView view;
+        private final Method method;
+        private final Object[] parameters;
+        private final Principal principal;
+        private final Map<String, Object> contextData;
+        private final int hashCode;
+
+        public Key(ComponentView view, Method method, Object[] parameters, Principal principal, Map<String, Object> contextData) {
+            this.view = view;
+            this.method = method;
+            this.parameters = parameters;
+            this.principal = principal;
+            // Defensively copy, as the context data of an invocation is mutated by the invocation
+            this.contextData = (contextData != null) ? new HashMap<>(contextData) : Collections.emptyMap();
+            this.hashCode = Objects.hash(System.identityHashCode(view), method, Arrays.deepHashCode(parameters), principal, this.contextData);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) return false;
+            Key key = (Key) object;
+            return (this.view == key.view) && this.method.equals(key.method) && Arrays.deepEquals(this.parameters, key.parameters)
+                    && Objects.equals(this.principal, key.principal) && this.contextData.equals(key.contextData);
+        }
+    }
+}
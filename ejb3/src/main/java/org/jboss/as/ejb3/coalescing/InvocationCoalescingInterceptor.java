@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.coalescing;
+
+import java.lang.reflect.Method;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
+import org.jboss.as.ejb3.component.interceptors.CancellationFlag;
+import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
+import org.jboss.ejb.client.SessionID;
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactory;
+
+/**
+ * View interceptor which coalesces identical, concurrent remote invocations of a component that enables invocation
+ * coalescing. It runs after the security interceptors, so each invocation is authorized on its own before it may share
+ * the result of another.
+ * <p>
+ * Only remote invocations are coalesced, as their result is marshalled separately for each caller. Invocations which
+ * would receive the result by reference, are asynchronous, target a stateful session, run in a transaction or expect
+ * context data in return proceed as usual.
+ */
+public class InvocationCoalescingInterceptor extends AbstractEJBInterceptor {
+
+    public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new InvocationCoalescingInterceptor());
+
+    private static final String RETURNED_CONTEXT_DATA_KEY = "jboss.returned.keys";
+
+    private InvocationCoalescingInterceptor() {
+    }
+
+    @Override
+    public Object processInvocation(final InterceptorContext context) throws Exception {
+        final EJBComponent component = getComponent(context, EJBComponent.class);
+        final InvocationCoalescer coalescer = component.getInvocationCoalescer();
+        final ComponentView view = context.getPrivateData(ComponentView.class);
+        final Method method = context.getMethod();
+        if (coalescer == null || view == null || !coalescer.isCoalesced(method) || !isCoalescable(context, component, view, method)) {
+            return context.proceed();
+        }
+        final InvocationCoalescer.Key key = new InvocationCoalescer.Key(view, method, context.getParameters(), component.getCallerPrincipal(), context.getContextData());
+        final CancellationFlag flag = context.getPrivateData(CancellationFlag.class);
+        final BooleanSupplier cancelled = (flag != null) ? flag::isCancelFlagSet : () -> false;
+        return coalescer.invoke(key, context::proceed, cancelled);
+    }
+
+    private static boolean isCoalescable(InterceptorContext context, EJBComponent component, ComponentView view, Method method) {
+        return context.getPrivateData(InvocationType.class) == InvocationType.REMOTE
+                && !view.isAsynchronous(method)
+                && !(component instanceof StatefulSessionComponent) && context.getPrivateData(SessionID.class) == null
+                && !context.hasTransaction()
+                && !context.getContextData().containsKey(RETURNED_CONTEXT_DATA_KEY);
+    }
+}
@@ -55,6 +55,7 @@ import javax.transaction.UserTransaction;
 import org.jboss.as.core.security.ServerSecurityManager;
 import org.jboss.as.ee.component.BasicComponent;
 import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ejb3.coalescing.InvocationCoalescer;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
@@ -137,6 +138,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private SecurityIdentity incomingRunAsIdentity;
     private final Function<SecurityIdentity, Set<SecurityIdentity>> identityOutflowFunction;
     private final boolean securityRequired;
+    private final InvocationCoalescer invocationCoalescer;
 
     /**
      * Construct a new instance.
@@ -191,6 +193,8 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         this.incomingRunAsIdentity = null;
         this.identityOutflowFunction = ejbComponentCreateService.getIdentityOutflowFunction();
         this.securityRequired = ejbComponentCreateService.isSecurityRequired();
+        final Set<String> coalescedMethodNames = ejbComponentCreateService.getCoalescedMethodNames();
+        this.invocationCoalescer = (coalescedMethodNames != null) ? new InvocationCoalescer(coalescedMethodNames) : null;
     }
 
     protected <T> T createViewInstanceProxy(final Class<T> viewInterface, final Map<Object, Object> contextData) {
@@ -571,6 +575,15 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         return invocationMetrics;
     }
 
+    /**
+     * Returns the coalescer of identical concurrent remote invocations of this component.
+     *
+     * @return an invocation coalescer, or null if invocation coalescing is not enabled for this component
+     */
+    public InvocationCoalescer getInvocationCoalescer() {
+        return invocationCoalescer;
+    }
+
     public ControlPoint getControlPoint() {
         return this.controlPoint;
     }
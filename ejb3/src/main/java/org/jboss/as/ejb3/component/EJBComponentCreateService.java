@@ -110,6 +110,8 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
 
     private final boolean securityRequired;
 
+    private final Set<String> coalescedMethodNames;
+
     /**
      * Construct a new instance.
      *
@@ -211,6 +213,7 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
         this.distinctName = componentConfiguration.getComponentDescription().getModuleDescription().getDistinctName();
         this.shutDownInterceptorFactory = ejbComponentDescription.getShutDownInterceptorFactory();
         this.securityRequired = ejbComponentDescription.isSecurityRequired();
+        this.coalescedMethodNames = ejbComponentDescription.getCoalescedMethodNames();
     }
 
     @Override
@@ -406,4 +409,8 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
     public boolean isSecurityRequired() {
         return securityRequired;
     }
+
+    public Set<String> getCoalescedMethodNames() {
+        return coalescedMethodNames;
+    }
 }
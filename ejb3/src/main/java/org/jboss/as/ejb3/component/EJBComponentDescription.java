@@ -68,6 +68,7 @@ import org.jboss.as.ee.component.ViewService;
 import org.jboss.as.ee.component.interceptors.ComponentDispatcherInterceptor;
 import org.jboss.as.ee.component.interceptors.InterceptorOrder;
 import org.jboss.as.ee.naming.ContextInjectionSource;
+import org.jboss.as.ejb3.coalescing.InvocationCoalescingInterceptor;
 import org.jboss.as.ejb3.component.interceptors.AdditionalSetupInterceptor;
 import org.jboss.as.ejb3.component.interceptors.CurrentInvocationContextInterceptor;
 import org.jboss.as.ejb3.component.interceptors.EjbExceptionTransformingInterceptorFactories;
@@ -282,6 +283,11 @@ public abstract class EJBComponentDescription extends ComponentDescription {
 
     private boolean securityRequired;
 
+    /**
+     * The names of the methods whose concurrent, identical remote invocations may be coalesced, or null, if coalescing is disabled.
+     */
+    private Set<String> coalescedMethodNames;
+
     /**
      * Construct a new instance.
      *
@@ -510,6 +516,9 @@ public abstract class EJBComponentDescription extends ComponentDescription {
                     if (Remote.class.isAssignableFrom(configuration.getViewClass())) {
                         configuration.addViewInterceptor(EjbExceptionTransformingInterceptorFactories.REMOTE_INSTANCE, InterceptorOrder.View.REMOTE_EXCEPTION_TRANSFORMER);
                     }
+                    if (view.getMethodIntf() == MethodIntf.REMOTE && getCoalescedMethodNames() != null) {
+                        configuration.addViewInterceptor(InvocationCoalescingInterceptor.FACTORY, InterceptorOrder.View.EJB_INVOCATION_COALESCING);
+                    }
                 }
             });
             if (view.getMethodIntf() == MethodIntf.HOME) {
@@ -1233,4 +1242,12 @@ public abstract class EJBComponentDescription extends ComponentDescription {
         return securityRequired;
     }
 
+    public void setCoalescedMethodNames(final Set<String> coalescedMethodNames) {
+        this.coalescedMethodNames = coalescedMethodNames;
+    }
+
+    public Set<String> getCoalescedMethodNames() {
+        return coalescedMethodNames;
+    }
+
 }
@@ -49,7 +49,9 @@ public class EJBContextHandleFactory implements ContextHandleFactory {
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new EJBContextHandle();
+        final InterceptorContext interceptorContext = CurrentInvocationContext.get();
+        // outside of an EJB invocation there is nothing to capture, share a single empty handle
+        return interceptorContext != null ? new EJBContextHandle(interceptorContext) : EJBContextHandle.NO_INVOCATION;
     }
 
     @Override
@@ -75,10 +77,10 @@ public class EJBContextHandleFactory implements ContextHandleFactory {
     private static class EJBContextHandle implements SetupContextHandle, ResetContextHandle {
 
         private static final long serialVersionUID = 9158258921823908698L;
+        private static final EJBContextHandle NO_INVOCATION = new EJBContextHandle(null);
         private final transient InterceptorContext interceptorContext;
 
-        private EJBContextHandle() {
-            final InterceptorContext interceptorContext = CurrentInvocationContext.get();
+        private EJBContextHandle(final InterceptorContext interceptorContext) {
             if(interceptorContext != null) {
                 this.interceptorContext = interceptorContext.clone();
                 // overwrite invocation type so EE concurrency tasks have special access to resources such as the user tx
@@ -32,6 +32,7 @@ import javax.resource.spi.endpoint.MessageEndpointFactory;
 import javax.transaction.TransactionManager;
 
 import org.jboss.as.ee.component.BasicComponentInstance;
+import org.jboss.as.ee.utils.LatencyHistogram;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
@@ -77,6 +78,8 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     private Endpoint endpoint;
     private String activationName;
     private volatile boolean suspended = false;
+    private final LatencyHistogram invocationHistogram = new LatencyHistogram();
+    private final LatencyHistogram deliveryHistogram = new LatencyHistogram();
 
     /**
      * Server activity that stops delivery before suspend starts.
@@ -199,6 +202,16 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             public ClassLoader getClassLoader() {
                 return componentClassLoader;
             }
+
+            @Override
+            public LatencyHistogram getInvocationHistogram() {
+                return isStatisticsEnabled() ? invocationHistogram : null;
+            }
+
+            @Override
+            public LatencyHistogram getDeliveryHistogram() {
+                return isStatisticsEnabled() ? deliveryHistogram : null;
+            }
         };
         this.endpointFactory = new JBossMessageEndpointFactory(componentClassLoader, service, (Class<Object>) getComponentClass(), messageListenerInterface);
         this.started = false;
@@ -216,6 +229,20 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return pool;
     }
 
+    /**
+     * Returns the histogram recording the time taken by the invocations of the message listener methods.
+     */
+    public LatencyHistogram getInvocationHistogram() {
+        return invocationHistogram;
+    }
+
+    /**
+     * Returns the histogram recording the time taken to deliver a message, from beforeDelivery() until the end of afterDelivery().
+     */
+    public LatencyHistogram getDeliveryHistogram() {
+        return deliveryHistogram;
+    }
+
     @Override
     public String getPoolName() {
         return poolName;
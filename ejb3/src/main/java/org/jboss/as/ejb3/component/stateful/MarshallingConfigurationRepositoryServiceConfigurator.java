@@ -79,8 +79,22 @@ public class MarshallingConfigurationRepositoryServiceConfigurator extends Simpl
                 return config;
             }
         },
+        VERSION_3() {
+            @Override
+            public MarshallingConfiguration apply(MarshallingConfigurationContext context) {
+                Module module = context.getModule();
+                ModuleDeployment deployment = context.getDeployment();
+                MarshallingConfiguration config = new MarshallingConfiguration();
+                config.setClassResolver(ModularClassResolver.getInstance(module.getModuleLoader()));
+                config.setSerializabilityChecker(new StatefulSessionBeanSerializabilityChecker(deployment));
+                config.setClassTable(new StatefulSessionBeanClassTable());
+                config.setObjectResolver(new EJBClientContextIdentifierResolver());
+                config.setObjectTable(new ExternalizerObjectTable(module.getClassLoader(), true));
+                return config;
+            }
+        },
         ;
-        static final MarshallingVersion CURRENT = VERSION_2;
+        static final MarshallingVersion CURRENT = VERSION_3;
     }
 
     private final Module module;
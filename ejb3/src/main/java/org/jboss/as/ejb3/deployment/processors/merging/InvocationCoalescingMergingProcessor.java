@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.deployment.processors.merging;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.ee.component.EEApplicationClasses;
+import org.jboss.as.ejb3.coalescing.EJBBoundInvocationCoalescingMetaData;
+import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
+import org.jboss.metadata.ejb.spec.AssemblyDescriptorMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
+
+/**
+ * Sets up the stateless and singleton bean component descriptions with the methods whose concurrent, identical remote
+ * invocations may be coalesced, as configured via the deployment descriptor.
+ */
+public class InvocationCoalescingMergingProcessor extends AbstractMergingProcessor<SessionBeanComponentDescription> {
+
+    public InvocationCoalescingMergingProcessor() {
+        super(SessionBeanComponentDescription.class);
+    }
+
+    @Override
+    protected void handleAnnotations(DeploymentUnit deploymentUnit, EEApplicationClasses applicationClasses, DeploymentReflectionIndex deploymentReflectionIndex, Class<?> componentClass, SessionBeanComponentDescription description) throws DeploymentUnitProcessingException {
+        // coalescing is only configurable via the deployment descriptor
+    }
+
+    @Override
+    protected void handleDeploymentDescriptor(DeploymentUnit deploymentUnit, DeploymentReflectionIndex deploymentReflectionIndex, Class<?> componentClass, SessionBeanComponentDescription description) throws DeploymentUnitProcessingException {
+        // stateful invocations target a specific bean instance, and can never be shared
+        if (description.isStateful()) {
+            return;
+        }
+        final EjbJarMetaData metaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (metaData == null) {
+            return;
+        }
+        final AssemblyDescriptorMetaData assemblyDescriptor = metaData.getAssemblyDescriptor();
+        if (assemblyDescriptor == null) {
+            return;
+        }
+        final List<EJBBoundInvocationCoalescingMetaData> coalescingMetaDatas = assemblyDescriptor.getAny(EJBBoundInvocationCoalescingMetaData.class);
+        if (coalescingMetaDatas == null) {
+            return;
+        }
+        final String ejbName = description.getEJBName();
+        Set<String> methodNames = null;
+        for (final EJBBoundInvocationCoalescingMetaData coalescingMetaData : coalescingMetaDatas) {
+            if ("*".equals(coalescingMetaData.getEjbName()) || ejbName.equals(coalescingMetaData.getEjbName())) {
+                if (methodNames == null) {
+                    methodNames = new LinkedHashSet<>();
+                }
+                // no method names implies all methods
+                methodNames.addAll(coalescingMetaData.getMethodNames().isEmpty() ? Collections.singleton("*") : coalescingMetaData.getMethodNames());
+            }
+        }
+        if (methodNames != null) {
+            description.setCoalescedMethodNames(methodNames);
+        }
+    }
+}
@@ -38,6 +38,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.as.ee.utils.LatencyHistogram;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -53,6 +54,8 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
     private Transaction currentTx;
     private ClassLoader previousClassLoader;
     private Transaction previousTx;
+    private LatencyHistogram deliveryHistogram;
+    private long deliveryStart;
 
     MessageEndpointInvocationHandler(final MessageEndpointService service, final Object delegate, final XAResource xaResource) {
         this.service = service;
@@ -88,6 +91,10 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previousClassLoader);
             previousClassLoader = null;
+            if (deliveryHistogram != null) {
+                deliveryHistogram.record(System.nanoTime() - deliveryStart);
+                deliveryHistogram = null;
+            }
         }
     }
 
@@ -97,6 +104,10 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         // The application server must set the thread context class loader to the endpoint
         // application class loader during the beforeDelivery call.
         previousClassLoader = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(getApplicationClassLoader());
+        deliveryHistogram = service.getDeliveryHistogram();
+        if (deliveryHistogram != null) {
+            deliveryStart = System.nanoTime();
+        }
         try {
             final TransactionManager tm = getTransactionManager();
             // TODO: in violation of JCA 1.6 FR 13.5.9?
@@ -134,6 +145,8 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         if (method.getDeclaringClass().equals(MessageEndpoint.class))
             return handle(method, args);
 
+        final LatencyHistogram invocationHistogram = service.getInvocationHistogram();
+        final long start = (invocationHistogram != null) ? System.nanoTime() : 0L;
         // TODO: Option A
         try {
             return method.invoke(delegate, args);
@@ -141,6 +154,11 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         catch (InvocationTargetException e) {
             throw e.getCause();
         }
+        finally {
+            if (invocationHistogram != null) {
+                invocationHistogram.record(System.nanoTime() - start);
+            }
+        }
     }
 
     @Override
@@ -25,6 +25,8 @@ import javax.transaction.TransactionManager;
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.ee.utils.LatencyHistogram;
+
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
@@ -49,4 +51,19 @@ public interface MessageEndpointService<T> {
     ClassLoader getClassLoader();
 
     String getActivationName();
+
+    /**
+     * Returns the histogram recording the time taken by the invocations of the message listener methods.
+     *
+     * @return the histogram, or null if statistics are not enabled
+     */
+    LatencyHistogram getInvocationHistogram();
+
+    /**
+     * Returns the histogram recording the time from beforeDelivery() until afterDelivery() completed,
+     * i.e. until the transaction acknowledging the message committed.
+     *
+     * @return the histogram, or null if statistics are not enabled
+     */
+    LatencyHistogram getDeliveryHistogram();
 }
@@ -26,6 +26,7 @@ import java.util.function.Function;
 
 import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentInterceptorFactory;
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.invocation.Interceptor;
@@ -61,6 +62,9 @@ public class IdentityOutflowInterceptorFactory extends ComponentInterceptorFacto
 
         final EJBComponent ejbComponent = (EJBComponent) component;
         final Function<SecurityIdentity, Set<SecurityIdentity>> identityOutflowFunction = ejbComponent.getIdentityOutflowFunction();
+        if (identityOutflowFunction == null) {
+            return PassThroughInterceptor.INSTANCE;
+        }
         return new IdentityOutflowInterceptor(identityOutflowFunction, category, roleMapper);
     }
 }
@@ -37,8 +37,11 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.utils.LatencyHistogramAttributes;
+import org.jboss.as.ejb3.coalescing.InvocationCoalescer;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
+import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
 import org.jboss.as.ejb3.subsystem.EJB3Extension;
 import org.jboss.dmr.ModelNode;
@@ -71,6 +74,15 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition COALESCED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("coalesced-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition INVOCATION_LATENCY = LatencyHistogramAttributes.createDefinition("invocation-latency");
+
+    private static final AttributeDefinition DELIVERY_LATENCY = LatencyHistogramAttributes.createDefinition("delivery-latency");
+
     public static final SimpleAttributeDefinition SECURITY_DOMAIN = new SimpleAttributeDefinitionBuilder("security-domain", ModelType.STRING, true)
             .setValidator(new StringLengthValidator(1, true))
             .build();
@@ -195,6 +207,29 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getPeakConcurrent());
             }
         });
+        if (componentType.equals(EJBComponentType.STATELESS) || componentType.equals(EJBComponentType.SINGLETON)) {
+            resourceRegistration.registerMetric(COALESCED_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                    final InvocationCoalescer coalescer = component.getInvocationCoalescer();
+                    context.getResult().set((coalescer != null) ? coalescer.getCoalescedInvocations() : 0L);
+                }
+            });
+        }
+        if (componentType.equals(EJBComponentType.MESSAGE_DRIVEN)) {
+            resourceRegistration.registerMetric(INVOCATION_LATENCY, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                    LatencyHistogramAttributes.setValue(context.getResult(), ((MessageDrivenComponent) component).getInvocationHistogram());
+                }
+            });
+            resourceRegistration.registerMetric(DELIVERY_LATENCY, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                    LatencyHistogramAttributes.setValue(context.getResult(), ((MessageDrivenComponent) component).getDeliveryHistogram());
+                }
+            });
+        }
         resourceRegistration.registerMetric(WAIT_TIME, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
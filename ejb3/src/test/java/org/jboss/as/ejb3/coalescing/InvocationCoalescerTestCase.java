@@ -0,0 +1,258 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.coalescing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InvocationCoalescer}.
+ */
+public class InvocationCoalescerTestCase {
+
+    @Test
+    public void isCoalesced() throws NoSuchMethodException {
+        Method hashCode = Object.class.getMethod("hashCode");
+        Method toString = Object.class.getMethod("toString");
+
+        InvocationCoalescer all = new InvocationCoalescer(Collections.emptySet());
+        assertTrue(all.isCoalesced(hashCode));
+        assertTrue(all.isCoalesced(toString));
+
+        InvocationCoalescer wildcard = new InvocationCoalescer(Collections.singleton("*"));
+        assertTrue(wildcard.isCoalesced(hashCode));
+
+        InvocationCoalescer some = new InvocationCoalescer(Collections.singleton("toString"));
+        assertFalse(some.isCoalesced(hashCode));
+        assertTrue(some.isCoalesced(toString));
+    }
+
+    @Test
+    public void invoke() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationCoalescer coalescer = new InvocationCoalescer(Collections.emptySet());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        Object expected = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.invoke(new InvocationCoalescer.Key(null, method, new Object[] { new int[] { 1 } }, null, null), () -> {
+                invocations.incrementAndGet();
+                started.countDown();
+                proceed.await();
+                return expected;
+            }, () -> false));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // Different parameters must not be coalesced
+            Object other = coalescer.invoke(new InvocationCoalescer.Key(null, method, new Object[] { new int[] { 2 } }, null, null), () -> {
+                invocations.incrementAndGet();
+                return "other";
+            }, () -> false);
+            assertEquals("other", other);
+            assertEquals(2, invocations.get());
+            assertEquals(0L, coalescer.getCoalescedInvocations());
+
+            // The leader is held in flight until the follower waits on it
+            Future<Object> follower = executor.submit(() -> coalescer.invoke(new InvocationCoalescer.Key(null, method, new Object[] { new int[] { 1 } }, null, Collections.emptyMap()), () -> {
+                invocations.incrementAndGet();
+                return "follower";
+            }, () -> {
+                waiting.countDown();
+                return false;
+            }));
+            assertTrue(waiting.await(10, TimeUnit.SECONDS));
+            proceed.countDown();
+
+            assertSame(expected, follower.get(10, TimeUnit.SECONDS));
+            assertSame(expected, leader.get(10, TimeUnit.SECONDS));
+            // The target of the coalesced invocations ran exactly once
+            assertEquals(2, invocations.get());
+            assertEquals(1L, coalescer.getCoalescedInvocations());
+        } finally {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invokeLeaderFailure() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationCoalescer.Key key = new InvocationCoalescer.Key(null, method, new Object[0], null, null);
+        InvocationCoalescer coalescer = new InvocationCoalescer(Collections.emptySet());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // A follower of a failed leader invokes its own task, rather than sharing the exception of the leader
+            assertEquals("follower", this.follow(executor, coalescer, key, () -> {
+                throw new IllegalStateException();
+            }, () -> false, IllegalStateException.class));
+            // A follower of a cancelled leader invokes its own task, rather than being cancelled
+            assertEquals("follower", this.follow(executor, coalescer, key, () -> {
+                throw new CancellationException();
+            }, () -> false, CancellationException.class));
+            // A follower does not share the possibly incomplete result of a leader whose cancel flag was set
+            assertEquals("follower", this.follow(executor, coalescer, key, () -> "leader", () -> true, null));
+            assertEquals(0L, coalescer.getCoalescedInvocations());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Object follow(ExecutorService executor, InvocationCoalescer coalescer, InvocationCoalescer.Key key, Callable<Object> leaderTask, BooleanSupplier leaderCancelled, Class<? extends Exception> leaderException) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.invoke(key, () -> {
+                started.countDown();
+                proceed.await();
+                return leaderTask.call();
+            }, leaderCancelled));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<Object> follower = executor.submit(() -> coalescer.invoke(key, () -> {
+                invocations.incrementAndGet();
+                return "follower";
+            }, () -> {
+                waiting.countDown();
+                return false;
+            }));
+            assertTrue(waiting.await(10, TimeUnit.SECONDS));
+            proceed.countDown();
+
+            try {
+                leader.get(10, TimeUnit.SECONDS);
+                assertNull(leaderException);
+            } catch (ExecutionException e) {
+                assertTrue(leaderException.isInstance(e.getCause()));
+            }
+            Object result = follower.get(10, TimeUnit.SECONDS);
+            assertEquals(1, invocations.get());
+            return result;
+        } finally {
+            proceed.countDown();
+        }
+    }
+
+    @Test
+    public void invokeFollowerCancelled() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationCoalescer.Key key = new InvocationCoalescer.Key(null, method, new Object[0], null, null);
+        InvocationCoalescer coalescer = new InvocationCoalescer(Collections.emptySet());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.invoke(key, () -> {
+                started.countDown();
+                proceed.await();
+                return "leader";
+            }, () -> false));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<Object> follower = executor.submit(() -> coalescer.invoke(key, () -> "follower", cancelled::get));
+            cancelled.set(true);
+
+            // The follower stops waiting once cancelled, while the leader is still in flight
+            try {
+                follower.get(10, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof CancellationException);
+            }
+            assertFalse(leader.isDone());
+            proceed.countDown();
+            assertEquals("leader", leader.get(10, TimeUnit.SECONDS));
+        } finally {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invokeFollowerTimeout() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationCoalescer.Key key = new InvocationCoalescer.Key(null, method, new Object[0], null, null);
+        InvocationCoalescer coalescer = new InvocationCoalescer(Collections.emptySet(), 100, TimeUnit.MILLISECONDS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.invoke(key, () -> {
+                started.countDown();
+                proceed.await();
+                return "leader";
+            }, () -> false));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // The follower invokes its own task once the maximum wait elapsed
+            assertEquals("follower", coalescer.invoke(key, () -> "follower", () -> false));
+            assertEquals(0L, coalescer.getCoalescedInvocations());
+            proceed.countDown();
+            assertEquals("leader", leader.get(10, TimeUnit.SECONDS));
+        } finally {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invokeException() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationCoalescer coalescer = new InvocationCoalescer(Collections.emptySet());
+        InvocationCoalescer.Key key = new InvocationCoalescer.Key(null, method, new Object[0], null, null);
+        try {
+            coalescer.invoke(key, () -> {
+                throw new IllegalStateException();
+            }, () -> false);
+            fail();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        // A completed invocation must no longer be shared
+        assertEquals("result", coalescer.invoke(key, () -> "result", () -> false));
+        assertEquals(0L, coalescer.getCoalescedInvocations());
+    }
+}
@@ -22,10 +22,13 @@
 
 package org.jboss.as.jpa.config;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.SharedCacheMode;
 
 import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
 
@@ -152,6 +155,26 @@ public class Configuration {
      */
     public static final String JPA_ALLOW_TWO_PHASE_BOOTSTRAP = "wildfly.jpa.twophasebootstrap";
 
+    /**
+     * semicolon separated list of JPQL queries, whose results are loaded into the second level cache
+     * after the persistence unit is started (defaults to no warm-up).  The results are read in pages, so each query
+     * must have a stable ORDER BY clause (e.g. on the entity identifier), otherwise results may be skipped or read twice.
+     */
+    public static final String JPA_SECOND_LEVEL_CACHE_WARMUP = "wildfly.jpa.secondlevelcache.warmup";
+
+    /**
+     * maximum number of warm-up queries that run concurrently (defaults to 2)
+     */
+    public static final String JPA_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY = "wildfly.jpa.secondlevelcache.warmup.concurrency";
+
+    /**
+     * number of results read per warm-up query page (defaults to 100)
+     */
+    public static final String JPA_SECOND_LEVEL_CACHE_WARMUP_BATCH_SIZE = "wildfly.jpa.secondlevelcache.warmup.batchsize";
+
+    private static final int DEFAULT_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY = 2;
+    private static final int DEFAULT_SECOND_LEVEL_CACHE_WARMUP_BATCH_SIZE = 100;
+
     /**
      * set to false to ignore default data source (defaults to true)
      */
@@ -305,6 +328,59 @@ public class Configuration {
         return result;
     }
 
+    /**
+     * Get the queries used to warm up the second level cache of the specified persistence unit
+     *
+     * @param pu
+     * @return the warm-up queries, which is empty if the second level cache should not be warmed up
+     */
+    public static List<String> getSecondLevelCacheWarmUpQueries(PersistenceUnitMetadata pu) {
+        List<String> result = new ArrayList<>();
+        String queries = pu.getProperties().getProperty(JPA_SECOND_LEVEL_CACHE_WARMUP);
+        if (queries != null && !SharedCacheMode.NONE.equals(pu.getSharedCacheMode())) {
+            for (String query : queries.split(";")) {
+                if (!query.trim().isEmpty()) {
+                    result.add(query.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the maximum number of concurrently running second level cache warm-up queries
+     *
+     * @param pu
+     * @return the warm-up concurrency
+     */
+    public static int getSecondLevelCacheWarmUpConcurrency(PersistenceUnitMetadata pu) {
+        return getPositiveInteger(pu, JPA_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY, DEFAULT_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY);
+    }
+
+    /**
+     * Get the number of results read per second level cache warm-up query page
+     *
+     * @param pu
+     * @return the warm-up batch size
+     */
+    public static int getSecondLevelCacheWarmUpBatchSize(PersistenceUnitMetadata pu) {
+        return getPositiveInteger(pu, JPA_SECOND_LEVEL_CACHE_WARMUP_BATCH_SIZE, DEFAULT_SECOND_LEVEL_CACHE_WARMUP_BATCH_SIZE);
+    }
+
+    private static int getPositiveInteger(PersistenceUnitMetadata pu, String property, int defaultValue) {
+        String value = pu.getProperties().getProperty(property);
+        if (value != null) {
+            try {
+                int result = Integer.parseInt(value.trim());
+                if (result > 0) {
+                    return result;
+                }
+            } catch (NumberFormatException ignore) {
+            }
+        }
+        return defaultValue;
+    }
+
     /**
      * Return true if detaching of managed entities should be deferred until the entity manager is closed.
      * Note:  only applies to transaction scoped entity managers used without an active JTA transaction.
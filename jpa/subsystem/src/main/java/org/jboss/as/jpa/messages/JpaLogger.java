@@ -762,4 +762,15 @@ public interface JpaLogger extends BasicLogger {
     @Message(id = 74, value = "Deprecated Hibernate51CompatibilityTransformer is enabled for all application deployments.")
     void hibernate51CompatibilityTransformerEnabled();
 
+    /**
+     * Logs a warning message indicating a failure to warm up the second level cache.
+     *
+     * @param cause        the cause of the error.
+     * @param query        the warm-up query.
+     * @param puScopedName the persistence unit name.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 75, value = "Failed to warm up the second level cache with query '%s' for persistence unit '%s'")
+    void failedToWarmUpSecondLevelCache(@Cause Throwable cause, String query, String puScopedName);
+
 }
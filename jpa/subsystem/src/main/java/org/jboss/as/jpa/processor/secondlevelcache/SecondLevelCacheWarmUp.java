@@ -0,0 +1,223 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.processor.secondlevelcache;
+
+import static org.jboss.as.jpa.messages.JpaLogger.ROOT_LOGGER;
+
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.jboss.as.jpa.config.Configuration;
+import org.jboss.as.server.deployment.SetupAction;
+import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
+import org.wildfly.security.manager.WildFlySecurityManager;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
+
+/**
+ * SecondLevelCacheWarmUp loads the results of the warm-up queries configured for a persistence unit
+ * (see {@link Configuration#JPA_SECOND_LEVEL_CACHE_WARMUP}) into the second level cache, in the background,
+ * after the persistence unit is started.
+ * <p>
+ * At most {@link Configuration#JPA_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY} queries run at the same time and each
+ * query is read in pages of {@link Configuration#JPA_SECOND_LEVEL_CACHE_WARMUP_BATCH_SIZE} results, so that
+ * the persistence context never holds more than one page of entities.  Pages are read with
+ * {@link javax.persistence.Query#setFirstResult(int)}, so each query needs a stable ORDER BY clause for its pages
+ * not to overlap or leave results out.
+ */
+public class SecondLevelCacheWarmUp {
+
+    private static final String STORE_MODE = "javax.persistence.cache.storeMode";
+    private static final long CANCEL_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String puScopedName;
+    private final Queue<String> queries;
+    private final int concurrency;
+    private final int batchSize;
+    private final ClassLoader classLoader;
+    private final SetupAction javaNamespaceSetup;
+    // the threads running warm-up queries, guarded by synchronization on the set
+    private final Set<Thread> workers = new HashSet<>();
+    private volatile boolean cancelled;
+
+    public SecondLevelCacheWarmUp(EntityManagerFactory entityManagerFactory, PersistenceUnitMetadata pu, List<String> queries,
+                                  ClassLoader classLoader, SetupAction javaNamespaceSetup) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.puScopedName = pu.getScopedPersistenceUnitName();
+        this.queries = new ConcurrentLinkedQueue<>(queries);
+        this.concurrency = Configuration.getSecondLevelCacheWarmUpConcurrency(pu);
+        this.batchSize = Configuration.getSecondLevelCacheWarmUpBatchSize(pu);
+        this.classLoader = classLoader;
+        this.javaNamespaceSetup = javaNamespaceSetup;
+    }
+
+    /**
+     * Start warming up the second level cache, without waiting for the warm-up to complete.
+     *
+     * @param executor runs the warm-up queries
+     */
+    public void start(Executor executor) {
+        final AccessControlContext accessControlContext =
+                AccessController.doPrivileged(GetAccessControlContextAction.getInstance());
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                WildFlySecurityManager.doChecked((PrivilegedAction<Void>) () -> {
+                    warmUp();
+                    return null;
+                }, accessControlContext);
+            }
+        };
+        int workers = Math.min(concurrency, queries.size());
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the queries left are picked up by the workers that were already started
+                ROOT_LOGGER.tracef("second level cache warm-up for %s limited to %d concurrent queries", puScopedName, i);
+                if (i == 0) {
+                    queries.clear();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stop warming up the second level cache, this is called before the entity manager factory is closed.
+     * The running queries are interrupted and waited for, so that they do not use the entity manager factory once it is closed.
+     */
+    public void cancel() {
+        cancelled = true;
+        queries.clear();
+        synchronized (workers) {
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+            long deadline = System.currentTimeMillis() + CANCEL_TIMEOUT;
+            long remaining = CANCEL_TIMEOUT;
+            try {
+                while (!workers.isEmpty() && remaining > 0) {
+                    workers.wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!workers.isEmpty()) {
+                ROOT_LOGGER.tracef("second level cache warm-up for %s still running after %d ms", puScopedName, CANCEL_TIMEOUT);
+            }
+        }
+    }
+
+    private void warmUp() {
+        synchronized (workers) {
+            if (cancelled) {
+                return;
+            }
+            workers.add(Thread.currentThread());
+        }
+        try {
+            warmUpQueries();
+        } finally {
+            synchronized (workers) {
+                workers.remove(Thread.currentThread());
+                // do not leave an interruption by cancel() on the executor thread
+                Thread.interrupted();
+                workers.notifyAll();
+            }
+        }
+    }
+
+    private void warmUpQueries() {
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        if (javaNamespaceSetup != null) {
+            javaNamespaceSetup.setup(Collections.<String, Object>emptyMap());
+        }
+        try {
+            String query;
+            while (!cancelled && (query = queries.poll()) != null) {
+                warmUp(query);
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+            if (javaNamespaceSetup != null) {
+                javaNamespaceSetup.teardown(Collections.<String, Object>emptyMap());
+            }
+        }
+    }
+
+    private void warmUp(String query) {
+        long start = System.nanoTime();
+        int loaded = 0;
+        EntityManager entityManager = null;
+        try {
+            entityManager = entityManagerFactory.createEntityManager();
+            for (int first = 0; !cancelled; first += batchSize) {
+                int count = entityManager.createQuery(query)
+                        .setHint(STORE_MODE, CacheStoreMode.REFRESH)
+                        .setFirstResult(first)
+                        .setMaxResults(batchSize)
+                        .getResultList()
+                        .size();
+                loaded += count;
+                // the loaded entities are now in the second level cache, release them from the persistence context
+                entityManager.clear();
+                if (count < batchSize) {
+                    break;
+                }
+            }
+            if (ROOT_LOGGER.isTraceEnabled()) {
+                ROOT_LOGGER.tracef("second level cache warm-up for %s loaded %d results of query '%s' in %d ms",
+                        puScopedName, loaded, query, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } catch (Throwable t) {
+            // failures are expected if the persistence unit is stopped while warming up
+            if (!cancelled) {
+                ROOT_LOGGER.failedToWarmUpSecondLevelCache(t, query, puScopedName);
+            }
+        } finally {
+            if (entityManager != null && entityManager.isOpen()) {
+                try {
+                    entityManager.close();
+                } catch (Throwable ignore) {
+                }
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -39,6 +40,8 @@ import javax.validation.ValidatorFactory;
 import org.jboss.as.jpa.beanmanager.BeanManagerAfterDeploymentValidation;
 import org.jboss.as.jpa.beanmanager.ProxyBeanManager;
 import org.jboss.as.jpa.classloader.TempClassLoaderFactoryImpl;
+import org.jboss.as.jpa.config.Configuration;
+import org.jboss.as.jpa.processor.secondlevelcache.SecondLevelCacheWarmUp;
 import org.jboss.as.jpa.spi.PersistenceUnitService;
 import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
 import org.jboss.as.jpa.util.JPAServiceNames;
@@ -90,6 +93,8 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
     private volatile EntityManagerFactory entityManagerFactory;
     private volatile ProxyBeanManager proxyBeanManager;
+    private volatile SecondLevelCacheWarmUp secondLevelCacheWarmUp;
+    private volatile long bootstrapTime;
     private final SetupAction javaNamespaceSetup;
 
     public PersistenceUnitServiceImpl(
@@ -140,6 +145,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                     PhaseOnePersistenceUnitServiceImpl phaseOnePersistenceUnitService = phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue();
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
                                     Object wrapperBeanManagerLifeCycle=null;
+                                    final long start = System.currentTimeMillis();
 
                                     // as per JPA specification contract, always pass ValidatorFactory in via standard property before
                                     // creating container EntityManagerFactory
@@ -189,10 +195,20 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                         }
                                         entityManagerFactory = createContainerEntityManagerFactory();
                                     }
+                                    // include the time taken by the first phase, for persistence units bootstrapped in two phases
+                                    bootstrapTime = System.currentTimeMillis() - start +
+                                            (phaseOnePersistenceUnitService != null ? phaseOnePersistenceUnitService.getBootstrapTime() : 0);
+                                    ROOT_LOGGER.tracef("persistence unit %s bootstrapped in %d ms", pu.getScopedPersistenceUnitName(), bootstrapTime);
                                     persistenceUnitRegistry.add(getScopedPersistenceUnitName(), getValue());
                                     if(wrapperBeanManagerLifeCycle != null) {
                                         beanManagerAfterDeploymentValidation.register(persistenceProviderAdaptor, wrapperBeanManagerLifeCycle);
                                     }
+                                    List<String> warmUpQueries = Configuration.getSecondLevelCacheWarmUpQueries(pu);
+                                    if (!warmUpQueries.isEmpty()) {
+                                        // warm up the second level cache in the background, without delaying the deployment
+                                        secondLevelCacheWarmUp = new SecondLevelCacheWarmUp(entityManagerFactory, pu, warmUpQueries, classLoader, javaNamespaceSetup);
+                                        secondLevelCacheWarmUp.start(executor);
+                                    }
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
@@ -249,6 +265,10 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                     javaNamespaceSetup.setup(Collections.<String, Object>emptyMap());
                                 }
                                 try {
+                                    if (secondLevelCacheWarmUp != null) {
+                                        secondLevelCacheWarmUp.cancel();
+                                        secondLevelCacheWarmUp = null;
+                                    }
                                     if (entityManagerFactory != null) {
                                         // protect against race condition reported by WFLY-11563
                                         synchronized (this) {
@@ -319,6 +339,15 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         return entityManagerFactory;
     }
 
+    /**
+     * Get the time taken to bootstrap the persistence unit
+     *
+     * @return the time in milliseconds
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
     @Override
     public String getScopedPersistenceUnitName() {
         return pu.getScopedPersistenceUnitName();
@@ -75,6 +75,8 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
 
     private volatile boolean secondPhaseStarted = false;
 
+    private volatile long bootstrapTime;
+
     public PhaseOnePersistenceUnitServiceImpl(
             final ClassLoader classLoader,
             final PersistenceUnitMetadata pu,
@@ -122,7 +124,9 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
                                     }
 
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
+                                    final long start = System.currentTimeMillis();
                                     entityManagerFactoryBuilder = createContainerEntityManagerFactoryBuilder();
+                                    bootstrapTime = System.currentTimeMillis() - start;
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
@@ -218,6 +222,15 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
         return entityManagerFactoryBuilder;
     }
 
+    /**
+     * Get the time taken by the first phase of bootstrapping the persistence unit
+     *
+     * @return the time in milliseconds
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
     public void setSecondPhaseStarted(boolean secondPhaseStarted) {
         this.secondPhaseStarted = secondPhaseStarted;
     }
@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.processor.secondlevelcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+import javax.persistence.Query;
+
+import org.jboss.as.jpa.config.Configuration;
+import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SecondLevelCacheWarmUp}.
+ */
+public class SecondLevelCacheWarmUpTestCase {
+
+    private final List<String> pages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger openEntityManagers = new AtomicInteger();
+
+    @Test
+    public void testQueryIsReadInPages() {
+        EntityManagerFactory emf = entityManagerFactory(first -> Math.max(0, Math.min(100, 250 - first)));
+        SecondLevelCacheWarmUp warmUp = new SecondLevelCacheWarmUp(emf, persistenceUnit(1), Collections.singletonList("from Entity e order by e.id"), getClass().getClassLoader(), null);
+
+        warmUp.start(Runnable::run);
+
+        assertEquals(Arrays.asList("from Entity e order by e.id@0", "from Entity e order by e.id@100", "from Entity e order by e.id@200"), pages);
+        assertEquals(0, openEntityManagers.get());
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        EntityManagerFactory emf = entityManagerFactory(first -> 0);
+        SecondLevelCacheWarmUp warmUp = new SecondLevelCacheWarmUp(emf, persistenceUnit(2), Arrays.asList("a", "b", "c", "d"), getClass().getClassLoader(), null);
+        AtomicInteger workers = new AtomicInteger();
+
+        warmUp.start(task -> {
+            workers.incrementAndGet();
+            task.run();
+        });
+
+        assertEquals(2, workers.get());
+        // the workers run the queries left by each other
+        assertEquals(4, pages.size());
+    }
+
+    @Test
+    public void testCancelInterruptsAndWaitsForRunningQueries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+        EntityManagerFactory emf = entityManagerFactory(first -> {
+            started.countDown();
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                // as a JDBC driver would report an interrupted statement
+                throw new PersistenceException(e);
+            }
+            return 100;
+        });
+        SecondLevelCacheWarmUp warmUp = new SecondLevelCacheWarmUp(emf, persistenceUnit(1), Arrays.asList("a", "b"), getClass().getClassLoader(), null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            warmUp.start(executor);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            warmUp.cancel();
+
+            // the running query was interrupted and its entity manager closed before cancel() returned
+            assertEquals(0, openEntityManagers.get());
+            assertEquals(Collections.singletonList("a@0"), pages);
+            // the executor thread is not left interrupted
+            assertFalse(executor.submit(() -> Thread.currentThread().isInterrupted()).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Page {
+        int size(int first);
+    }
+
+    private EntityManagerFactory entityManagerFactory(Page page) {
+        return proxy(EntityManagerFactory.class, (proxy, method, args) -> {
+            if (method.getName().equals("createEntityManager")) {
+                openEntityManagers.incrementAndGet();
+                return entityManager(page);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private EntityManager entityManager(Page page) {
+        boolean[] open = { true };
+        return proxy(EntityManager.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "createQuery":
+                    return query((String) args[0], page);
+                case "clear":
+                    return null;
+                case "isOpen":
+                    return open[0];
+                case "close":
+                    open[0] = false;
+                    openEntityManagers.decrementAndGet();
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private Query query(String query, Page page) {
+        int[] first = { 0 };
+        return proxy(Query.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "setHint":
+                case "setMaxResults":
+                    return proxy;
+                case "setFirstResult":
+                    first[0] = (Integer) args[0];
+                    return proxy;
+                case "getResultList":
+                    pages.add(query + "@" + first[0]);
+                    return Collections.nCopies(page.size(first[0]), new Object());
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static PersistenceUnitMetadata persistenceUnit(int concurrency) {
+        Properties properties = new Properties();
+        properties.setProperty(Configuration.JPA_SECOND_LEVEL_CACHE_WARMUP_CONCURRENCY, Integer.toString(concurrency));
+        return proxy(PersistenceUnitMetadata.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getProperties":
+                    return properties;
+                case "getScopedPersistenceUnitName":
+                    return "test.jar#test";
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SecondLevelCacheWarmUpTestCase.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
@@ -274,9 +274,7 @@ public abstract class AbstractActiveMQComponentControlHandler<T extends ActiveMQ
      * @throws OperationFailedException
      */
     protected final T getActiveMQComponentControl(final OperationContext context, final ModelNode operation, final boolean forWrite) throws OperationFailedException {
-        final ServiceName artemisServiceName = MessagingServices.getActiveMQServiceName(PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR)));
-        ServiceController<?> artemisService = context.getServiceRegistry(forWrite).getService(artemisServiceName);
-        ActiveMQServer server = ActiveMQServer.class.cast(artemisService.getValue());
+        ActiveMQServer server = getActiveMQServer(context, operation, forWrite);
         PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
          T control = getActiveMQComponentControl(server, address);
          if (control == null) {
@@ -285,4 +283,18 @@ public abstract class AbstractActiveMQComponentControlHandler<T extends ActiveMQ
          return control;
 
     }
+
+    /**
+     * Gets the ActiveMQ server installed in the runtime that hosts the component addressed by this request.
+     *
+     * @param context  the operation context
+     * @param operation the operation
+     * @param forWrite {@code true} if this operation will modify the runtime; {@code false} if not.
+     * @return the ActiveMQ server
+     */
+    protected final ActiveMQServer getActiveMQServer(final OperationContext context, final ModelNode operation, final boolean forWrite) {
+        final ServiceName artemisServiceName = MessagingServices.getActiveMQServiceName(PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR)));
+        ServiceController<?> artemisService = context.getServiceRegistry(forWrite).getService(artemisServiceName);
+        return ActiveMQServer.class.cast(artemisService.getValue());
+    }
 }
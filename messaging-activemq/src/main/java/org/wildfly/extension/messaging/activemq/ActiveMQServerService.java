@@ -108,6 +108,10 @@ class ActiveMQServerService implements Service<ActiveMQServer> {
     private final Map<String, String> clusterNames;
     // mapping between the {broadcast|discovery}-groups and the command dispatcher factory they use
     private final Map<String, Supplier<CommandDispatcherFactory>> commandDispatcherFactories;
+    // mapping between the JGroups broadcast-groups and their refresh interval
+    private final Map<String, Long> broadcastRefreshIntervals;
+    // mapping between the JGroups broadcast-groups and the size of their receive queue
+    private final Map<String, Integer> broadcastReceiveQueueSizes;
     // Supplier for Elytron SecurityDomain
     private final Optional<Supplier<SecurityDomain>> elytronSecurityDomain;
     // Supplier for legacy SecurityDomainContext
@@ -127,6 +131,8 @@ class ActiveMQServerService implements Service<ActiveMQServer> {
                                  Map<String, Supplier<SocketBinding>> groupBindings,
                                  Map<String, Supplier<CommandDispatcherFactory>> commandDispatcherFactories,
                                  Map<String, String> clusterNames,
+                                 Map<String, Long> broadcastRefreshIntervals,
+                                 Map<String, Integer> broadcastReceiveQueueSizes,
                                  Optional<Supplier<SecurityDomain>> elytronSecurityDomain,
                                  Optional<Supplier<SecurityDomainContext>> securityDomainContext,
                                  Optional<Supplier<MBeanServer>> mbeanServer,
@@ -145,6 +151,8 @@ class ActiveMQServerService implements Service<ActiveMQServer> {
         this.groupBindings = groupBindings;
         this.commandDispatcherFactories = commandDispatcherFactories;
         this.clusterNames = clusterNames;
+        this.broadcastRefreshIntervals = broadcastRefreshIntervals;
+        this.broadcastReceiveQueueSizes = broadcastReceiveQueueSizes;
         if (configuration != null) {
             for (BridgeConfiguration bridgeConfiguration : configuration.getBridgeConfigurations()) {
                 bridgeCredentialSource.put(bridgeConfiguration.getName(), new InjectedValue<>());
@@ -211,7 +219,7 @@ class ActiveMQServerService implements Service<ActiveMQServer> {
                     if (commandDispatcherFactories.containsKey(key)) {
                         CommandDispatcherFactory commandDispatcherFactory = commandDispatcherFactories.get(key).get();
                         String clusterName = clusterNames.get(key);
-                        newConfigs.add(BroadcastGroupAdd.createBroadcastGroupConfiguration(name, config, commandDispatcherFactory, clusterName));
+                        newConfigs.add(BroadcastGroupAdd.createBroadcastGroupConfiguration(name, config, commandDispatcherFactory, clusterName, broadcastRefreshIntervals.get(key), broadcastReceiveQueueSizes.get(key)));
                     } else {
                         final Supplier<SocketBinding> bindingSupplier = groupBindings.get(key);
                         if (bindingSupplier == null) {
@@ -24,13 +24,16 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.wildfly.extension.messaging.activemq.BroadcastGroupDefinition.GET_CONNECTOR_PAIRS_AS_JSON;
 
+import org.apache.activemq.artemis.api.core.BroadcastEndpointFactory;
 import org.apache.activemq.artemis.api.core.management.BroadcastGroupControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
+import org.apache.activemq.artemis.core.config.BroadcastGroupConfiguration;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.extension.messaging.activemq.broadcast.CommandDispatcherBroadcastEndpointFactory;
 
 /**
  * Handler for runtime operations that interact with a ActiveMQ {@link org.apache.activemq.artemis.api.core.management.BroadcastGroupControl}.
@@ -55,6 +58,34 @@ public class BroadcastGroupControlHandler extends AbstractActiveMQComponentContr
         return CommonAttributes.BROADCAST_GROUP;
     }
 
+    @Override
+    protected void handleReadAttribute(String attributeName, OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (BroadcastGroupDefinition.SUPPRESSED_BROADCASTS.getName().equals(attributeName)) {
+            CommandDispatcherBroadcastEndpointFactory factory = getCommandDispatcherBroadcastEndpointFactory(context, operation);
+            context.getResult().set((factory != null) ? factory.getSuppressedBroadcasts() : 0L);
+        } else if (BroadcastGroupDefinition.DROPPED_BROADCASTS.getName().equals(attributeName)) {
+            CommandDispatcherBroadcastEndpointFactory factory = getCommandDispatcherBroadcastEndpointFactory(context, operation);
+            context.getResult().set((factory != null) ? factory.getDroppedBroadcasts() : 0L);
+        } else {
+            unsupportedAttribute(attributeName);
+        }
+    }
+
+    /**
+     * Returns the endpoint factory of the addressed broadcast group if it uses JGroups, {@code null} otherwise.
+     */
+    private CommandDispatcherBroadcastEndpointFactory getCommandDispatcherBroadcastEndpointFactory(OperationContext context, ModelNode operation) {
+        ActiveMQServer server = getActiveMQServer(context, operation, false);
+        String name = context.getCurrentAddressValue();
+        for (BroadcastGroupConfiguration config : server.getConfiguration().getBroadcastGroupConfigurations()) {
+            if (name.equals(config.getName())) {
+                BroadcastEndpointFactory factory = config.getEndpointFactory();
+                return (factory instanceof CommandDispatcherBroadcastEndpointFactory) ? (CommandDispatcherBroadcastEndpointFactory) factory : null;
+            }
+        }
+        return null;
+    }
+
     @Override
     protected Object handleOperation(String operationName, OperationContext context, ModelNode operation) throws OperationFailedException {
         if (GET_CONNECTOR_PAIRS_AS_JSON.equals(operationName)) {
@@ -24,7 +24,9 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 import static org.jboss.as.controller.registry.AttributeAccess.Flag.STORAGE_RUNTIME;
+import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LONG;
 import static org.jboss.dmr.ModelType.STRING;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.CONNECTORS;
@@ -53,6 +55,8 @@ import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
@@ -99,8 +103,46 @@ public class BroadcastGroupDefinition extends PersistentResourceDefinition {
             .setCapabilityReference(ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getName())
             .build();
 
+    /**
+     * Interval during which a broadcast identical to the previous one is not sent by a JGroups broadcast group.
+     * It must be shorter than the refresh-timeout of the discovery groups receiving the broadcasts.
+     */
+    public static final SimpleAttributeDefinition REFRESH_INTERVAL = create("refresh-interval", LONG)
+            .setDefaultValue(new ModelNode(0L))
+            .setMeasurementUnit(MILLISECONDS)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new LongRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * Maximum number of broadcasts received by a JGroups broadcast group that are queued until consumed by a discovery group.
+     */
+    public static final SimpleAttributeDefinition RECEIVE_QUEUE_SIZE = create("receive-queue-size", INT)
+            .setDefaultValue(new ModelNode(1024))
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = { JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, SOCKET_BINDING,
-            BROADCAST_PERIOD, CONNECTOR_REFS };
+            BROADCAST_PERIOD, CONNECTOR_REFS, REFRESH_INTERVAL, RECEIVE_QUEUE_SIZE };
+
+    public static final SimpleAttributeDefinition SUPPRESSED_BROADCASTS = create("suppressed-broadcasts", LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition DROPPED_BROADCASTS = create("dropped-broadcasts", LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final AttributeDefinition[] METRICS = { SUPPRESSED_BROADCASTS, DROPPED_BROADCASTS };
 
     public static final String GET_CONNECTOR_PAIRS_AS_JSON = "get-connector-pairs-as-json";
 
@@ -128,6 +170,10 @@ public class BroadcastGroupDefinition extends PersistentResourceDefinition {
         }
 
         BroadcastGroupControlHandler.INSTANCE.registerAttributes(registry);
+
+        for (AttributeDefinition metric : METRICS) {
+            registry.registerMetric(metric, BroadcastGroupControlHandler.INSTANCE);
+        }
     }
 
     @Override
@@ -98,7 +98,14 @@ import org.wildfly.extension.messaging.activemq.jms.ExternalPooledConnectionFact
  * Domain extension that integrates Apache ActiveMQ 6.
  *
  * <dl>
- * <dt><strong>Current</strong> - WildFly 18</dt>
+ * <dt><strong>Current</strong> - WildFly 19</dt>
+ *   <dd>
+ *     <ul>
+ *       <li>XML namespace: urn:jboss:domain:messaging-activemq:9.0
+ *       <li>Management model: 9.0.0
+ *     </ul>
+ *   </dd>
+ * <dt>WildFly 18</dt>
  *   <dd>
  *     <ul>
  *       <li>XML namespace: urn:jboss:domain:messaging-activemq:8.0
@@ -209,6 +216,7 @@ public class MessagingExtension implements Extension {
 
     static final String RESOURCE_NAME = MessagingExtension.class.getPackage().getName() + ".LocalDescriptions";
 
+    protected static final ModelVersion VERSION_9_0_0 = ModelVersion.create(9, 0, 0);
     protected static final ModelVersion VERSION_8_0_0 = ModelVersion.create(8, 0, 0);
     protected static final ModelVersion VERSION_7_0_0 = ModelVersion.create(7, 0, 0);
     protected static final ModelVersion VERSION_6_0_0 = ModelVersion.create(6, 0, 0);
@@ -217,9 +225,9 @@ public class MessagingExtension implements Extension {
     protected static final ModelVersion VERSION_3_0_0 = ModelVersion.create(3, 0, 0);
     protected static final ModelVersion VERSION_2_0_0 = ModelVersion.create(2, 0, 0);
     protected static final ModelVersion VERSION_1_0_0 = ModelVersion.create(1, 0, 0);
-    private static final ModelVersion CURRENT_MODEL_VERSION = VERSION_8_0_0;
+    private static final ModelVersion CURRENT_MODEL_VERSION = VERSION_9_0_0;
 
-    private static final MessagingSubsystemParser_8_0 CURRENT_PARSER = new MessagingSubsystemParser_8_0();
+    private static final MessagingSubsystemParser_9_0 CURRENT_PARSER = new MessagingSubsystemParser_9_0();
 
     // ARTEMIS-2273 introduced audit logging at a info level which is rather verbose. We need to use static loggers
     // to ensure the log levels are set to WARN and there is a strong reference to the loggers. This hack will likely
@@ -327,6 +335,7 @@ public class MessagingExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_5_0.NAMESPACE, MessagingSubsystemParser_5_0::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_6_0.NAMESPACE, MessagingSubsystemParser_6_0::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_7_0.NAMESPACE, MessagingSubsystemParser_7_0::new);
-        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_8_0.NAMESPACE, CURRENT_PARSER);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_8_0.NAMESPACE, MessagingSubsystemParser_8_0::new);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MessagingSubsystemParser_9_0.NAMESPACE, CURRENT_PARSER);
     }
 }
@@ -43,6 +43,7 @@ public class MessagingServices {
     static final ServiceName JBOSS_MESSAGING_ACTIVEMQ = ServiceName.JBOSS.append(MessagingExtension.SUBSYSTEM_NAME);
     static final ServiceName HTTP_UPGRADE_REGISTRY = ServiceName.JBOSS.append("http-upgrade-registry");
     public static final ServiceName ACTIVEMQ_CLIENT_THREAD_POOL = JBOSS_MESSAGING_ACTIVEMQ.append("client-thread-pool");
+    static final ServiceName JMS_CONTEXT_POOL_STATISTICS = JBOSS_MESSAGING_ACTIVEMQ.append("jms-context-pool-statistics");
 
     // Cached by MessagingSubsystemAdd at the beginning of runtime processing
     static volatile CapabilityServiceSupport capabilityServiceSupport;
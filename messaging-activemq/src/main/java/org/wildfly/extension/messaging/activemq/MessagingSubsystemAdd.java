@@ -31,6 +31,8 @@ import static org.wildfly.extension.messaging.activemq.CommonAttributes.JGROUPS_
 import static org.wildfly.extension.messaging.activemq.MessagingSubsystemRootResourceDefinition.CONFIGURATION_CAPABILITY;
 import static org.wildfly.extension.messaging.activemq.MessagingSubsystemRootResourceDefinition.GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE;
 import static org.wildfly.extension.messaging.activemq.MessagingSubsystemRootResourceDefinition.GLOBAL_CLIENT_THREAD_POOL_MAX_SIZE;
+import static org.wildfly.extension.messaging.activemq.MessagingSubsystemRootResourceDefinition.JMS_CONTEXT_POOL_LEAK_TIMEOUT;
+import static org.wildfly.extension.messaging.activemq.MessagingSubsystemRootResourceDefinition.JMS_CONTEXT_POOL_MAX_SIZE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.apache.activemq.artemis.api.core.BroadcastGroupConfiguration;
 import org.apache.activemq.artemis.api.core.DiscoveryGroupConfiguration;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
@@ -75,6 +78,7 @@ import org.wildfly.extension.messaging.activemq.deployment.MessagingDependencyPr
 import org.wildfly.extension.messaging.activemq.deployment.MessagingXmlInstallDeploymentUnitProcessor;
 import org.wildfly.extension.messaging.activemq.deployment.MessagingXmlParsingDeploymentUnitProcessor;
 import org.wildfly.extension.messaging.activemq.deployment.injection.CDIDeploymentProcessor;
+import org.wildfly.extension.messaging.activemq.deployment.injection.JMSContextPoolStatistics;
 import org.wildfly.extension.messaging.activemq.logging.MessagingLogger;
 
 /**
@@ -98,6 +102,11 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
         // Cache support for capability service name lookups by our services
         MessagingServices.capabilityServiceSupport = context.getCapabilityServiceSupport();
 
+        final int jmsContextPoolMaxSize = JMS_CONTEXT_POOL_MAX_SIZE.resolveModelAttribute(context, model).asInt();
+        final long jmsContextPoolLeakTimeout = JMS_CONTEXT_POOL_LEAK_TIMEOUT.resolveModelAttribute(context, model).asLong();
+        // statistics of the JMSContext pools of all the deployments using this subsystem
+        final JMSContextPoolStatistics jmsContextPoolStatistics = new JMSContextPoolStatistics();
+
         context.addStep(new AbstractDeploymentChainStep() {
             @Override
             protected void execute(DeploymentProcessorTarget processorTarget) {
@@ -109,7 +118,7 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 processorTarget.addDeploymentProcessor(MessagingExtension.SUBSYSTEM_NAME, Phase.DEPENDENCIES, Phase.DEPENDENCIES_JMS, new MessagingDependencyProcessor());
 
                 if (MessagingServices.capabilityServiceSupport.hasCapability(WELD_CAPABILITY_NAME)) {
-                    processorTarget.addDeploymentProcessor(MessagingExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_JMS_CDI_EXTENSIONS, new CDIDeploymentProcessor());
+                    processorTarget.addDeploymentProcessor(MessagingExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_JMS_CDI_EXTENSIONS, new CDIDeploymentProcessor(jmsContextPoolMaxSize, jmsContextPoolLeakTimeout, jmsContextPoolStatistics));
                 }
 
                 processorTarget.addDeploymentProcessor(MessagingExtension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_RESOURCE_DEF_XML_JMS_CONNECTION_FACTORY, new JMSConnectionFactoryDefinitionDescriptorProcessor());
@@ -158,6 +167,10 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
         }
         context.getServiceTarget().addService(MessagingServices.ACTIVEMQ_CLIENT_THREAD_POOL, new ThreadPoolService())
                 .install();
+        final ServiceBuilder<?> statisticsBuilder = context.getServiceTarget().addService(MessagingServices.JMS_CONTEXT_POOL_STATISTICS);
+        final Consumer<JMSContextPoolStatistics> statisticsConsumer = statisticsBuilder.provides(MessagingServices.JMS_CONTEXT_POOL_STATISTICS);
+        statisticsBuilder.setInstance(org.jboss.msc.Service.newInstance(statisticsConsumer, jmsContextPoolStatistics))
+                .install();
         context.addStep(new OperationStepHandler() {
             @Override
             public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -46,6 +46,8 @@ import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.messaging.activemq.deployment.injection.JMSContextPoolStatistics;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the messaging subsystem root resource.
@@ -55,6 +57,7 @@ import org.jboss.dmr.ModelNode;
 public class MessagingSubsystemRootResourceDefinition extends PersistentResourceDefinition {
     private static final String GLOBAL_CLIENT_PREFIX = "global-client-thread-pool-";
     private static final String GLOBAL_CLIENT_SCHEDULED_PREFIX = "global-client-scheduled-thread-pool-";
+    private static final String JMS_CONTEXT_POOL_PREFIX = "jms-context-pool-";
 
     public static final RuntimeCapability<Void> CONFIGURATION_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.messaging.activemq.external.configuration", false)
             .setServiceType(ExternalBrokerConfigurationService.class)
@@ -148,9 +151,66 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
             .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
             .build();
 
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_MAX_SIZE = create(JMS_CONTEXT_POOL_PREFIX + "max-size", INT)
+            .setAttributeGroup("jms-context-pool")
+            .setXmlName("max-size")
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_LEAK_TIMEOUT = create(JMS_CONTEXT_POOL_PREFIX + "leak-timeout", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setXmlName("leak-timeout")
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(60L))
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_IDLE_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "idle-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(GAUGE_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_BORROWED_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "borrowed-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(GAUGE_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_CREATED_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "created-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_REUSED_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "reused-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_DISCARDED_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "discarded-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition JMS_CONTEXT_POOL_LEAKED_COUNT = create(JMS_CONTEXT_POOL_PREFIX + "leaked-count", LONG)
+            .setAttributeGroup("jms-context-pool")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = {
         GLOBAL_CLIENT_THREAD_POOL_MAX_SIZE,
-        GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE
+        GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE,
+        JMS_CONTEXT_POOL_MAX_SIZE,
+        JMS_CONTEXT_POOL_LEAK_TIMEOUT
     };
     public static final AttributeDefinition[] METRICS = {
         GLOBAL_CLIENT_THREAD_POOL_ACTIVE_COUNT, GLOBAL_CLIENT_THREAD_POOL_COMPLETED_TASK_COUNT, GLOBAL_CLIENT_THREAD_POOL_CURRENT_THREAD_COUNT,
@@ -159,6 +219,10 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_CURRENT_THREAD_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_LARGEST_THREAD_COUNT,
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_TASK_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_KEEPALIVE_TIME
     };
+    public static final AttributeDefinition[] JMS_CONTEXT_POOL_METRICS = {
+        JMS_CONTEXT_POOL_IDLE_COUNT, JMS_CONTEXT_POOL_BORROWED_COUNT, JMS_CONTEXT_POOL_CREATED_COUNT,
+        JMS_CONTEXT_POOL_REUSED_COUNT, JMS_CONTEXT_POOL_DISCARDED_COUNT, JMS_CONTEXT_POOL_LEAKED_COUNT
+    };
 
     public static final MessagingSubsystemRootResourceDefinition INSTANCE = new MessagingSubsystemRootResourceDefinition();
 
@@ -176,6 +240,9 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         for (AttributeDefinition metric : METRICS) {
             resourceRegistration.registerMetric(metric, ClientThreadPoolMetricReader.INSTANCE);
         }
+        for (AttributeDefinition metric : JMS_CONTEXT_POOL_METRICS) {
+            resourceRegistration.registerMetric(metric, JMSContextPoolMetricReader.INSTANCE);
+        }
     }
 
     @Override
@@ -226,4 +293,43 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         }
     }
 
+    private static final class JMSContextPoolMetricReader implements OperationStepHandler {
+
+        private static final JMSContextPoolMetricReader INSTANCE = new JMSContextPoolMetricReader();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(MessagingServices.JMS_CONTEXT_POOL_STATISTICS);
+            if (controller == null) {
+                return;
+            }
+            final JMSContextPoolStatistics statistics = (JMSContextPoolStatistics) controller.getValue();
+            String metric = attributeName.substring(JMS_CONTEXT_POOL_PREFIX.length());
+            switch (metric) {
+                case "idle-count":
+                    context.getResult().set(statistics.getIdleCount());
+                    break;
+                case "borrowed-count":
+                    context.getResult().set(statistics.getBorrowedCount());
+                    break;
+                case "created-count":
+                    context.getResult().set(statistics.getCreatedCount());
+                    break;
+                case "reused-count":
+                    context.getResult().set(statistics.getReusedCount());
+                    break;
+                case "discarded-count":
+                    context.getResult().set(statistics.getDiscardedCount());
+                    break;
+                case "leaked-count":
+                    context.getResult().set(statistics.getLeakedCount());
+                    break;
+                default:
+                    // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+                    throw new IllegalArgumentException(metric);
+            }
+        }
+    }
+
 }
@@ -375,6 +375,8 @@ class ServerAdd extends AbstractAddStepHandler {
             final Map<String, DiscoveryGroupConfiguration> discoveryGroupConfigurations = configuration.getDiscoveryGroupConfigurations();
 
             final Map<String, String> clusterNames = new HashMap<>();
+            final Map<String, Long> broadcastRefreshIntervals = new HashMap<>();
+            final Map<String, Integer> broadcastReceiveQueueSizes = new HashMap<>();
             final Map<String, Supplier<CommandDispatcherFactory>> commandDispatcherFactories = new HashMap<>();
             final Map<ServiceName, Supplier<CommandDispatcherFactory>> commandDispatcherFactoryServices = new HashMap<>();
             final Map<String, Supplier<SocketBinding>> groupBindings = new HashMap<>();
@@ -396,6 +398,8 @@ class ServerAdd extends AbstractAddStepHandler {
                         }
                         commandDispatcherFactories.put(key, commandDispatcherFactoryServices.get(commandDispatcherFactoryServiceName));
                         clusterNames.put(key, clusterName);
+                        broadcastRefreshIntervals.put(key, BroadcastGroupDefinition.REFRESH_INTERVAL.resolveModelAttribute(context, broadcastGroupModel).asLong());
+                        broadcastReceiveQueueSizes.put(key, BroadcastGroupDefinition.RECEIVE_QUEUE_SIZE.resolveModelAttribute(context, broadcastGroupModel).asInt());
                     } else {
                         final ServiceName groupBindingServiceName = GroupBindingService.getBroadcastBaseServiceName(activeMQServiceName).append(name);
                         if (!groupBindingServices.containsKey(groupBindingServiceName)) {
@@ -444,6 +448,8 @@ class ServerAdd extends AbstractAddStepHandler {
                     groupBindings,
                     commandDispatcherFactories,
                     clusterNames,
+                    broadcastRefreshIntervals,
+                    broadcastReceiveQueueSizes,
                     elytronSecurityDomain,
                     securityDomainContext,
                     mbeanServer,
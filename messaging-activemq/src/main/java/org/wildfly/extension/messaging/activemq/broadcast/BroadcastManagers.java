@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link QueueBroadcastManager}s of the broadcast endpoints.
+ * The command dispatchers created with the same name share the context of the first one, so the endpoints with the same
+ * name must share their manager. A manager is removed once no endpoint uses it so that the next one is created with the
+ * current configuration.
+ */
+final class BroadcastManagers {
+
+    /**
+     * Receive queue size of an endpoint that does not configure it (e.g. of a discovery group).
+     * The queue is then sized by the endpoints which configure it or by default.
+     */
+    static final int UNSPECIFIED_RECEIVE_QUEUE_SIZE = 0;
+    static final int DEFAULT_RECEIVE_QUEUE_SIZE = 1024;
+
+    // Guarded by itself
+    private static final Map<String, SharedBroadcastManager> MANAGERS = new HashMap<>();
+
+    private BroadcastManagers() {
+    }
+
+    /**
+     * Returns the manager of the endpoints with the given name, creating it if no other endpoint uses it.
+     * A configured receive queue size is applied to the manager even if it is already used by other endpoints.
+     */
+    static QueueBroadcastManager acquire(String name, int receiveQueueSize) {
+        synchronized (MANAGERS) {
+            SharedBroadcastManager shared = MANAGERS.get(name);
+            if (shared == null) {
+                shared = new SharedBroadcastManager(new QueueBroadcastManager((receiveQueueSize != UNSPECIFIED_RECEIVE_QUEUE_SIZE) ? receiveQueueSize : DEFAULT_RECEIVE_QUEUE_SIZE));
+                MANAGERS.put(name, shared);
+            } else if (receiveQueueSize != UNSPECIFIED_RECEIVE_QUEUE_SIZE) {
+                shared.manager.setCapacity(receiveQueueSize);
+            }
+            shared.references += 1;
+            return shared.manager;
+        }
+    }
+
+    /**
+     * Releases a manager returned by {@link #acquire(String, int)}, it is removed once it is no longer used by any endpoint.
+     */
+    static void release(String name, QueueBroadcastManager manager) {
+        synchronized (MANAGERS) {
+            SharedBroadcastManager shared = MANAGERS.get(name);
+            if ((shared != null) && (shared.manager == manager)) {
+                shared.references -= 1;
+                if (shared.references == 0) {
+                    MANAGERS.remove(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the manager currently used by the endpoints with the given name, or null if there is none.
+     */
+    static QueueBroadcastManager get(String name) {
+        synchronized (MANAGERS) {
+            SharedBroadcastManager shared = MANAGERS.get(name);
+            return (shared != null) ? shared.manager : null;
+        }
+    }
+
+    private static class SharedBroadcastManager {
+        final QueueBroadcastManager manager;
+        int references;
+
+        SharedBroadcastManager(QueueBroadcastManager manager) {
+            this.manager = manager;
+        }
+    }
+}
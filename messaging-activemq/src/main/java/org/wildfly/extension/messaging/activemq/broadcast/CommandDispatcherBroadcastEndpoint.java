@@ -22,8 +22,10 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
@@ -31,6 +33,8 @@ import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 
 /**
  * A {@link BroadcastEndpoint} based on a {@link CommandDispatcher}.
+ * If a refresh interval is specified, a broadcast identical to the previous one is only sent once the refresh interval
+ * has elapsed since the previous one was sent, so that unchanged broadcasts do not flood the group.
  * @author Paul Ferraro
  */
 public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
@@ -41,15 +45,27 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
 
     private final CommandDispatcherFactory factory;
     private final String name;
-    private final BroadcastManager manager;
+    private final int receiveQueueSize;
+    private final long refreshInterval;
     private final AtomicReference<Mode> mode = new AtomicReference<>(Mode.CLOSED);
+    private final LongAdder suppressed;
 
     private volatile CommandDispatcher<BroadcastReceiver> dispatcher;
+    private volatile QueueBroadcastManager manager;
+    // Only accessed by the broadcasting thread
+    private byte[] lastBroadcast;
+    private long lastBroadcastTime;
 
-    public CommandDispatcherBroadcastEndpoint(CommandDispatcherFactory factory, String name, BroadcastManager manager) {
+    public CommandDispatcherBroadcastEndpoint(CommandDispatcherFactory factory, String name) {
+        this(factory, name, BroadcastManagers.UNSPECIFIED_RECEIVE_QUEUE_SIZE, 0, new LongAdder());
+    }
+
+    public CommandDispatcherBroadcastEndpoint(CommandDispatcherFactory factory, String name, int receiveQueueSize, long refreshInterval, LongAdder suppressed) {
         this.factory = factory;
         this.name = name;
-        this.manager = manager;
+        this.receiveQueueSize = receiveQueueSize;
+        this.refreshInterval = TimeUnit.MILLISECONDS.toNanos(refreshInterval);
+        this.suppressed = suppressed;
     }
 
     @Override
@@ -67,21 +83,39 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
     }
 
     private void open() throws Exception {
-        this.dispatcher = this.factory.createCommandDispatcher(this.name, this.manager);
+        this.manager = BroadcastManagers.acquire(this.name, this.receiveQueueSize);
+        try {
+            this.dispatcher = this.factory.createCommandDispatcher(this.name, this.manager);
+        } catch (Exception e) {
+            BroadcastManagers.release(this.name, this.manager);
+            this.mode.set(Mode.CLOSED);
+            throw e;
+        }
     }
 
     @Override
     public void close(boolean isBroadcast) throws Exception {
         if (this.mode.getAndSet(Mode.CLOSED) != Mode.CLOSED) {
-            this.dispatcher.close();
-            this.manager.clear();
+            try {
+                this.dispatcher.close();
+                this.manager.clear();
+            } finally {
+                BroadcastManagers.release(this.name, this.manager);
+            }
         }
     }
 
     @Override
     public void broadcast(byte[] data) throws Exception {
         if (this.mode.get() == Mode.BROADCASTER) {
+            long now = System.nanoTime();
+            if ((this.refreshInterval > 0) && (this.lastBroadcast != null) && (now - this.lastBroadcastTime < this.refreshInterval) && Arrays.equals(data, this.lastBroadcast)) {
+                this.suppressed.increment();
+                return;
+            }
             this.dispatcher.executeOnGroup(new BroadcastCommand(data));
+            this.lastBroadcast = data;
+            this.lastBroadcastTime = now;
         }
     }
 
@@ -22,8 +22,7 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
 import org.apache.activemq.artemis.api.core.BroadcastEndpointFactory;
@@ -36,20 +35,57 @@ import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 @SuppressWarnings("serial")
 public class CommandDispatcherBroadcastEndpointFactory implements BroadcastEndpointFactory {
 
-    private static final Map<String, BroadcastManager> BROADCAST_MANAGERS = new ConcurrentHashMap<>();
+    private static final long DEFAULT_REFRESH_INTERVAL = 0;
 
     private final CommandDispatcherFactory factory;
     private final String name;
-    private final BroadcastManager manager;
+    private final long refreshInterval;
+    private final int receiveQueueSize;
+    private final LongAdder suppressed = new LongAdder();
 
+    /**
+     * Creates a factory whose endpoints send every broadcast and use the receive queue configured by the other endpoints
+     * with the same name (or a queue of 1024 broadcasts if none configures it).
+     * @param factory the command dispatcher factory
+     * @param name the name of the command dispatcher
+     */
     public CommandDispatcherBroadcastEndpointFactory(CommandDispatcherFactory factory, String name) {
+        this(factory, name, DEFAULT_REFRESH_INTERVAL, BroadcastManagers.UNSPECIFIED_RECEIVE_QUEUE_SIZE);
+    }
+
+    /**
+     * @param factory the command dispatcher factory
+     * @param name the name of the command dispatcher
+     * @param refreshInterval the interval (in milliseconds) during which identical broadcasts are suppressed, 0 to send every broadcast
+     * @param receiveQueueSize the maximum number of received broadcasts that are queued until consumed by a discovery group,
+     *        the queue is shared by the endpoints with the same name while they are open
+     */
+    public CommandDispatcherBroadcastEndpointFactory(CommandDispatcherFactory factory, String name, long refreshInterval, int receiveQueueSize) {
         this.factory = factory;
         this.name = name;
-        this.manager = BROADCAST_MANAGERS.computeIfAbsent(name, key -> new QueueBroadcastManager());
+        this.refreshInterval = refreshInterval;
+        this.receiveQueueSize = receiveQueueSize;
     }
 
     @Override
     public BroadcastEndpoint createBroadcastEndpoint() throws Exception {
-        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.manager);
+        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.receiveQueueSize, this.refreshInterval, this.suppressed);
+    }
+
+    /**
+     * Returns the number of broadcasts that were not sent by the endpoints of this factory as they were identical to the previous broadcast.
+     * @return the number of suppressed broadcasts
+     */
+    public long getSuppressedBroadcasts() {
+        return this.suppressed.sum();
+    }
+
+    /**
+     * Returns the number of received broadcasts that were dropped because the receive queue of the open endpoints was full.
+     * @return the number of dropped broadcasts
+     */
+    public long getDroppedBroadcasts() {
+        QueueBroadcastManager manager = BroadcastManagers.get(this.name);
+        return (manager != null) ? manager.getDroppedBroadcasts() : 0L;
     }
 }
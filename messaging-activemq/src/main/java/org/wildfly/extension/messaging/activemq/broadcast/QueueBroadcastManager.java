@@ -22,19 +22,47 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * A {@link BroadcastManager} that queues received broadcasts until they are consumed.
+ * The queue is bounded, the oldest broadcast is dropped to make room for a new one if the queue is full
+ * (e.g. if no discovery group consumes the broadcasts received by a broadcast group).
  * @author Paul Ferraro
  */
 public class QueueBroadcastManager implements BroadcastManager {
-    private final BlockingQueue<byte[]> broadcasts = new LinkedBlockingDeque<>();
+    private final BlockingDeque<byte[]> broadcasts = new LinkedBlockingDeque<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile int capacity;
+
+    public QueueBroadcastManager(int capacity) {
+        this.capacity = capacity;
+    }
 
     @Override
-    public void receive(byte[] broadcast) {
-        this.broadcasts.add(broadcast);
+    public synchronized void receive(byte[] broadcast) {
+        while (this.broadcasts.size() >= this.capacity) {
+            if (this.broadcasts.pollFirst() != null) {
+                this.dropped.increment();
+            }
+        }
+        this.broadcasts.offerLast(broadcast);
+    }
+
+    /**
+     * Changes the maximum number of queued broadcasts, the oldest broadcasts are dropped when the next one is received
+     * if the queue contains more broadcasts.
+     * @param capacity the maximum number of queued broadcasts
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
     }
 
     @Override
@@ -51,4 +79,12 @@ public class QueueBroadcastManager implements BroadcastManager {
     public void clear() {
         this.broadcasts.clear();
     }
+
+    /**
+     * Returns the number of received broadcasts that were dropped because the queue was full.
+     * @return the number of dropped broadcasts
+     */
+    public long getDroppedBroadcasts() {
+        return this.dropped.sum();
+    }
 }
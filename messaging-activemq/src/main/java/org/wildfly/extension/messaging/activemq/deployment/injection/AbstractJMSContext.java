@@ -26,7 +26,9 @@ import static org.wildfly.extension.messaging.activemq.logging.MessagingLogger.R
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSContext;
@@ -41,16 +43,59 @@ import javax.jms.JMSContext;
 public abstract class AbstractJMSContext implements Serializable {
 
     private final Map<String, JMSContext> contexts = new HashMap<>();
+    // pools of the contexts that were borrowed from a JMSContextPool and must be returned to it
+    private final Map<JMSContext, JMSContextPool> pools = new HashMap<>();
+    // pooled contexts that must be closed instead of being returned to their pool
+    private final Set<JMSContext> notReusable = new HashSet<>();
 
-    synchronized JMSContext getContext(String injectionPointId, JMSInfo info, ConnectionFactory connectionFactory) {
+    JMSContext getContext(String injectionPointId, JMSInfo info, ConnectionFactory connectionFactory) {
+        return getContext(injectionPointId, info, connectionFactory, getPools());
+    }
+
+    /**
+     * @param contextPools the pools of the deployment, {@code null} if pooling is disabled
+     */
+    synchronized JMSContext getContext(String injectionPointId, JMSInfo info, ConnectionFactory connectionFactory, JMSContextPools contextPools) {
         JMSContext context = contexts.get(injectionPointId);
         if (context == null) {
-            context = createContext(info, connectionFactory);
+            if (contextPools != null && isPoolable(info) && JMSContextPools.accepts(connectionFactory)) {
+                JMSContextPool pool = contextPools.getPool(info, connectionFactory);
+                context = pool.borrow(() -> createContext(info, connectionFactory));
+                pools.put(context, pool);
+            } else {
+                context = createContext(info, connectionFactory);
+            }
             contexts.put(injectionPointId, context);
         }
         return context;
     }
 
+    /**
+     * The pools of the deployment the contexts of this scope are borrowed from, {@code null} if they are not pooled.
+     */
+    JMSContextPools getPools() {
+        return null;
+    }
+
+    /**
+     * Whether the contexts of this scope can be borrowed from (and returned to) a {@link JMSContextPool}.
+     */
+    boolean isPoolable(JMSInfo info) {
+        return false;
+    }
+
+    /**
+     * Prevent the context used by the injection point from being returned to its pool, as state has been created
+     * in it (e.g. consumers or temporary destinations) that is only released when the context is closed.
+     */
+    synchronized void markNotReusable(String injectionPointId) {
+        JMSContext context = contexts.get(injectionPointId);
+        if (context != null && pools.containsKey(context)) {
+            // the context is kept open until the end of the scope, it is then closed by cleanUp()
+            notReusable.add(context);
+        }
+    }
+
     private JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
         ROOT_LOGGER.debugf("Create JMSContext from %s - %s", info, connectionFactory);
         int sessionMode = info.getSessionMode();
@@ -65,11 +110,20 @@ public abstract class AbstractJMSContext implements Serializable {
         return context;
     }
 
-    void cleanUp() {
+    synchronized void cleanUp() {
         ROOT_LOGGER.debugf("Clean up JMSContext created from %s", this);
         for (JMSContext jmsContext : contexts.values()) {
-            jmsContext.close();
+            JMSContextPool pool = pools.get(jmsContext);
+            if (pool == null) {
+                jmsContext.close();
+            } else if (notReusable.contains(jmsContext)) {
+                pool.discard(jmsContext);
+            } else {
+                pool.release(jmsContext);
+            }
         }
         contexts.clear();
+        pools.clear();
+        notReusable.clear();
     }
 }
@@ -40,6 +40,22 @@ import org.jboss.metadata.property.PropertyReplacer;
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2013 Red Hat inc.
  */
 public class CDIDeploymentProcessor implements DeploymentUnitProcessor {
+
+    private final int jmsContextPoolMaxSize;
+    private final long jmsContextPoolLeakTimeout;
+    private final JMSContextPoolStatistics jmsContextPoolStatistics;
+
+    /**
+     * @param jmsContextPoolMaxSize the maximum number of idle JMSContexts kept by each pool, pooling is disabled if it is {@code 0}
+     * @param jmsContextPoolLeakTimeout the number of seconds after which a JMSContext borrowed from a pool is closed as leaked
+     * @param jmsContextPoolStatistics the statistics of the pools of the subsystem
+     */
+    public CDIDeploymentProcessor(int jmsContextPoolMaxSize, long jmsContextPoolLeakTimeout, JMSContextPoolStatistics jmsContextPoolStatistics) {
+        this.jmsContextPoolMaxSize = jmsContextPoolMaxSize;
+        this.jmsContextPoolLeakTimeout = jmsContextPoolLeakTimeout;
+        this.jmsContextPoolStatistics = jmsContextPoolStatistics;
+    }
+
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         final DeploymentUnit parent = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
@@ -48,10 +64,30 @@ public class CDIDeploymentProcessor implements DeploymentUnitProcessor {
         final CapabilityServiceSupport support = deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT);
         if (support.hasCapability(WELD_CAPABILITY_NAME)) {
             support.getOptionalCapabilityRuntimeAPI(WELD_CAPABILITY_NAME, WeldCapability.class).get()
-                    .registerExtensionInstance(new JMSCDIExtension(propertyReplacer), parent);
+                    .registerExtensionInstance(new JMSCDIExtension(propertyReplacer, getPools(parent)), parent);
+        }
+    }
+
+    private JMSContextPools getPools(DeploymentUnit parent) {
+        if (jmsContextPoolMaxSize <= 0) {
+            return null;
+        }
+        synchronized (parent) {
+            JMSContextPools pools = parent.getAttachment(JMSContextPools.ATTACHMENT_KEY);
+            if (pools == null) {
+                pools = new JMSContextPools(jmsContextPoolMaxSize, jmsContextPoolLeakTimeout, jmsContextPoolStatistics);
+                parent.putAttachment(JMSContextPools.ATTACHMENT_KEY, pools);
+            }
+            return pools;
         }
     }
 
     public void undeploy(DeploymentUnit context) {
+        if (context.getParent() == null) {
+            JMSContextPools pools = context.removeAttachment(JMSContextPools.ATTACHMENT_KEY);
+            if (pools != null) {
+                pools.close();
+            }
+        }
     }
 }
\ No newline at end of file
@@ -102,6 +102,16 @@ class InjectedJMSContext extends JMSContextWrapper implements Serializable {
         return contextInstance;
     }
 
+    /**
+     * Return the actual JMSContext and prevent it from being pooled once the scope ends.
+     */
+    @Override
+    JMSContext getStatefulDelegate() {
+        JMSContext contextInstance = getDelegate();
+        requestedJMSContext.markNotReusable(id);
+        return contextInstance;
+    }
+
     /**
      * check whether there is an active transaction.
      */
@@ -39,9 +39,19 @@ class JMSCDIExtension implements Extension {
 
     static PropertyReplacer propertyReplacer;
 
-    JMSCDIExtension(PropertyReplacer propertyReplacer) {
+    private final JMSContextPools pools;
+
+    JMSCDIExtension(PropertyReplacer propertyReplacer, JMSContextPools pools) {
         // store the propertyReplacer in a static field so that it can be used in JMSInfo by beans instantiated by CDI
         JMSCDIExtension.propertyReplacer = propertyReplacer;
+        this.pools = pools;
+    }
+
+    /**
+     * @return the pools of JMSContexts of the deployment or {@code null} if pooling is disabled
+     */
+    JMSContextPools getPools() {
+        return pools;
     }
 
     private void beforeBeanDiscovery(@Observes BeforeBeanDiscovery bbd, BeanManager bm) {
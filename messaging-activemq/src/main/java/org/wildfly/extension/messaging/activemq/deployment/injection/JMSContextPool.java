@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import static org.wildfly.extension.messaging.activemq.logging.MessagingLogger.ROOT_LOGGER;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.jms.JMSContext;
+import javax.jms.JMSRuntimeException;
+
+/**
+ * Bounded pool of idle JMSContexts created with the same connection factory and JMS information (credentials and session mode).
+ *
+ * The pools of a deployment are created and closed by its {@link JMSContextPools}. A JMSContext that is not returned
+ * within the leak timeout is reported as leaked and closed.
+ */
+class JMSContextPool {
+
+    private final JMSInfo info;
+    private final int maxSize;
+    private final long leakTimeout;
+    private final JMSContextPoolStatistics statistics;
+    private final Deque<JMSContext> idleContexts = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    // borrowed contexts and the time (in nanoseconds) they were borrowed at
+    private final Map<JMSContext, Long> borrowedContexts = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param maxSize the maximum number of idle JMSContexts
+     * @param leakTimeout the number of seconds after which a borrowed JMSContext is reported as leaked
+     */
+    JMSContextPool(JMSInfo info, int maxSize, long leakTimeout, JMSContextPoolStatistics statistics) {
+        this.info = info;
+        this.maxSize = maxSize;
+        this.leakTimeout = leakTimeout;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Return an idle JMSContext from the pool or create a new one with the given factory if the pool is empty.
+     */
+    JMSContext borrow(Supplier<JMSContext> factory) {
+        JMSContext context = idleContexts.pollFirst();
+        if (context != null) {
+            idleCount.decrementAndGet();
+            statistics.reused();
+        } else {
+            detectLeaks();
+            context = factory.get();
+            statistics.created();
+        }
+        borrowedContexts.put(context, System.nanoTime());
+        return context;
+    }
+
+    /**
+     * Return a borrowed JMSContext to the pool. The context is closed if the pool is full or closed, or if it was
+     * reported as leaked.
+     */
+    void release(JMSContext context) {
+        if (!closed && borrowedContexts.remove(context) != null) {
+            if (idleCount.incrementAndGet() <= maxSize) {
+                idleContexts.offerFirst(context);
+                statistics.released();
+                // the pool may have been closed concurrently, make sure the context does not stay in it
+                if (closed) {
+                    closeIdleContexts();
+                }
+                return;
+            }
+            idleCount.decrementAndGet();
+            statistics.discarded();
+            close(context);
+            return;
+        }
+        discard(context);
+    }
+
+    /**
+     * Close a borrowed JMSContext that must not be reused.
+     */
+    void discard(JMSContext context) {
+        if (borrowedContexts.remove(context) != null) {
+            statistics.discarded();
+        }
+        close(context);
+    }
+
+    /**
+     * Close the idle JMSContexts. The JMSContexts which are still borrowed are closed when they are returned.
+     */
+    void close() {
+        closed = true;
+        closeIdleContexts();
+    }
+
+    private void closeIdleContexts() {
+        JMSContext context;
+        while ((context = idleContexts.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            statistics.idleClosed();
+            close(context);
+        }
+    }
+
+    private void detectLeaks() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.SECONDS.toNanos(leakTimeout);
+        Iterator<Map.Entry<JMSContext, Long>> iterator = borrowedContexts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<JMSContext, Long> entry = iterator.next();
+            if (now - entry.getValue() > timeout && borrowedContexts.remove(entry.getKey(), entry.getValue())) {
+                statistics.leaked();
+                ROOT_LOGGER.leakedPooledJMSContext(info, leakTimeout);
+                close(entry.getKey());
+            }
+        }
+    }
+
+    private void close(JMSContext context) {
+        try {
+            context.close();
+        } catch (JMSRuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to close JMSContext created from %s", info);
+        }
+    }
+
+    int getIdleCount() {
+        return idleCount.get();
+    }
+
+    int getBorrowedCount() {
+        return borrowedContexts.size();
+    }
+
+    @Override
+    public String toString() {
+        return "JMSContextPool{info=" + info + ", idle=" + getIdleCount() + ", borrowed=" + getBorrowedCount() + "}";
+    }
+}
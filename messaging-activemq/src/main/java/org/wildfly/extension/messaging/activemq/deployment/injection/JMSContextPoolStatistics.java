@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the {@link JMSContextPool}s of all the deployments using a messaging subsystem, exposed as its metrics.
+ */
+public final class JMSContextPoolStatistics {
+
+    private final LongAdder idleCount = new LongAdder();
+    private final LongAdder borrowedCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder reusedCount = new LongAdder();
+    private final LongAdder discardedCount = new LongAdder();
+    private final LongAdder leakedCount = new LongAdder();
+
+    public JMSContextPoolStatistics() {
+    }
+
+    void created() {
+        createdCount.increment();
+        borrowedCount.increment();
+    }
+
+    void reused() {
+        reusedCount.increment();
+        idleCount.decrement();
+        borrowedCount.increment();
+    }
+
+    void released() {
+        borrowedCount.decrement();
+        idleCount.increment();
+    }
+
+    void discarded() {
+        discardedCount.increment();
+        borrowedCount.decrement();
+    }
+
+    void leaked() {
+        leakedCount.increment();
+        borrowedCount.decrement();
+    }
+
+    void idleClosed() {
+        idleCount.decrement();
+    }
+
+    /**
+     * The number of JMSContexts waiting in a pool to be reused.
+     */
+    public long getIdleCount() {
+        return idleCount.sum();
+    }
+
+    /**
+     * The number of JMSContexts borrowed from a pool and not yet returned.
+     */
+    public long getBorrowedCount() {
+        return borrowedCount.sum();
+    }
+
+    /**
+     * The number of JMSContexts created because no pooled context was available.
+     */
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    /**
+     * The number of times a pooled JMSContext was reused.
+     */
+    public long getReusedCount() {
+        return reusedCount.sum();
+    }
+
+    /**
+     * The number of borrowed JMSContexts closed instead of being returned to their pool.
+     */
+    public long getDiscardedCount() {
+        return discardedCount.sum();
+    }
+
+    /**
+     * The number of borrowed JMSContexts closed because they were not returned within the leak timeout.
+     */
+    public long getLeakedCount() {
+        return leakedCount.sum();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.activemq.artemis.ra.ActiveMQRAConnectionFactory;
+import org.jboss.as.server.deployment.AttachmentKey;
+
+/**
+ * The {@link JMSContextPool}s of a deployment, one per connection factory instance and JMS information.
+ * They are attached to the top-level deployment unit and closed when it is undeployed so that no JMSContext outlives
+ * the deployment (and the connection factory it was created from).
+ */
+class JMSContextPools {
+
+    static final AttachmentKey<JMSContextPools> ATTACHMENT_KEY = AttachmentKey.create(JMSContextPools.class);
+
+    private final int maxSize;
+    private final long leakTimeout;
+    private final JMSContextPoolStatistics statistics;
+    private final ConcurrentMap<Key, JMSContextPool> pools = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param maxSize the maximum number of idle JMSContexts of each pool
+     * @param leakTimeout the number of seconds after which a borrowed JMSContext is reported as leaked
+     */
+    JMSContextPools(int maxSize, long leakTimeout, JMSContextPoolStatistics statistics) {
+        this.maxSize = maxSize;
+        this.leakTimeout = leakTimeout;
+        this.statistics = statistics;
+    }
+
+    /**
+     * JMSContexts created from a pooled-connection-factory hold a managed connection of the resource adapter which
+     * already pools them. Keeping such JMSContexts idle would pin managed connections, they are never pooled.
+     */
+    static boolean accepts(ConnectionFactory connectionFactory) {
+        return !(connectionFactory instanceof ActiveMQRAConnectionFactory);
+    }
+
+    JMSContextPool getPool(JMSInfo info, ConnectionFactory connectionFactory) {
+        JMSContextPool pool = pools.computeIfAbsent(new Key(info, connectionFactory), key -> new JMSContextPool(info, maxSize, leakTimeout, statistics));
+        if (closed) {
+            // the deployment is being undeployed, do not keep any context
+            pool.close();
+        }
+        return pool;
+    }
+
+    void close() {
+        closed = true;
+        for (JMSContextPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+
+    /**
+     * The connection factory is compared by identity, the JMS information by value.
+     */
+    private static final class Key {
+        private final JMSInfo info;
+        private final ConnectionFactory connectionFactory;
+
+        Key(JMSInfo info, ConnectionFactory connectionFactory) {
+            this.info = info;
+            this.connectionFactory = connectionFactory;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return connectionFactory == key.connectionFactory && info.equals(key.info);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(connectionFactory) + info.hashCode();
+        }
+    }
+}
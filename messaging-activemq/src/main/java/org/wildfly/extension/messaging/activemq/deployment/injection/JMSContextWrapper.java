@@ -54,11 +54,19 @@ abstract class JMSContextWrapper implements JMSContext {
 
     abstract JMSContext getDelegate();
 
+    /**
+     * Return the delegate for an operation that leaves state (consumers, browsers, temporary destinations or
+     * contexts sharing its connection) behind in the delegate.
+     */
+    JMSContext getStatefulDelegate() {
+        return getDelegate();
+    }
+
     // JMSContext interface implementation
 
     @Override
     public JMSContext createContext(int sessionMode) {
-        return getDelegate().createContext(sessionMode);
+        return getStatefulDelegate().createContext(sessionMode);
     }
 
     @Override
@@ -184,17 +192,17 @@ abstract class JMSContextWrapper implements JMSContext {
 
     @Override
     public JMSConsumer createConsumer(Destination destination) {
-        return getDelegate().createConsumer(destination);
+        return getStatefulDelegate().createConsumer(destination);
     }
 
     @Override
     public JMSConsumer createConsumer(Destination destination, String messageSelector) {
-        return getDelegate().createConsumer(destination, messageSelector);
+        return getStatefulDelegate().createConsumer(destination, messageSelector);
     }
 
     @Override
     public JMSConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) {
-        return getDelegate().createConsumer(destination, messageSelector, noLocal);
+        return getStatefulDelegate().createConsumer(destination, messageSelector, noLocal);
     }
 
     @Override
@@ -209,52 +217,52 @@ abstract class JMSContextWrapper implements JMSContext {
 
     @Override
     public JMSConsumer createDurableConsumer(Topic topic, String name) {
-        return getDelegate().createDurableConsumer(topic, name);
+        return getStatefulDelegate().createDurableConsumer(topic, name);
     }
 
     @Override
     public JMSConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) {
-        return getDelegate().createDurableConsumer(topic, name, messageSelector, noLocal);
+        return getStatefulDelegate().createDurableConsumer(topic, name, messageSelector, noLocal);
     }
 
     @Override
     public JMSConsumer createSharedDurableConsumer(Topic topic, String name) {
-        return getDelegate().createSharedDurableConsumer(topic, name);
+        return getStatefulDelegate().createSharedDurableConsumer(topic, name);
     }
 
     @Override
     public JMSConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) {
-        return getDelegate().createSharedDurableConsumer(topic, name, messageSelector);
+        return getStatefulDelegate().createSharedDurableConsumer(topic, name, messageSelector);
     }
 
     @Override
     public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) {
-        return getDelegate().createSharedConsumer(topic, sharedSubscriptionName);
+        return getStatefulDelegate().createSharedConsumer(topic, sharedSubscriptionName);
     }
 
     @Override
     public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) {
-        return getDelegate().createSharedConsumer(topic, sharedSubscriptionName, messageSelector);
+        return getStatefulDelegate().createSharedConsumer(topic, sharedSubscriptionName, messageSelector);
     }
 
     @Override
     public QueueBrowser createBrowser(Queue queue) {
-        return getDelegate().createBrowser(queue);
+        return getStatefulDelegate().createBrowser(queue);
     }
 
     @Override
     public QueueBrowser createBrowser(Queue queue, String messageSelector) {
-        return getDelegate().createBrowser(queue, messageSelector);
+        return getStatefulDelegate().createBrowser(queue, messageSelector);
     }
 
     @Override
     public TemporaryQueue createTemporaryQueue() {
-        return getDelegate().createTemporaryQueue();
+        return getStatefulDelegate().createTemporaryQueue();
     }
 
     @Override
     public TemporaryTopic createTemporaryTopic() {
-        return getDelegate().createTemporaryTopic();
+        return getStatefulDelegate().createTemporaryTopic();
     }
 
     @Override
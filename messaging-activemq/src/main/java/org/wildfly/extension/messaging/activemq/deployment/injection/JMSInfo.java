@@ -96,6 +96,12 @@ class JMSInfo {
         return true;
     }
 
+    @Override
+    public String toString() {
+        // the password is intentionally left out
+        return "JMSInfo{connectionFactoryLookup=" + connectionFactoryLookup + ", userName=" + userName + ", sessionMode=" + sessionMode + "}";
+    }
+
     @Override
     public int hashCode() {
         int result = connectionFactoryLookup != null ? connectionFactoryLookup.hashCode() : 0;
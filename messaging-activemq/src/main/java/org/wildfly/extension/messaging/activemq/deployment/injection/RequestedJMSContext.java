@@ -24,6 +24,8 @@ package org.wildfly.extension.messaging.activemq.deployment.injection;
 
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.jms.JMSContext;
 
 /**
  * Injection of JMSContext in the @RequestScoped scope.
@@ -33,6 +35,30 @@ import javax.enterprise.context.RequestScoped;
 @RequestScoped
 class RequestedJMSContext extends AbstractJMSContext {
 
+    // Pools of the deployment, null if the JMSContexts are not pooled.
+    // A new instance is created (and injected) for every request so the pools are always looked up from the deployment.
+    private JMSContextPools pools;
+
+    @Inject
+    void setExtension(JMSCDIExtension extension) {
+        this.pools = extension.getPools();
+    }
+
+    @Override
+    JMSContextPools getPools() {
+        return pools;
+    }
+
+    /**
+     * Contexts used outside of a transaction are not enlisted in any transaction and can be safely
+     * reused by later requests, unless they are transacted: their local transaction would be shared with
+     * the next request.
+     */
+    @Override
+    boolean isPoolable(JMSInfo info) {
+        return info.getSessionMode() != JMSContext.SESSION_TRANSACTED;
+    }
+
     @PreDestroy
     @Override
     void cleanUp() {
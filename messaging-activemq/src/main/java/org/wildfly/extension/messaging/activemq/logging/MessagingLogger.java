@@ -868,4 +868,8 @@ public interface MessagingLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 101, value = "Invalid value %s for %s, legal values are %s, default value is applied.")
     void invalidTransactionNameValue(String value, String name, Collection<?> validValues);
+
+    @LogMessage(level = WARN)
+    @Message(id = 102, value = "JMSContext created from %s was not returned to its pool after %d seconds, it has been closed")
+    void leakedPooledJMSContext(Object info, long leakTimeout);
 }
@@ -0,0 +1,236 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
+
+public class CommandDispatcherBroadcastEndpointTestCase {
+
+    private static final byte[] FOO = "foo".getBytes();
+    private static final byte[] BAR = "bar".getBytes();
+
+    @Test
+    public void broadcastSuppressesIdenticalBroadcasts() throws Exception {
+        CommandDispatcherBroadcastEndpointFactory factory = new CommandDispatcherBroadcastEndpointFactory(createCommandDispatcherFactory(), "suppress", TimeUnit.MINUTES.toMillis(1), 16);
+        BroadcastEndpoint receiver = factory.createBroadcastEndpoint();
+        receiver.openClient();
+        BroadcastEndpoint broadcaster = factory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            broadcaster.broadcast(FOO);
+            broadcaster.broadcast(FOO);
+            broadcaster.broadcast(FOO);
+
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertNull(receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertEquals(2, factory.getSuppressedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+            receiver.close(false);
+        }
+    }
+
+    @Test
+    public void broadcastSendsChangedBroadcasts() throws Exception {
+        CommandDispatcherBroadcastEndpointFactory factory = new CommandDispatcherBroadcastEndpointFactory(createCommandDispatcherFactory(), "changed", TimeUnit.MINUTES.toMillis(1), 16);
+        BroadcastEndpoint receiver = factory.createBroadcastEndpoint();
+        receiver.openClient();
+        BroadcastEndpoint broadcaster = factory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            broadcaster.broadcast(FOO);
+            broadcaster.broadcast(BAR);
+            broadcaster.broadcast(FOO);
+
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertArrayEquals(BAR, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertNull(receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertEquals(0, factory.getSuppressedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+            receiver.close(false);
+        }
+    }
+
+    @Test
+    public void broadcastSendsIdenticalBroadcastAfterRefreshInterval() throws Exception {
+        CommandDispatcherBroadcastEndpointFactory factory = new CommandDispatcherBroadcastEndpointFactory(createCommandDispatcherFactory(), "refresh", 1, 16);
+        BroadcastEndpoint receiver = factory.createBroadcastEndpoint();
+        receiver.openClient();
+        BroadcastEndpoint broadcaster = factory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            broadcaster.broadcast(FOO);
+            Thread.sleep(10);
+            broadcaster.broadcast(FOO);
+
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertNull(receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertEquals(0, factory.getSuppressedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+            receiver.close(false);
+        }
+    }
+
+    @Test
+    public void broadcastSendsEveryBroadcastWithoutRefreshInterval() throws Exception {
+        CommandDispatcherBroadcastEndpointFactory factory = new CommandDispatcherBroadcastEndpointFactory(createCommandDispatcherFactory(), "default");
+        BroadcastEndpoint receiver = factory.createBroadcastEndpoint();
+        receiver.openClient();
+        BroadcastEndpoint broadcaster = factory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            broadcaster.broadcast(FOO);
+            broadcaster.broadcast(FOO);
+
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertArrayEquals(FOO, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertNull(receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertEquals(0, factory.getSuppressedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+            receiver.close(false);
+        }
+    }
+
+    @Test
+    public void receiveDropsOldestBroadcasts() throws Exception {
+        CommandDispatcherBroadcastEndpointFactory factory = new CommandDispatcherBroadcastEndpointFactory(createCommandDispatcherFactory(), "drop", 0, 2);
+        BroadcastEndpoint broadcaster = factory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            for (int i = 0; i < 5; i++) {
+                broadcaster.broadcast(new byte[] { (byte) i });
+            }
+            assertEquals(3, factory.getDroppedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+        }
+
+        QueueBroadcastManager manager = new QueueBroadcastManager(2);
+        manager.receive(FOO);
+        manager.receive(BAR);
+        manager.receive(FOO);
+
+        assertEquals(1, manager.getDroppedBroadcasts());
+        assertArrayEquals(BAR, manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+        assertArrayEquals(FOO, manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+        assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void receiveQueueSizeIsConfiguredByBroadcastGroup() throws Exception {
+        CommandDispatcherFactory dispatcherFactory = createCommandDispatcherFactory();
+        // the discovery group is started before the broadcast group and does not configure the queue
+        CommandDispatcherBroadcastEndpointFactory discoveryFactory = new CommandDispatcherBroadcastEndpointFactory(dispatcherFactory, "configured");
+        BroadcastEndpoint receiver = discoveryFactory.createBroadcastEndpoint();
+        receiver.openClient();
+        CommandDispatcherBroadcastEndpointFactory broadcastFactory = new CommandDispatcherBroadcastEndpointFactory(dispatcherFactory, "configured", 0, 2);
+        BroadcastEndpoint broadcaster = broadcastFactory.createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        try {
+            for (int i = 0; i < 5; i++) {
+                broadcaster.broadcast(new byte[] { (byte) i });
+            }
+            assertArrayEquals(new byte[] { 3 }, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertArrayEquals(new byte[] { 4 }, receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertNull(receiver.receiveBroadcast(0, TimeUnit.MILLISECONDS));
+            assertEquals(3, broadcastFactory.getDroppedBroadcasts());
+        } finally {
+            broadcaster.close(true);
+            receiver.close(false);
+        }
+        assertNull(BroadcastManagers.get("configured"));
+    }
+
+    @Test
+    public void receiveQueueSizeIsAppliedAfterRestart() throws Exception {
+        CommandDispatcherFactory dispatcherFactory = createCommandDispatcherFactory();
+        BroadcastEndpoint broadcaster = new CommandDispatcherBroadcastEndpointFactory(dispatcherFactory, "restart", 0, 2).createBroadcastEndpoint();
+        broadcaster.openBroadcaster();
+        assertEquals(2, BroadcastManagers.get("restart").getCapacity());
+        broadcaster.close(true);
+
+        // e.g. after a reload with a new receive-queue-size
+        BroadcastEndpoint restarted = new CommandDispatcherBroadcastEndpointFactory(dispatcherFactory, "restart", 0, 8).createBroadcastEndpoint();
+        restarted.openBroadcaster();
+        try {
+            assertEquals(8, BroadcastManagers.get("restart").getCapacity());
+        } finally {
+            restarted.close(true);
+        }
+
+        BroadcastEndpoint receiver = new CommandDispatcherBroadcastEndpointFactory(dispatcherFactory, "restart").createBroadcastEndpoint();
+        receiver.openClient();
+        try {
+            assertEquals(BroadcastManagers.DEFAULT_RECEIVE_QUEUE_SIZE, BroadcastManagers.get("restart").getCapacity());
+        } finally {
+            receiver.close(false);
+        }
+    }
+
+    /**
+     * Creates a {@link CommandDispatcherFactory} whose dispatchers execute the commands sent to the group on their own context,
+     * as if the group only contained the local member.
+     */
+    private static CommandDispatcherFactory createCommandDispatcherFactory() {
+        return (CommandDispatcherFactory) Proxy.newProxyInstance(CommandDispatcherBroadcastEndpointTestCase.class.getClassLoader(), new Class<?>[] { CommandDispatcherFactory.class }, (proxy, method, args) -> {
+            if (method.getName().equals("createCommandDispatcher")) {
+                return createCommandDispatcher(args[1]);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CommandDispatcher<Object> createCommandDispatcher(Object context) {
+        return (CommandDispatcher<Object>) Proxy.newProxyInstance(CommandDispatcherBroadcastEndpointTestCase.class.getClassLoader(), new Class<?>[] { CommandDispatcher.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "executeOnGroup":
+                    ((Command<Object, Object>) args[0]).execute(context);
+                    return Collections.emptyMap();
+                case "getContext":
+                    return context;
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSContext;
+import javax.jms.JMSSessionMode;
+
+import org.apache.activemq.artemis.ra.ActiveMQRAConnectionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JMSContextPoolTestCase {
+
+    private final List<JMSContext> createdContexts = new ArrayList<>();
+    private final Set<JMSContext> closedContexts = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ConnectionFactory connectionFactory;
+    private JMSContextPoolStatistics statistics;
+
+    @Before
+    public void setUp() {
+        connectionFactory = (ConnectionFactory) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ConnectionFactory.class}, (proxy, method, args) -> {
+            if (method.getName().equals("createContext")) {
+                return createContext();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        statistics = new JMSContextPoolStatistics();
+    }
+
+    private static ConnectionFactory createPooledConnectionFactory(ConnectionFactory delegate) {
+        return (ConnectionFactory) Proxy.newProxyInstance(JMSContextPoolTestCase.class.getClassLoader(), new Class<?>[]{ActiveMQRAConnectionFactory.class}, (proxy, method, args) -> method.invoke(delegate, args));
+    }
+
+    private JMSContext createContext() {
+        JMSContext[] context = new JMSContext[1];
+        context[0] = (JMSContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{JMSContext.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    closedContexts.add(context[0]);
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "JMSContext@" + System.identityHashCode(proxy);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        createdContexts.add(context[0]);
+        return context[0];
+    }
+
+    @Test
+    public void testContextIsReused() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext firstRequest = new RequestedJMSContext();
+        JMSContext context = firstRequest.getContext("injection", info, connectionFactory, pools);
+        assertSame(context, firstRequest.getContext("injection", info, connectionFactory, pools));
+        firstRequest.cleanUp();
+        assertFalse(closedContexts.contains(context));
+        assertEquals(1, statistics.getIdleCount());
+
+        RequestedJMSContext secondRequest = new RequestedJMSContext();
+        assertSame(context, secondRequest.getContext("injection", info, connectionFactory, pools));
+        assertEquals(1, createdContexts.size());
+        assertEquals(1, statistics.getReusedCount());
+        assertEquals(1, statistics.getBorrowedCount());
+        secondRequest.cleanUp();
+    }
+
+    @Test
+    public void testContextIsClosedWhenPoolIsFull() {
+        JMSContextPools pools = new JMSContextPools(1, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext request = new RequestedJMSContext();
+        JMSContext first = request.getContext("first", info, connectionFactory, pools);
+        JMSContext second = request.getContext("second", info, connectionFactory, pools);
+        assertNotSame(first, second);
+        request.cleanUp();
+
+        assertEquals(1, closedContexts.size());
+        assertEquals(1, statistics.getIdleCount());
+        assertEquals(1, statistics.getDiscardedCount());
+        assertEquals(0, statistics.getBorrowedCount());
+    }
+
+    @Test
+    public void testNotReusableContextIsClosed() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext request = new RequestedJMSContext();
+        JMSContext context = request.getContext("injection", info, connectionFactory, pools);
+        request.markNotReusable("injection");
+        request.cleanUp();
+
+        assertTrue(closedContexts.contains(context));
+        assertEquals(0, statistics.getIdleCount());
+        assertEquals(1, statistics.getDiscardedCount());
+    }
+
+    @Test
+    public void testLeakedContextIsClosed() throws Exception {
+        JMSInfo info = new JMSInfo(null, null, null);
+        JMSContextPool pool = new JMSContextPool(info, 2, 0, statistics);
+
+        JMSContext leaked = pool.borrow(this::createContext);
+        Thread.sleep(1);
+        JMSContext context = pool.borrow(this::createContext);
+
+        assertTrue(closedContexts.contains(leaked));
+        assertFalse(closedContexts.contains(context));
+        assertEquals(1, statistics.getLeakedCount());
+        assertEquals(1, pool.getBorrowedCount());
+
+        // a leaked context returned late is not pooled
+        pool.release(leaked);
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testContextsAreClosedWhenPoolsAreClosed() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext firstRequest = new RequestedJMSContext();
+        JMSContext idle = firstRequest.getContext("injection", info, connectionFactory, pools);
+        firstRequest.cleanUp();
+        RequestedJMSContext secondRequest = new RequestedJMSContext();
+        JMSContext borrowed = secondRequest.getContext("injection", info, connectionFactory, pools);
+        RequestedJMSContext thirdRequest = new RequestedJMSContext();
+        thirdRequest.getContext("injection", info, connectionFactory, pools);
+        thirdRequest.cleanUp();
+
+        pools.close();
+        assertEquals(1, closedContexts.size());
+        assertEquals(0, statistics.getIdleCount());
+
+        // the context still in use is closed at the end of its scope
+        secondRequest.cleanUp();
+        assertTrue(closedContexts.contains(borrowed));
+        assertEquals(2, closedContexts.size());
+        assertEquals(0, statistics.getBorrowedCount());
+        assertSame(idle, borrowed);
+    }
+
+    @Test
+    public void testTransactedContextIsNotPooled() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, new JMSSessionMode() {
+            @Override
+            public int value() {
+                return JMSContext.SESSION_TRANSACTED;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return JMSSessionMode.class;
+            }
+        });
+
+        RequestedJMSContext request = new RequestedJMSContext();
+        JMSContext context = request.getContext("injection", info, connectionFactory, pools);
+        request.cleanUp();
+
+        assertTrue(closedContexts.contains(context));
+        assertEquals(0, statistics.getCreatedCount());
+        assertEquals(0, statistics.getIdleCount());
+    }
+
+    @Test
+    public void testPooledConnectionFactoryContextIsNotPooled() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+        ConnectionFactory pooledConnectionFactory = createPooledConnectionFactory(connectionFactory);
+
+        RequestedJMSContext request = new RequestedJMSContext();
+        JMSContext context = request.getContext("injection", info, pooledConnectionFactory, pools);
+        request.cleanUp();
+
+        assertTrue(closedContexts.contains(context));
+        assertEquals(0, statistics.getCreatedCount());
+        assertEquals(0, statistics.getIdleCount());
+    }
+
+    @Test
+    public void testPoolsAreInjectedInRequest() {
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext firstRequest = new RequestedJMSContext();
+        firstRequest.setExtension(new JMSCDIExtension(null, pools));
+        JMSContext context = firstRequest.getContext("injection", info, connectionFactory);
+        firstRequest.cleanUp();
+
+        RequestedJMSContext secondRequest = new RequestedJMSContext();
+        secondRequest.setExtension(new JMSCDIExtension(null, pools));
+        assertSame(context, secondRequest.getContext("injection", info, connectionFactory));
+        secondRequest.cleanUp();
+        assertEquals(1, statistics.getReusedCount());
+    }
+
+    @Test
+    public void testStatisticsAreNotShared() {
+        JMSContextPoolStatistics otherStatistics = new JMSContextPoolStatistics();
+        JMSContextPools pools = new JMSContextPools(2, 60, statistics);
+        JMSContextPools otherPools = new JMSContextPools(2, 60, otherStatistics);
+        JMSInfo info = new JMSInfo(null, null, null);
+
+        RequestedJMSContext request = new RequestedJMSContext();
+        request.getContext("first", info, connectionFactory, pools);
+        request.getContext("second", info, connectionFactory, pools);
+        request.getContext("third", info, connectionFactory, otherPools);
+
+        assertEquals(2, statistics.getBorrowedCount());
+        assertEquals(1, otherStatistics.getBorrowedCount());
+        request.cleanUp();
+        assertEquals(2, statistics.getIdleCount());
+        assertEquals(1, otherStatistics.getIdleCount());
+    }
+}
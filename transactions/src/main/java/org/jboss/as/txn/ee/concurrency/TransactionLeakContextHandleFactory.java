@@ -48,10 +48,11 @@ public class TransactionLeakContextHandleFactory implements ContextHandleFactory
     public static final String NAME = "TRANSACTION_LEAK";
 
     private final DelegatingSupplier<TransactionManager> transactionManager = new DelegatingSupplier<>();
+    private volatile TransactionLeakSetupContextHandle setupContextHandle;
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new TransactionLeakSetupContextHandle(transactionManager.get());
+        return getSetupContextHandle();
     }
 
     @Override
@@ -71,7 +72,19 @@ public class TransactionLeakContextHandleFactory implements ContextHandleFactory
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new TransactionLeakSetupContextHandle(transactionManager.get());
+        return getSetupContextHandle();
+    }
+
+    /**
+     * The setup handle only depends on the transaction manager, so it is shared for as long as the manager stays the same.
+     */
+    private SetupContextHandle getSetupContextHandle() {
+        final TransactionManager transactionManager = this.transactionManager.get();
+        TransactionLeakSetupContextHandle handle = setupContextHandle;
+        if (handle == null || handle.transactionManager != transactionManager) {
+            setupContextHandle = handle = new TransactionLeakSetupContextHandle(transactionManager);
+        }
+        return handle;
     }
 
     public DelegatingSupplier<TransactionManager> getTransactionManagerSupplier() {
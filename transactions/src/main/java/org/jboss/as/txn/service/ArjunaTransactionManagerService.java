@@ -29,6 +29,7 @@ import com.arjuna.ats.arjuna.tools.osb.mbean.ObjStoreBrowser;
 import com.arjuna.ats.jta.common.JTAEnvironmentBean;
 import com.arjuna.orbportability.internal.utils.PostInitLoader;
 import org.jboss.as.txn.logging.TransactionLogger;
+import org.jboss.as.txn.service.internal.tsr.TransactionPhaseStatistics;
 import org.jboss.as.txn.service.internal.tsr.TransactionSynchronizationRegistryWrapper;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
@@ -66,6 +67,7 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
 
     private com.arjuna.ats.jbossatx.jta.TransactionManagerService value;
     private ObjStoreBrowser objStoreBrowser;
+    private volatile TransactionPhaseStatistics phaseStatistics;
 
     private boolean transactionStatusManagerEnable;
     private boolean coordinatorEnableStatistics;
@@ -90,6 +92,9 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
 
         TxControl.setDefaultTimeout(coordinatorDefaultTimeout);
 
+        // The latencies of the transaction phases are those of this transaction manager only
+        phaseStatistics = new TransactionPhaseStatistics();
+
         // Object Store Browser bean
         Map<String, String> objStoreBrowserTypes = new HashMap<String, String>();
         objStoreBrowser = new ObjStoreBrowser();
@@ -105,7 +110,7 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
             final LocalUserTransaction userTransaction = LocalUserTransaction.getInstance();
             jtaEnvironmentBean.getValue().setUserTransaction(userTransaction);
             service.setJbossXATerminator(xaTerminatorInjector.getValue());
-            service.setTransactionSynchronizationRegistry(new TransactionSynchronizationRegistryWrapper());
+            service.setTransactionSynchronizationRegistry(new TransactionSynchronizationRegistryWrapper(phaseStatistics));
 
             try {
                 service.create();
@@ -123,7 +128,7 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
             final LocalUserTransaction userTransaction = LocalUserTransaction.getInstance();
             jtaEnvironmentBean.getValue().setUserTransaction(userTransaction);
             service.setJbossXATerminator(xaTerminatorInjector.getValue());
-            service.setTransactionSynchronizationRegistry(new TransactionSynchronizationRegistryWrapper());
+            service.setTransactionSynchronizationRegistry(new TransactionSynchronizationRegistryWrapper(phaseStatistics));
             service.setPropagateFullContext(true);
 
             // this is not great, but it's the only way presently to influence the behavior of com.arjuna.ats.internal.jbossatx.jts.InboundTransactionCurrentImple
@@ -167,6 +172,7 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
         value.destroy();
         objStoreBrowser.stop();
         value = null;
+        phaseStatistics = null;
     }
 
     @Override
@@ -174,6 +180,13 @@ public final class ArjunaTransactionManagerService implements Service<com.arjuna
         return TxnServices.notNull(value);
     }
 
+    /**
+     * @return the latency of the phases of the transactions, or {@code null} if the transaction manager is not started
+     */
+    public TransactionPhaseStatistics getPhaseStatistics() {
+        return phaseStatistics;
+    }
+
     public Injector<JBossXATerminator> getXaTerminatorInjector() {
         return xaTerminatorInjector;
     }
@@ -21,8 +21,7 @@
  */
 package org.jboss.as.txn.service.internal.tsr;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
@@ -47,10 +46,33 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
  * "Resources can be closed but no transactional work can be performed with them"
  */
 public class JCAOrderedLastSynchronizationList implements Synchronization {
-    private final List<Synchronization> preJcaSyncs = new ArrayList<Synchronization>();
-    private final List<Synchronization> jcaSyncs = new ArrayList<Synchronization>();
+    // Caches whether a given Synchronization class is a JCA synchronization
+    private static final ClassValue<Boolean> JCA_SYNCHRONIZATION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith("org.jboss.jca");
+        }
+    };
+
+    // Most transactions register a single synchronization of each kind, so the first is stored inline.
+    // Any subsequent synchronizations are stored in a lazily created array.
+    private Synchronization firstPreJcaSync;
+    private Synchronization[] otherPreJcaSyncs;
+    private int preJcaSyncCount;
+    private Synchronization firstJcaSync;
+    private Synchronization[] otherJcaSyncs;
+    private int jcaSyncCount;
+
+    // Latency of the transaction phases is only recorded if transaction statistics are enabled, otherwise this is null
+    private final TransactionPhaseStatistics statistics;
+    private final long creationTime;
+    // afterCompletion may run on another thread than beforeCompletion, e.g. the reaper's on timeout
+    private volatile long beforeCompletionEndTime;
+    private volatile boolean beforeCompletionEnded;
 
-    public JCAOrderedLastSynchronizationList() {
+    public JCAOrderedLastSynchronizationList(TransactionPhaseStatistics statistics) {
+        this.statistics = TransactionPhaseStatistics.isEnabled() ? statistics : null;
+        this.creationTime = this.statistics != null ? System.nanoTime() : 0L;
     }
 
     /**
@@ -72,22 +94,50 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
             default:
                 throw TransactionLogger.ROOT_LOGGER.syncsnotallowed(status);
         }
-        if (synchronization.getClass().getName().startsWith("org.jboss.jca")) {
+        if (JCA_SYNCHRONIZATION.get(synchronization.getClass())) {
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.jcaSyncs.add - Class: " + synchronization.getClass() + " HashCode: "
                     + synchronization.hashCode() + " toString: " + synchronization);
             }
-            jcaSyncs.add(synchronization);
-
+            if (jcaSyncCount == 0) {
+                firstJcaSync = synchronization;
+            } else {
+                otherJcaSyncs = append(otherJcaSyncs, jcaSyncCount - 1, synchronization);
+            }
+            jcaSyncCount = jcaSyncCount + 1;
         } else {
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.preJcaSyncs.add - Class: " + synchronization.getClass() + " HashCode: "
                     + synchronization.hashCode() + " toString: " + synchronization);
             }
-            preJcaSyncs.add(synchronization);
+            if (preJcaSyncCount == 0) {
+                firstPreJcaSync = synchronization;
+            } else {
+                otherPreJcaSyncs = append(otherPreJcaSyncs, preJcaSyncCount - 1, synchronization);
+            }
+            preJcaSyncCount = preJcaSyncCount + 1;
         }
     }
 
+    private static Synchronization[] append(Synchronization[] syncs, int index, Synchronization synchronization) {
+        Synchronization[] result = syncs;
+        if (result == null) {
+            result = new Synchronization[2];
+        } else if (index == result.length) {
+            result = Arrays.copyOf(result, index << 1);
+        }
+        result[index] = synchronization;
+        return result;
+    }
+
+    private Synchronization getPreJcaSync(int index) {
+        return (index == 0) ? firstPreJcaSync : otherPreJcaSyncs[index - 1];
+    }
+
+    private Synchronization getJcaSync(int index) {
+        return (index == 0) ? firstJcaSync : otherJcaSyncs[index - 1];
+    }
+
     /**
      * Exceptions from Synchronizations that are registered with this TSR are not trapped for before completion. This is because
      * an error in a Sync here should result in the transaction rolling back.
@@ -100,10 +150,14 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
      */
     @Override
     public void beforeCompletion() {
+        final long startTime = statistics != null ? System.nanoTime() : 0L;
+        if (statistics != null) {
+            statistics.record(TransactionPhase.ACTIVE, creationTime, startTime);
+        }
         // This is needed to guard against syncs being registered during the run, otherwise we could have used an iterator
         int lastIndexProcessed = 0;
-        while ((lastIndexProcessed < preJcaSyncs.size())) {
-            Synchronization preJcaSync = preJcaSyncs.get(lastIndexProcessed);
+        while ((lastIndexProcessed < preJcaSyncCount)) {
+            Synchronization preJcaSync = getPreJcaSync(lastIndexProcessed);
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.preJcaSyncs.before_completion - Class: " + preJcaSync.getClass() + " HashCode: "
                     + preJcaSync.hashCode()
@@ -114,10 +168,15 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
             lastIndexProcessed = lastIndexProcessed + 1;
         }
 
+        final long jcaStartTime = statistics != null ? System.nanoTime() : 0L;
+        if (statistics != null) {
+            statistics.record(TransactionPhase.BEFORE_COMPLETION, startTime, jcaStartTime);
+        }
+
         // Do the same for the jca syncs
         lastIndexProcessed = 0;
-        while ((lastIndexProcessed < jcaSyncs.size())) {
-            Synchronization jcaSync = jcaSyncs.get(lastIndexProcessed);
+        while ((lastIndexProcessed < jcaSyncCount)) {
+            Synchronization jcaSync = getJcaSync(lastIndexProcessed);
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.jcaSyncs.before_completion - Class: " + jcaSync.getClass() + " HashCode: "
                     + jcaSync.hashCode()
@@ -127,14 +186,27 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
             jcaSync.beforeCompletion();
             lastIndexProcessed = lastIndexProcessed + 1;
         }
+
+        if (statistics != null) {
+            final long endTime = System.nanoTime();
+            statistics.record(TransactionPhase.JCA_BEFORE_COMPLETION, jcaStartTime, endTime);
+            beforeCompletionEndTime = endTime;
+            // Publishes the end time to afterCompletion
+            beforeCompletionEnded = true;
+        }
     }
 
     @Override
     public void afterCompletion(int status) {
+        final long startTime = statistics != null ? System.nanoTime() : 0L;
+        // Completion is not recorded for transactions rolled back without beforeCompletion, e.g. on timeout
+        if (beforeCompletionEnded) {
+            statistics.record(TransactionPhase.COMPLETION, beforeCompletionEndTime, startTime);
+        }
         // The list should be iterated in reverse order - has issues with EJB3 if not
         // https://github.com/jbosstm/narayana/blob/master/ArjunaCore/arjuna/classes/com/arjuna/ats/arjuna/coordinator/TwoPhaseCoordinator.java#L509
-        for (int i = preJcaSyncs.size() - 1; i>= 0; --i) {
-            Synchronization preJcaSync = preJcaSyncs.get(i);
+        for (int i = preJcaSyncCount - 1; i>= 0; --i) {
+            Synchronization preJcaSync = getPreJcaSync(i);
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.preJcaSyncs.afterCompletion - Class: " + preJcaSync.getClass() + " HashCode: "
                     + preJcaSync.hashCode()
@@ -148,8 +220,8 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
                 TransactionLogger.ROOT_LOGGER.preJcaSyncAfterCompletionFailed(preJcaSync, ContextTransactionManager.getInstance().getTransaction(), e);
             }
         }
-        for (int i = jcaSyncs.size() - 1; i>= 0; --i) {
-            Synchronization jcaSync = jcaSyncs.get(i);
+        for (int i = jcaSyncCount - 1; i>= 0; --i) {
+            Synchronization jcaSync = getJcaSync(i);
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.jcaSyncs.afterCompletion - Class: " + jcaSync.getClass() + " HashCode: "
                     + jcaSync.hashCode()
@@ -164,5 +236,8 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
                 TransactionLogger.ROOT_LOGGER.jcaSyncAfterCompletionFailed(jcaSync, ContextTransactionManager.getInstance().getTransaction(), e);
             }
         }
+        if (statistics != null) {
+            statistics.record(TransactionPhase.AFTER_COMPLETION, startTime, System.nanoTime());
+        }
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn.service.internal.tsr;
+
+/**
+ * The phases of the lifecycle of a transaction with interposed synchronizations, whose latency is recorded in
+ * {@link TransactionPhaseStatistics}.
+ */
+public enum TransactionPhase {
+    /**
+     * From the registration of the first interposed synchronization until the start of beforeCompletion.
+     */
+    ACTIVE,
+    /**
+     * beforeCompletion of the interposed, non-JCA synchronizations, e.g. JPA flush.
+     */
+    BEFORE_COMPLETION,
+    /**
+     * beforeCompletion of the JCA synchronizations.
+     */
+    JCA_BEFORE_COMPLETION,
+    /**
+     * From the end of beforeCompletion until the start of afterCompletion, i.e. the prepare and commit (or rollback) of the enlisted resources.
+     */
+    COMPLETION,
+    /**
+     * afterCompletion of all interposed synchronizations.
+     */
+    AFTER_COMPLETION,
+}
@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.txn.service.internal.tsr;
+
+import com.arjuna.ats.arjuna.common.CoordinatorEnvironmentBean;
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import org.jboss.as.ee.utils.LatencyHistogram;
+
+/**
+ * The latency of the {@link TransactionPhase}s of the transactions of one transaction manager, recorded by
+ * {@link JCAOrderedLastSynchronizationList} when transaction statistics are enabled.
+ */
+public final class TransactionPhaseStatistics {
+
+    private static final CoordinatorEnvironmentBean COORDINATOR_ENVIRONMENT = arjPropertyManager.getCoordinatorEnvironmentBean();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TransactionPhase.values().length];
+
+    public TransactionPhaseStatistics() {
+        for (int i = 0; i < this.histograms.length; ++i) {
+            this.histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public LatencyHistogram getHistogram(TransactionPhase phase) {
+        return this.histograms[phase.ordinal()];
+    }
+
+    void record(TransactionPhase phase, long startTime, long endTime) {
+        this.histograms[phase.ordinal()].record(endTime - startTime);
+    }
+
+    static boolean isEnabled() {
+        return COORDINATOR_ENVIRONMENT.isEnableStatistics();
+    }
+}
@@ -52,9 +52,27 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
  */
 public class TransactionSynchronizationRegistryWrapper implements TransactionSynchronizationRegistry {
 
+    // Must be a power of 2
+    private static final int LOCK_STRIPES = 64;
+
     private final Object key = new Object();
+    // Guards the lazy creation of the per-transaction synchronization list.
+    // Striped by transaction, so that first registrations of unrelated transactions do not contend on a single monitor.
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final TransactionPhaseStatistics phaseStatistics;
 
     public TransactionSynchronizationRegistryWrapper() {
+        this(new TransactionPhaseStatistics());
+    }
+
+    /**
+     * @param phaseStatistics where the latency of the phases of the transactions is recorded when transaction statistics are enabled
+     */
+    public TransactionSynchronizationRegistryWrapper(TransactionPhaseStatistics phaseStatistics) {
+        this.phaseStatistics = phaseStatistics;
+        for (int i = 0; i < LOCK_STRIPES; ++i) {
+            this.locks[i] = new Object();
+        }
     }
 
     @Override
@@ -68,10 +86,10 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
                 final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
+                synchronized (this.lockFor(tx)) {
                     jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
                     if (jcaOrderedLastSynchronization == null) {
-                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
+                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList(this.phaseStatistics);
                         tx.putResource(key, jcaOrderedLastSynchronization);
                         tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
                     }
@@ -83,6 +101,12 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
         }
     }
 
+    private Object lockFor(AbstractTransaction tx) {
+        int hash = tx.hashCode();
+        // Spread the higher bits, as identity hash codes are not necessarily well distributed in their lower bits
+        return this.locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
     @Override
     public Object getTransactionKey() {
         return ContextTransactionSynchronizationRegistry.getInstance().getTransactionKey();
@@ -86,6 +86,11 @@ interface CommonAttributes {
     String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
     String NUMBER_OF_SYSTEM_ROLLBACKS = "number-of-system-rollbacks";
     String AVERAGE_COMMIT_TIME = "average-commit-time";
+    String ACTIVE_LATENCY = "active-latency";
+    String BEFORE_COMPLETION_LATENCY = "before-completion-latency";
+    String JCA_BEFORE_COMPLETION_LATENCY = "jca-before-completion-latency";
+    String COMPLETION_LATENCY = "completion-latency";
+    String AFTER_COMPLETION_LATENCY = "after-completion-latency";
 
 
     String PARTICIPANT = "participant";
@@ -34,6 +34,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
@@ -61,6 +62,10 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
                                 .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY) // TODO WFLY-8852 decide how we want to handle this in a domain
                                 .setRuntimeOnly()
                                 .setReadOnly()
+                                .setParameters(LogStoreConstants.PROBE_TYPE, LogStoreConstants.PROBE_JNDI_NAME, LogStoreConstants.PROBE_MIN_AGE,
+                                        LogStoreConstants.PROBE_OFFSET, LogStoreConstants.PROBE_MAX_RESULTS)
+                                .setReplyType(ModelType.LIST)
+                                .setReplyValueType(ModelType.OBJECT)
                                 .build();
         resourceRegistration.registerOperationHandler(probe, LogStoreProbeHandler.INSTANCE);
     }
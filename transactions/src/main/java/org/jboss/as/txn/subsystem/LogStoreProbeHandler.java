@@ -22,6 +22,8 @@
 
 package org.jboss.as.txn.subsystem;
 
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -39,14 +41,23 @@ import javax.management.MBeanInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
-import javax.management.ObjectInstance;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
 
 /**
  * Handler for exposing transaction logs
@@ -60,6 +71,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
     static final String osMBeanName = "jboss.jta:type=ObjectStore";
     static final String JNDI_PROPNAME =
             LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES.get(LogStoreConstants.JNDI_ATTRIBUTE);
+    private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2000;
 
     private Map<String, String> getMBeanValues(MBeanServerConnection cnx, ObjectName on, String ... attributeNames)
             throws InstanceNotFoundException, IOException, ReflectionException, IntrospectionException {
@@ -95,17 +107,22 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addParticipants(final Resource parent, Set<ObjectInstance> participants, MBeanServer mbs)
+    private boolean addParticipants(final Resource parent, Set<ObjectName> participants, MBeanServer mbs, String jndiName)
             throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
         int i = 1;
+        boolean matched = (jndiName == null);
 
-        for (ObjectInstance participant : participants) {
-            final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participant.getObjectName());
+        for (ObjectName participant : participants) {
+            final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participant);
             final ModelNode model = resource.getModel();
-            Map<String, String> pAttributes = getMBeanValues(mbs,  participant.getObjectName(),
+            Map<String, String> pAttributes = getMBeanValues(mbs,  participant,
                     LogStoreConstants.PARTICIPANT_JMX_NAMES);
             String pAddress = pAttributes.get(JNDI_PROPNAME);
 
+            if (jndiName != null && jndiName.equals(pAddress)) {
+                matched = true;
+            }
+
             if (pAddress == null || pAddress.length() == 0) {
                 pAttributes.put(JNDI_PROPNAME, String.valueOf(i++));
                 pAddress = pAttributes.get(JNDI_PROPNAME);
@@ -117,49 +134,89 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             final PathElement element = PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress);
             parent.registerChild(element, resource);
         }
+        return matched;
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
+    /**
+     * Reads the transactions matching the filter, in the order of their JMX names, and hands each to the consumer with its id.
+     */
+    private void addTransactions(Set<ObjectName> transactions, MBeanServer mbs, ProbeFilter filter, BiConsumer<String, Resource> consumer)
             throws IntrospectionException, InstanceNotFoundException, IOException,
             ReflectionException, MalformedObjectNameException {
 
-        for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
+        int skipped = 0;
+        int added = 0;
+        for (ObjectName on : transactions) {
+            if ((filter.maxResults != null) && (added >= filter.maxResults)) {
+                // The requested page is complete, so there is no need to read the remaining records
+                return;
+            }
+            String transactionId = on.getCanonicalName();
 
             if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
-
+                // Filter by type before reading any attributes
+                final String type = on.getKeyProperty("itype");
+                if (filter.type != null && (type == null || !type.contains(filter.type))) {
+                    continue;
+                }
                 Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
+                        mbs,  on, LogStoreConstants.TXN_JMX_NAMES);
+                if (filter.minAge != null && !isOlderThan(tAttributes.get("AgeInSeconds"), filter.minAge)) {
+                    continue;
+                }
+                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(on);
+                final ModelNode model = transaction.getModel();
                 String txnId = tAttributes.get("Id");
 
                 addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
                 // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
 
                 String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
-
-                addParticipants(transaction, participants, mbs);
-
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
+                Set<ObjectName> participants = mbs.queryNames(new ObjectName(participantQuery), null);
+
+                if (!addParticipants(transaction, participants, mbs, filter.jndiName)) {
+                    continue;
+                }
+                if (skipped < filter.offset) {
+                    skipped += 1;
+                    continue;
+                }
+
+                consumer.accept(txnId, transaction);
+                added += 1;
             }
         }
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
-            throws OperationFailedException {
+    private static boolean isOlderThan(String age, long minAge) {
         try {
-            ObjectName on = new ObjectName(osMBeanName);
+            return (age != null) && !age.isEmpty() && Long.parseLong(age) >= minAge;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 
-            mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
-            mbs.invoke(on, "probe", null, null);
+    private Set<ObjectName> probe(MBeanServer mbs, boolean exposeAllLogs) throws JMException, IOException {
+        ObjectName on = new ObjectName(osMBeanName);
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+        mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
+        mbs.invoke(on, "probe", null, null);
+
+        // Order the records, so that pages are stable across probes
+        return new TreeSet<>(mbs.queryNames(new ObjectName(osMBeanName +  ",*"), null));
+    }
+
+    /**
+     * Probes the object store for all transactions, and returns them as the new log-store model.
+     */
+    Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+            throws OperationFailedException {
+        try {
+            final Set<ObjectName> transactions = probe(mbs, exposeAllLogs);
 
             final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
+            addTransactions(transactions, mbs, ProbeFilter.ALL, (txnId, transaction) ->
+                    resource.registerChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId), transaction));
             return resource;
 
         } catch (JMException e) {
@@ -169,6 +226,76 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
+    /**
+     * Probes the object store for the transactions matching the filter, and returns them as a list, each transaction with its
+     * participants.
+     */
+    ModelNode probeTransactions(MBeanServer mbs, boolean exposeAllLogs, ProbeFilter filter)
+            throws OperationFailedException {
+        try {
+            final Set<ObjectName> transactions = probe(mbs, exposeAllLogs);
+
+            final ModelNode page = new ModelNode().setEmptyList();
+            addTransactions(transactions, mbs, filter, (txnId, transaction) -> page.add(Resource.Tools.readModel(transaction)));
+            return page;
+
+        } catch (JMException e) {
+            throw new OperationFailedException("Transaction discovery error: ", e);
+        } catch (IOException e) {
+            throw new OperationFailedException("Transaction discovery error: ", e);
+        }
+    }
+
+    /**
+     * Returns a stamp of the current state of a file based object store, i.e. the number of files and directories within the store
+     * and their latest modification time; or null, if the object store is not file based, or was modified too recently for its
+     * modification times to be reliable.
+     */
+    private static List<Long> getObjectStoreStamp() {
+        final ObjectStoreEnvironmentBean defaultStore = BeanPopulator.getNamedInstance(ObjectStoreEnvironmentBean.class, null);
+        final String storeType = defaultStore.getObjectStoreType();
+        if (storeType != null && storeType.contains(".jdbc.")) {
+            return null;
+        }
+        // The state store always references the object store directory, even if the action store uses a journal
+        final String storeDir = BeanPopulator.getNamedInstance(ObjectStoreEnvironmentBean.class, "stateStore").getObjectStoreDir();
+        if (storeDir == null) {
+            return null;
+        }
+        final Path root = Paths.get(storeDir);
+        if (!Files.isDirectory(root)) {
+            return null;
+        }
+        final long[] stamp = new long[2];
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    this.visit(attributes);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    this.visit(attributes);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                private void visit(BasicFileAttributes attributes) {
+                    stamp[0] += 1;
+                    stamp[1] = Math.max(stamp[1], attributes.lastModifiedTime().toMillis());
+                }
+            });
+        } catch (IOException e) {
+            return null;
+        }
+        // Modification times may have a granularity as coarse as a couple of seconds
+        if (stamp[1] > System.currentTimeMillis() - MODIFICATION_TIME_GRANULARITY_MILLIS) {
+            return null;
+        }
+        return Arrays.asList(stamp[0], stamp[1]);
+    }
+
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
         if(! context.isNormalServer()) {
             context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
@@ -183,14 +310,62 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
-            // Replace the current model with an updated one
-            context.acquireControllerLock();
-            // WFLY-3020 -- don't drop the root model
-            storeModel.writeModel(logStore.getModel());
-            logStore.update(storeModel);
+            final ProbeFilter filter = ProbeFilter.of(context, operation);
+            if (filter != ProbeFilter.ALL) {
+                // A filtered or paged probe only reports the matching transactions, the model keeps holding all of them
+                context.getResult().set(probeTransactions(mbs, exposeAllLogs, filter));
+            } else {
+                // Skip the probe if neither the object store, nor expose-all-logs, changed since the last probe
+                final List<Long> stamp = getObjectStoreStamp();
+                final List<Object> probeKey = (stamp != null) ? Arrays.asList(stamp, exposeAllLogs) : null;
+                if (probeKey == null || !probeKey.equals(logStore.getProbeKey())) {
+                    final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
+                    // Replace the current model with an updated one
+                    context.acquireControllerLock();
+                    // WFLY-3020 -- don't drop the root model
+                    storeModel.writeModel(logStore.getModel());
+                    logStore.update(storeModel, probeKey);
+                }
+            }
         }
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    /**
+     * The optional filtering and pagination parameters of the probe operation.
+     */
+    static final class ProbeFilter {
+        // The filter of a probe without any of the parameters
+        static final ProbeFilter ALL = new ProbeFilter(null, null, null, 0, null);
+
+        final String type;
+        final String jndiName;
+        final Long minAge;
+        final int offset;
+        final Integer maxResults;
+
+        ProbeFilter(String type, String jndiName, Long minAge, int offset, Integer maxResults) {
+            this.type = type;
+            this.jndiName = jndiName;
+            this.minAge = minAge;
+            this.offset = offset;
+            this.maxResults = maxResults;
+        }
+
+        static ProbeFilter of(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ModelNode type = LogStoreConstants.PROBE_TYPE.resolveModelAttribute(context, operation);
+            ModelNode jndiName = LogStoreConstants.PROBE_JNDI_NAME.resolveModelAttribute(context, operation);
+            ModelNode minAge = LogStoreConstants.PROBE_MIN_AGE.resolveModelAttribute(context, operation);
+            int offset = LogStoreConstants.PROBE_OFFSET.resolveModelAttribute(context, operation).asInt();
+            ModelNode maxResults = LogStoreConstants.PROBE_MAX_RESULTS.resolveModelAttribute(context, operation);
+            if (!type.isDefined() && !jndiName.isDefined() && !minAge.isDefined() && offset == 0 && !maxResults.isDefined()) {
+                return ALL;
+            }
+            return new ProbeFilter(type.isDefined() ? type.asString() : null,
+                    jndiName.isDefined() ? jndiName.asString() : null,
+                    minAge.isDefined() ? minAge.asLong() : null,
+                    offset,
+                    maxResults.isDefined() ? maxResults.asInt() : null);
+        }
+    }
 }
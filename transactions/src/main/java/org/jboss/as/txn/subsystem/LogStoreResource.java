@@ -42,9 +42,20 @@ import org.jboss.dmr.ModelNode;
 class LogStoreResource implements Resource {
 
     private volatile Resource delegate = Resource.Factory.create();
+    // Identifies the probe that produced the current delegate, if it can be reused
+    private volatile Object probeKey;
 
     protected void update(final Resource updated) {
+        update(updated, null);
+    }
+
+    void update(final Resource updated, final Object probeKey) {
         delegate = updated;
+        this.probeKey = probeKey;
+    }
+
+    Object getProbeKey() {
+        return probeKey;
     }
 
     @Override
@@ -105,11 +116,13 @@ class LogStoreResource implements Resource {
     @Override
     public void registerChild(PathElement address, Resource resource) {
         assert resource instanceof LogStoreRuntimeResource;
+        probeKey = null;
         delegate.registerChild(address, resource);
     }
 
     @Override
     public Resource removeChild(PathElement address) {
+        probeKey = null;
         return delegate.removeChild(address);
     }
 
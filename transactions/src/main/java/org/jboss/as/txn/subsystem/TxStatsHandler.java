@@ -38,9 +38,14 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.utils.LatencyHistogramAttributes;
 import org.jboss.as.txn.logging.TransactionLogger;
+import org.jboss.as.txn.service.ArjunaTransactionManagerService;
+import org.jboss.as.txn.service.internal.tsr.TransactionPhase;
+import org.jboss.as.txn.service.internal.tsr.TransactionPhaseStatistics;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * Handler for transaction manager metrics
@@ -63,7 +68,12 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         NUMBER_OF_SYSTEM_ROLLBACKS(SimpleAttributeDefinitionBuilder.create(CommonAttributes.NUMBER_OF_SYSTEM_ROLLBACKS, ModelType.LONG, true).setFlags(COUNTER_METRIC).build()),
         AVERAGE_COMMIT_TIME(SimpleAttributeDefinitionBuilder.create(CommonAttributes.AVERAGE_COMMIT_TIME, ModelType.LONG, true)
                 .setMeasurementUnit(NANOSECONDS)
-                .build());
+                .build()),
+        ACTIVE_LATENCY(LatencyHistogramAttributes.createDefinition(CommonAttributes.ACTIVE_LATENCY)),
+        BEFORE_COMPLETION_LATENCY(LatencyHistogramAttributes.createDefinition(CommonAttributes.BEFORE_COMPLETION_LATENCY)),
+        JCA_BEFORE_COMPLETION_LATENCY(LatencyHistogramAttributes.createDefinition(CommonAttributes.JCA_BEFORE_COMPLETION_LATENCY)),
+        COMPLETION_LATENCY(LatencyHistogramAttributes.createDefinition(CommonAttributes.COMPLETION_LATENCY)),
+        AFTER_COMPLETION_LATENCY(LatencyHistogramAttributes.createDefinition(CommonAttributes.AFTER_COMPLETION_LATENCY));
 
         private static final Map<String, TxStat> MAP = new HashMap<String, TxStat>();
         static {
@@ -136,6 +146,21 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
                 case AVERAGE_COMMIT_TIME:
                     result.set(txStats.getAverageCommitTime());
                     break;
+                case ACTIVE_LATENCY:
+                    setLatency(context, result, TransactionPhase.ACTIVE);
+                    break;
+                case BEFORE_COMPLETION_LATENCY:
+                    setLatency(context, result, TransactionPhase.BEFORE_COMPLETION);
+                    break;
+                case JCA_BEFORE_COMPLETION_LATENCY:
+                    setLatency(context, result, TransactionPhase.JCA_BEFORE_COMPLETION);
+                    break;
+                case COMPLETION_LATENCY:
+                    setLatency(context, result, TransactionPhase.COMPLETION);
+                    break;
+                case AFTER_COMPLETION_LATENCY:
+                    setLatency(context, result, TransactionPhase.AFTER_COMPLETION);
+                    break;
                 default:
                     throw new IllegalStateException(TransactionLogger.ROOT_LOGGER.unknownMetric(stat));
             }
@@ -143,6 +168,17 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         }
    }
 
+    private static void setLatency(OperationContext context, ModelNode result, TransactionPhase phase) {
+        // The latencies are recorded by the running transaction manager, they are undefined while it is not started
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(ArjunaTransactionManagerService.SERVICE_NAME);
+        if (controller != null) {
+            final TransactionPhaseStatistics phaseStatistics = ((ArjunaTransactionManagerService) controller.getService()).getPhaseStatistics();
+            if (phaseStatistics != null) {
+                LatencyHistogramAttributes.setValue(result, phaseStatistics.getHistogram(phase));
+            }
+        }
+    }
+
     void registerMetrics(final ManagementResourceRegistration resourceRegistration) {
         for (TxStat stat : TxStat.values()) {
             resourceRegistration.registerMetric(stat.definition, this);
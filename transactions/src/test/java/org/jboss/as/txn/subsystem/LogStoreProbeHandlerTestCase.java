@@ -0,0 +1,281 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2019, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link LogStoreProbeHandler}.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE_ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction/SubordinateAtomicAction/JCA";
+
+    private MBeanServer mbs;
+    private ObjectStore objectStore;
+
+    @Before
+    public void setUp() throws Exception {
+        mbs = MBeanServerFactory.newMBeanServer();
+        objectStore = new ObjectStore();
+        mbs.registerMBean(new StandardMBean(objectStore, ObjectStoreMBean.class), new ObjectName(LogStoreProbeHandler.osMBeanName));
+        // Registered out of order, the probe orders them by JMX name
+        registerTransaction(ATOMIC_ACTION, "0_2", 20, "java:/ds2");
+        registerTransaction(SUBORDINATE_ATOMIC_ACTION, "0_3", 30, "java:/ds1");
+        registerTransaction(ATOMIC_ACTION, "0_1", 10, "java:/ds1");
+    }
+
+    @Test
+    public void testProbeAll() throws Exception {
+        Resource model = LogStoreProbeHandler.INSTANCE.probeTransactions(mbs, true);
+        Assert.assertTrue(objectStore.exposeAllRecordsAsMBeans);
+        Assert.assertEquals(1, objectStore.probes);
+        Assert.assertEquals(3, model.getChildrenNames(LogStoreConstants.TRANSACTIONS).size());
+        Resource transaction = model.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0_3"));
+        Assert.assertEquals("30", transaction.getModel().get("age-in-seconds").asString());
+        Resource participant = transaction.getChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, "java:/ds1"));
+        Assert.assertEquals("PREPARED", participant.getModel().get("status").asString());
+    }
+
+    @Test
+    public void testPage() throws Exception {
+        List<ModelNode> page = probe(new LogStoreProbeHandler.ProbeFilter(null, null, null, 1, 1));
+        Assert.assertEquals(1, page.size());
+        Assert.assertEquals("0_2", page.get(0).get("id").asString());
+        Assert.assertEquals("java:/ds2", page.get(0).get(LogStoreConstants.PARTICIPANTS, "java:/ds2", LogStoreConstants.JNDI_ATTRIBUTE).asString());
+
+        Assert.assertEquals(ids("0_3"), ids(probe(new LogStoreProbeHandler.ProbeFilter(null, null, null, 2, 10))));
+        Assert.assertTrue(probe(new LogStoreProbeHandler.ProbeFilter(null, null, null, 3, null)).isEmpty());
+    }
+
+    @Test
+    public void testFilters() throws Exception {
+        Assert.assertEquals(ids("0_3"), ids(probe(new LogStoreProbeHandler.ProbeFilter("JCA", null, null, 0, null))));
+        Assert.assertEquals(ids("0_1", "0_3"), ids(probe(new LogStoreProbeHandler.ProbeFilter(null, "java:/ds1", null, 0, null))));
+        Assert.assertEquals(ids("0_2", "0_3"), ids(probe(new LogStoreProbeHandler.ProbeFilter(null, null, 20L, 0, null))));
+        // The offset applies to the matching transactions
+        Assert.assertEquals(ids("0_3"), ids(probe(new LogStoreProbeHandler.ProbeFilter(null, "java:/ds1", null, 1, null))));
+    }
+
+    @Test
+    public void testPagedProbeLeavesModel() throws Exception {
+        LogStoreResource logStore = new LogStoreResource();
+        ModelNode operation = new ModelNode();
+        operation.get(LogStoreConstants.PROBE_MAX_RESULTS.getName()).set(2);
+        ModelNode result = execute(logStore, operation);
+        Assert.assertEquals(ids("0_1", "0_2"), ids(result.asList()));
+        Assert.assertFalse(logStore.hasChildren(LogStoreConstants.TRANSACTIONS));
+
+        result = execute(logStore, new ModelNode());
+        Assert.assertFalse(result.isDefined());
+        Assert.assertEquals(3, logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS).size());
+
+        // Nor does a paged probe replace the model of a previous probe
+        operation.get(LogStoreConstants.PROBE_JNDI_NAME.getName()).set("java:/ds2");
+        result = execute(logStore, operation);
+        Assert.assertEquals(ids("0_2"), ids(result.asList()));
+        Assert.assertEquals(3, logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS).size());
+    }
+
+    private List<ModelNode> probe(LogStoreProbeHandler.ProbeFilter filter) throws Exception {
+        return LogStoreProbeHandler.INSTANCE.probeTransactions(mbs, false, filter).asList();
+    }
+
+    private ModelNode execute(LogStoreResource logStore, ModelNode operation) throws Exception {
+        ModelNode result = new ModelNode();
+        ServiceController<?> mbeanServerService = proxy(ServiceController.class, (proxy, method, args) -> "getValue".equals(method.getName()) ? mbs : null);
+        ServiceRegistry serviceRegistry = proxy(ServiceRegistry.class, (proxy, method, args) -> "getService".equals(method.getName()) ? mbeanServerService : null);
+        OperationContext context = proxy(OperationContext.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isNormalServer":
+                    return true;
+                case "getServiceRegistry":
+                    return serviceRegistry;
+                case "readResource":
+                    return logStore;
+                case "resolveExpressions":
+                    return args[0];
+                case "getResult":
+                    return result;
+                default:
+                    return null;
+            }
+        });
+        LogStoreProbeHandler.INSTANCE.execute(context, operation);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, java.lang.reflect.InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(LogStoreProbeHandlerTestCase.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static List<String> ids(String... ids) {
+        List<String> result = new ArrayList<>();
+        for (String id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static List<String> ids(List<ModelNode> transactions) {
+        List<String> result = new ArrayList<>();
+        for (ModelNode transaction : transactions) {
+            result.add(transaction.get("id").asString());
+        }
+        return result;
+    }
+
+    private void registerTransaction(String type, String id, long age, String jndiName) throws Exception {
+        ObjectName transaction = new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + type + ",uid=" + id);
+        mbs.registerMBean(new StandardMBean(new Transaction(id, age, type), TransactionMBean.class), transaction);
+        ObjectName participant = new ObjectName(transaction.getCanonicalName() + ",puid=" + id + "_p");
+        mbs.registerMBean(new StandardMBean(new Participant(jndiName), ParticipantMBean.class), participant);
+    }
+
+    public interface ObjectStoreMBean {
+        boolean isExposeAllRecordsAsMBeans();
+
+        void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans);
+
+        void probe();
+    }
+
+    public interface TransactionMBean {
+        String getId();
+
+        long getAgeInSeconds();
+
+        String getType();
+    }
+
+    public interface ParticipantMBean {
+        String getType();
+
+        String getStatus();
+
+        String getJndiName();
+
+        String getEisProductName();
+
+        String getEisProductVersion();
+    }
+
+    private static class ObjectStore implements ObjectStoreMBean {
+        volatile boolean exposeAllRecordsAsMBeans;
+        volatile int probes;
+
+        @Override
+        public boolean isExposeAllRecordsAsMBeans() {
+            return exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans) {
+            this.exposeAllRecordsAsMBeans = exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void probe() {
+            probes += 1;
+        }
+    }
+
+    private static class Transaction implements TransactionMBean {
+        private final String id;
+        private final long age;
+        private final String type;
+
+        Transaction(String id, long age, String type) {
+            this.id = id;
+            this.age = age;
+            this.type = type;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            return age;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
+    private static class Participant implements ParticipantMBean {
+        private final String jndiName;
+
+        Participant(String jndiName) {
+            this.jndiName = jndiName;
+        }
+
+        @Override
+        public String getType() {
+            return "XAResourceRecord";
+        }
+
+        @Override
+        public String getStatus() {
+            return "PREPARED";
+        }
+
+        @Override
+        public String getJndiName() {
+            return jndiName;
+        }
+
+        @Override
+        public String getEisProductName() {
+            return "";
+        }
+
+        @Override
+        public String getEisProductVersion() {
+            return "";
+        }
+    }
+}